@@ -11,27 +11,97 @@ repositories {
     mavenCentral()
 }
 
+val jmh by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
 dependencies {
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.23")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.23")
+}
+
+// Compiled by a JDK 17 toolchain: the main classes still target Java 8, while the classes of the java17
+// source set override some of them in META-INF/versions/17 of the multi-release JAR.
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(17))
+    }
+}
+
+// The annotation processor is kept out of the main JAR, so that it only runs for the projects adding the
+// processor JAR to their annotation processor path. This JAR also bundles the main classes the processor uses.
+val processor by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+}
+
+val processorJar by tasks.registering(Jar::class) {
+    archiveClassifier.set("processor")
+    from(processor.output)
+    from(sourceSets.main.get().output)
+}
+
+val java17 by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+}
 
+tasks.compileJava {
+    options.release.set(8)
 }
 
-configure<JavaPluginConvention> {
-    sourceCompatibility = JavaVersion.VERSION_1_8
+tasks.named<JavaCompile>(processor.compileJavaTaskName) {
+    options.release.set(8)
+}
+
+tasks.named<JavaCompile>(java17.compileJavaTaskName) {
+    options.release.set(17)
+    options.compilerArgs.addAll(listOf("--add-modules", "jdk.incubator.vector"))
+}
+
+tasks.jar {
+    manifest {
+        attributes("Multi-Release" to "true")
+    }
+    into("META-INF/versions/17") {
+        from(java17.output)
+    }
+}
+
+// Runs the benchmarks with allocation profiling, results are written as JSON so they can be compared
+// between releases. Benchmarks can be filtered using -Pjmh.include=<regex>.
+tasks.register("jmh", JavaExec::class) {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks."
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+
+    val results = layout.buildDirectory.file("reports/jmh/results.json").get().asFile
+    args("-prof", "gc", "-rf", "json", "-rff", results.absolutePath)
+    project.findProperty("jmh.include")?.let { args(it) }
+    doFirst {
+        results.parentFile.mkdirs()
+    }
 }
 
 val sourcesJar by tasks.registering(Jar::class) {
     archiveClassifier.set("sources")
     from(sourceSets.main.get().allSource)
+    from(processor.java)
+    into("META-INF/versions/17") {
+        from(java17.allSource)
+    }
 }
 
 artifacts {
     archives(sourcesJar)
+    archives(processorJar)
 }
 
 publishing {
     publications {
         register("mavenJava", MavenPublication::class) {
             from(components["java"])
+            artifact(processorJar)
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+package com.leafclient.struct.maths;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link VectorKernels} implemented with the Vector API, using the preferred vector length of the platform
+ * and finishing each loop with the scalar implementation.
+ * This class must only be loaded when the {@code jdk.incubator.vector} module is resolved.
+ */
+final class SimdKernels {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private SimdKernels() {
+    }
+
+    static void distanceSquared(double pX, double pY, double pZ,
+                                double[] x, double[] y, double[] z, int offset, int length,
+                                double[] out) {
+        final int bound = offset + SPECIES.loopBound(length);
+        int i = offset;
+        for(; i < bound; i += SPECIES.length()) {
+            final DoubleVector dX = DoubleVector.broadcast(SPECIES, pX).sub(DoubleVector.fromArray(SPECIES, x, i));
+            final DoubleVector dY = DoubleVector.broadcast(SPECIES, pY).sub(DoubleVector.fromArray(SPECIES, y, i));
+            final DoubleVector dZ = DoubleVector.broadcast(SPECIES, pZ).sub(DoubleVector.fromArray(SPECIES, z, i));
+            dX.mul(dX).add(dY.mul(dY)).add(dZ.mul(dZ)).intoArray(out, i);
+        }
+        ScalarKernels.distanceSquared(pX, pY, pZ, x, y, z, i, offset + length - i, out);
+    }
+
+    static void distance(double pX, double pY, double pZ,
+                         double[] x, double[] y, double[] z, int offset, int length,
+                         double[] out) {
+        final int bound = offset + SPECIES.loopBound(length);
+        int i = offset;
+        for(; i < bound; i += SPECIES.length()) {
+            final DoubleVector dX = DoubleVector.broadcast(SPECIES, pX).sub(DoubleVector.fromArray(SPECIES, x, i));
+            final DoubleVector dY = DoubleVector.broadcast(SPECIES, pY).sub(DoubleVector.fromArray(SPECIES, y, i));
+            final DoubleVector dZ = DoubleVector.broadcast(SPECIES, pZ).sub(DoubleVector.fromArray(SPECIES, z, i));
+            dX.mul(dX).add(dY.mul(dY)).add(dZ.mul(dZ)).sqrt().intoArray(out, i);
+        }
+        ScalarKernels.distance(pX, pY, pZ, x, y, z, i, offset + length - i, out);
+    }
+
+    static double dot(double[] a, double[] b, int offset, int length) {
+        final int bound = offset + SPECIES.loopBound(length);
+        DoubleVector sums = DoubleVector.zero(SPECIES);
+        int i = offset;
+        for(; i < bound; i += SPECIES.length()) {
+            sums = DoubleVector.fromArray(SPECIES, a, i).fma(DoubleVector.fromArray(SPECIES, b, i), sums);
+        }
+        return sums.reduceLanes(VectorOperators.ADD) + ScalarKernels.dot(a, b, i, offset + length - i);
+    }
+
+    static void dot(double dX, double dY, double dZ,
+                    double[] x, double[] y, double[] z, int offset, int length,
+                    double[] out) {
+        final int bound = offset + SPECIES.loopBound(length);
+        int i = offset;
+        for(; i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, x, i).mul(dX)
+                    .add(DoubleVector.fromArray(SPECIES, y, i).mul(dY))
+                    .add(DoubleVector.fromArray(SPECIES, z, i).mul(dZ))
+                    .intoArray(out, i);
+        }
+        ScalarKernels.dot(dX, dY, dZ, x, y, z, i, offset + length - i, out);
+    }
+
+    static void add(double[] values, double addend, int offset, int length) {
+        final int bound = offset + SPECIES.loopBound(length);
+        int i = offset;
+        for(; i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, values, i).add(addend).intoArray(values, i);
+        }
+        ScalarKernels.add(values, addend, i, offset + length - i);
+    }
+
+    static void add(double[] values, double[] addends, double factor, int offset, int length) {
+        final int bound = offset + SPECIES.loopBound(length);
+        int i = offset;
+        for(; i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, values, i)
+                    .add(DoubleVector.fromArray(SPECIES, addends, i).mul(factor))
+                    .intoArray(values, i);
+        }
+        ScalarKernels.add(values, addends, factor, i, offset + length - i);
+    }
+
+    static void scale(double[] values, double factor, int offset, int length) {
+        final int bound = offset + SPECIES.loopBound(length);
+        int i = offset;
+        for(; i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, values, i).mul(factor).intoArray(values, i);
+        }
+        ScalarKernels.scale(values, factor, i, offset + length - i);
+    }
+
+    static void coerce(double[] source, int sourceOffset, double[] dest, int destOffset, int length,
+                       double minimum, double maximum) {
+        final int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for(; i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, source, sourceOffset + i)
+                    .max(minimum)
+                    .min(maximum)
+                    .intoArray(dest, destOffset + i);
+        }
+        ScalarKernels.coerce(source, sourceOffset + i, dest, destOffset + i, length - i, minimum, maximum);
+    }
+
+}
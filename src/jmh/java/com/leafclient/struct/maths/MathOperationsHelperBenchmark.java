@@ -0,0 +1,74 @@
+package com.leafclient.struct.maths;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures every {@link MathOperationsHelper} operation for each supported number type.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MathOperationsHelperBenchmark {
+
+    @Param({"Byte", "Short", "Integer", "Long", "Float", "Double"})
+    public String type;
+
+    private Class<? extends Number> numberType;
+    private Number n1;
+    private Number n2;
+    private Number source;
+
+    @Setup
+    public void setup() throws ClassNotFoundException {
+        numberType = Class.forName("java.lang." + type).asSubclass(Number.class);
+        n1 = MathOperationsHelper.cast(42, numberType);
+        n2 = MathOperationsHelper.cast(5, numberType);
+        source = 17.25D;
+    }
+
+    @Benchmark
+    public Number add() {
+        return MathOperationsHelper.add(n1, n2);
+    }
+
+    @Benchmark
+    public Number subtract() {
+        return MathOperationsHelper.subtract(n1, n2);
+    }
+
+    @Benchmark
+    public Number multiplication() {
+        return MathOperationsHelper.multiplication(n1, n2);
+    }
+
+    @Benchmark
+    public Number division() {
+        return MathOperationsHelper.division(n1, n2);
+    }
+
+    @Benchmark
+    public Number round() {
+        return MathOperationsHelper.round(n1, n2);
+    }
+
+    @Benchmark
+    public Number cast() {
+        return MathOperationsHelper.cast(source, numberType);
+    }
+
+}
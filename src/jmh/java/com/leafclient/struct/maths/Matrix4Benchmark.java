@@ -0,0 +1,84 @@
+package com.leafclient.struct.maths;
+
+import com.leafclient.struct.maths.vector.Vector3;
+import com.leafclient.struct.maths.vector.Vector3Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares projecting positions to the screen through generic {@link Vector3} operations with the batch
+ * projection of {@link Matrix4}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Matrix4Benchmark {
+
+    @Param({"1024"})
+    public int size;
+
+    private final Matrix4 projection = new Matrix4();
+    private List<Vector3<Double>> list;
+    private Vector3Buffer buffer;
+    private double[] screenX;
+    private double[] screenY;
+    private int[] indices;
+
+    @Setup
+    public void setup() {
+        projection.setPerspective(70.0, 16.0 / 9.0, 0.05, 1000.0)
+                .multiply(new Matrix4().setView(0.0, 64.0, 0.0, 30.0F, 10.0F));
+        final Random random = new Random(42);
+        list = new ArrayList<>(size);
+        buffer = Vector3Buffer.allocate(size);
+        for(int i = 0; i < size; i++) {
+            final Vector3<Double> vector = new Vector3<>(
+                    random.nextDouble() * 128.0 - 64.0, 64.0 + random.nextDouble() * 16.0, random.nextDouble() * 128.0 - 64.0
+            );
+            list.add(vector);
+            buffer.append(vector);
+        }
+        screenX = new double[size];
+        screenY = new double[size];
+        indices = new int[size];
+    }
+
+    @Benchmark
+    public void generic(Blackhole blackhole) {
+        final double[] m = projection.get(new double[16], 0);
+        for(Vector3<Double> vector: list) {
+            final Vector3<Double> clipX = new Vector3<>(m[0], m[4], m[8]).multiply(vector);
+            final Vector3<Double> clipY = new Vector3<>(m[1], m[5], m[9]).multiply(vector);
+            final Vector3<Double> clipW = new Vector3<>(m[3], m[7], m[11]).multiply(vector);
+            final double w = clipW.getX() + clipW.getY() + clipW.getZ() + m[15];
+            if(w > 0.0) {
+                blackhole.consume((clipX.getX() + clipX.getY() + clipX.getZ() + m[12]) / w);
+                blackhole.consume((clipY.getX() + clipY.getY() + clipY.getZ() + m[13]) / w);
+            }
+        }
+    }
+
+    @Benchmark
+    public int batch() {
+        return projection.project(buffer, 1920.0, 1080.0, screenX, screenY, indices);
+    }
+
+}
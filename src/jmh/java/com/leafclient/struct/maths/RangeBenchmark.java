@@ -0,0 +1,57 @@
+package com.leafclient.struct.maths;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the creation of a {@link Range} and the {@link Range#coerce(Number)} operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RangeBenchmark {
+
+    private Double minimum;
+    private Double maximum;
+    private Range<Double> range;
+    private Double inside;
+    private Double outside;
+
+    @Setup
+    public void setup() {
+        minimum = 0.5D;
+        maximum = 6.0D;
+        range = Range.of(minimum, maximum);
+        inside = 3.25D;
+        outside = 12.0D;
+    }
+
+    @Benchmark
+    public Range<Double> of() {
+        return Range.of(maximum, minimum);
+    }
+
+    @Benchmark
+    public Double coerceInside() {
+        return range.coerce(inside);
+    }
+
+    @Benchmark
+    public Double coerceOutside() {
+        return range.coerce(outside);
+    }
+
+}
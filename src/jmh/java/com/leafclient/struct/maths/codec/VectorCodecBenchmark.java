@@ -0,0 +1,98 @@
+package com.leafclient.struct.maths.codec;
+
+import com.leafclient.struct.maths.vector.Vector3Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares writing a trajectory through a {@link DataOutputStream} with the fixed-width and delta encodings
+ * of the {@link VectorCodec}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VectorCodecBenchmark {
+
+    private static final double PRECISION = 1.0 / 4096;
+
+    @Param({"4096"})
+    public int size;
+
+    private Vector3Buffer positions;
+    private Vector3Buffer decoded;
+    private ByteBuffer buffer;
+    private ByteBuffer encodedDeltas;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        positions = Vector3Buffer.allocate(size);
+        decoded = Vector3Buffer.allocate(size);
+        double x = 0, y = 64, z = 0;
+        for(int i = 0; i < size; i++) {
+            x += random.nextDouble() - 0.5;
+            y += (random.nextDouble() - 0.5) * 0.1;
+            z += random.nextDouble() - 0.5;
+            positions.append(x, y, z);
+        }
+        buffer = ByteBuffer.allocateDirect(size * 3 * Long.BYTES + 16);
+        encodedDeltas = ByteBuffer.allocateDirect(size * 3 * 10 + 16);
+        VectorCodec.putDeltas(encodedDeltas, positions, PRECISION);
+        encodedDeltas.flip();
+    }
+
+    @Benchmark
+    public int dataOutputStream() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(size * 3 * Double.BYTES);
+        final DataOutputStream stream = new DataOutputStream(bytes);
+        for(int i = 0; i < size; i++) {
+            stream.writeDouble(positions.getX(i));
+            stream.writeDouble(positions.getY(i));
+            stream.writeDouble(positions.getZ(i));
+        }
+        buffer.clear();
+        buffer.put(bytes.toByteArray());
+        return buffer.position();
+    }
+
+    @Benchmark
+    public int fixedWidth() {
+        buffer.clear();
+        VectorCodec.putVector3Buffer(buffer, positions);
+        return buffer.position();
+    }
+
+    @Benchmark
+    public int deltas() {
+        buffer.clear();
+        VectorCodec.putDeltas(buffer, positions, PRECISION);
+        return buffer.position();
+    }
+
+    @Benchmark
+    public int decodeDeltas() {
+        decoded.clear();
+        encodedDeltas.rewind();
+        return VectorCodec.getDeltas(encodedDeltas, decoded, PRECISION);
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.leafclient.struct.maths.collision;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares testing every pair of {@link AABB}s with the {@link SweepAndPrune} broad phase while the boxes move,
+ * and measures the nearest hit of a {@link Ray}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SweepAndPruneBenchmark {
+
+    @Param({"1024"})
+    public int size;
+
+    private final Random random = new Random(42);
+    private final SweepAndPrune sweepAndPrune = new SweepAndPrune();
+    private final RayHit hit = new RayHit();
+    private final Ray ray = Ray.of(0.0, 8.0, 0.0, 1.0, 0.1, 1.0, 256.0);
+    private List<AABB> boxes;
+    private int pairs;
+
+    @Setup
+    public void setup() {
+        boxes = new ArrayList<>(size);
+        for(int i = 0; i < size; i++) {
+            final double x = random.nextDouble() * 256.0, y = random.nextDouble() * 16.0, z = random.nextDouble() * 256.0;
+            final AABB box = AABB.of(x, y, z, x + 0.6, y + 1.8, z + 0.6);
+            boxes.add(box);
+            sweepAndPrune.add(box);
+        }
+    }
+
+    @Benchmark
+    public int bruteForce() {
+        int count = 0;
+        for(int i = 0; i < size; i++) {
+            final AABB box = boxes.get(i);
+            for(int j = i + 1; j < size; j++) {
+                if(box.intersects(boxes.get(j))) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int sweepAndPrune() {
+        // Boxes move a little between two ticks
+        final int id = random.nextInt(size);
+        final AABB moved = boxes.get(id).offset(random.nextDouble() - 0.5, 0.0, random.nextDouble() - 0.5);
+        boxes.set(id, moved);
+        sweepAndPrune.update(id, moved);
+        pairs = 0;
+        return sweepAndPrune.findPairs((first, second) -> pairs++);
+    }
+
+    @Benchmark
+    public boolean rayNearest() {
+        return ray.nearest(sweepAndPrune, hit);
+    }
+
+}
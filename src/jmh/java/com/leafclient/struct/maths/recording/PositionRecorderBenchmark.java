@@ -0,0 +1,82 @@
+package com.leafclient.struct.maths.recording;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares appending positions to a {@link PositionRecorder} with serializing them through
+ * an {@link ObjectOutputStream}, and measures seeking a record.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PositionRecorderBenchmark {
+
+    private static final int ENTITIES = 64;
+
+    private Path directory;
+    private PositionRecorder recorder;
+    private PositionCursor cursor;
+    private ObjectOutputStream stream;
+    private long record;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("positions");
+        recorder = PositionRecorder.open(directory.resolve("recorder"));
+        for(int i = 0; i < 100_000; i++) {
+            recorder.append(i / ENTITIES, i % ENTITIES, i, 64.0, -i);
+        }
+        record = recorder.size();
+        cursor = recorder.cursor();
+        final OutputStream output = Files.newOutputStream(directory.resolve("stream"));
+        stream = new ObjectOutputStream(new BufferedOutputStream(output));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        recorder.close();
+        stream.close();
+    }
+
+    @Benchmark
+    public void recorderAppend() throws IOException {
+        final long index = record++;
+        recorder.append(index / ENTITIES, (int) (index % ENTITIES), index, 64.0, -index);
+    }
+
+    @Benchmark
+    public void objectStreamAppend() throws IOException {
+        final long index = record++;
+        stream.writeLong(index / ENTITIES);
+        stream.writeInt((int) (index % ENTITIES));
+        stream.writeObject(new double[] {index, 64.0, -index});
+        stream.reset();
+    }
+
+    @Benchmark
+    public boolean seek() {
+        return cursor.seek(777, 42);
+    }
+
+}
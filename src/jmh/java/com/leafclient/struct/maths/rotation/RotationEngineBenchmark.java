@@ -0,0 +1,61 @@
+package com.leafclient.struct.maths.rotation;
+
+import com.leafclient.struct.maths.vector.Vector3;
+import com.leafclient.struct.maths.vector.Vector3Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link RotationMode#EXACT} and {@link RotationMode#FAST} modes of the {@link RotationEngine}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RotationEngineBenchmark {
+
+    @Param({"1024"})
+    public int size;
+
+    @Param({"EXACT", "FAST"})
+    public RotationMode mode;
+
+    private final Vector3<Double> origin = new Vector3<>(12.5D, 64.0D, -3.25D);
+    private RotationEngine engine;
+    private Vector3Buffer targets;
+    private float[] yaws;
+    private float[] pitches;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        engine = RotationEngine.of(mode);
+        targets = Vector3Buffer.allocate(size);
+        for(int i = 0; i < size; i++) {
+            targets.append(random.nextDouble() * 256.0, random.nextDouble() * 256.0, random.nextDouble() * 256.0);
+        }
+        yaws = new float[size];
+        pitches = new float[size];
+    }
+
+    @Benchmark
+    public float[] compute() {
+        engine.compute(origin, targets, yaws, pitches);
+        return yaws;
+    }
+
+}
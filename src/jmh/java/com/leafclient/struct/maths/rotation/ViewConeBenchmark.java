@@ -0,0 +1,81 @@
+package com.leafclient.struct.maths.rotation;
+
+import com.leafclient.struct.maths.vector.Vector2;
+import com.leafclient.struct.maths.vector.Vector3;
+import com.leafclient.struct.maths.vector.Vector3Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares filtering targets by comparing their {@link Vector3#getRotation(Vector3)} with the view rotation
+ * and filtering them using a {@link ViewCone}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ViewConeBenchmark {
+
+    private static final float YAW = 45.0F;
+    private static final float PITCH = 10.0F;
+    private static final double MAX_ANGLE = 30.0;
+
+    @Param({"1024"})
+    public int size;
+
+    private final Vector3<Double> origin = new Vector3<>(12.5D, 64.0D, -3.25D);
+    private final ViewCone cone = ViewCone.of(12.5D, 64.0D, -3.25D, YAW, PITCH, MAX_ANGLE, Double.POSITIVE_INFINITY);
+    private List<Vector3<Double>> list;
+    private Vector3Buffer targets;
+    private int[] indices;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        list = new ArrayList<>(size);
+        targets = Vector3Buffer.allocate(size);
+        for(int i = 0; i < size; i++) {
+            final Vector3<Double> target = new Vector3<>(
+                    random.nextDouble() * 256.0 - 128.0, random.nextDouble() * 128.0, random.nextDouble() * 256.0 - 128.0
+            );
+            list.add(target);
+            targets.append(target);
+        }
+        indices = new int[size];
+    }
+
+    @Benchmark
+    public int rotations() {
+        int count = 0;
+        for(int i = 0; i < size; i++) {
+            final Vector2<Float> rotation = origin.getRotation(list.get(i));
+            final double yaw = Math.abs(((rotation.getX() - YAW) % 360.0 + 540.0) % 360.0 - 180.0);
+            if(yaw <= MAX_ANGLE && Math.abs(rotation.getY() - PITCH) <= MAX_ANGLE) {
+                indices[count++] = i;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int cone() {
+        return cone.filter(targets, indices);
+    }
+
+}
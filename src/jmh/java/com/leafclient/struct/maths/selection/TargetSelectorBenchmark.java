@@ -0,0 +1,89 @@
+package com.leafclient.struct.maths.selection;
+
+import com.leafclient.struct.maths.vector.Vector3;
+import com.leafclient.struct.maths.vector.Vector3Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares sorting every candidate by distance with the selection of the {@link TargetSelector},
+ * sequential and parallel.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TargetSelectorBenchmark {
+
+    @Param({"1024", "65536"})
+    public int size;
+
+    @Param({"8"})
+    public int k;
+
+    private final Vector3<Double> origin = new Vector3<>(128.0D, 64.0D, 128.0D);
+    private final TargetSelector sequential = TargetSelector.of(TargetScorer.distance(), Integer.MAX_VALUE);
+    private final TargetSelector parallel = TargetSelector.of(TargetScorer.distance());
+    private List<Vector3<Double>> list;
+    private Vector3Buffer buffer;
+    private int[] out;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        list = new ArrayList<>(size);
+        buffer = Vector3Buffer.allocate(size);
+        for(int i = 0; i < size; i++) {
+            final Vector3<Double> vector = new Vector3<>(
+                    random.nextDouble() * 256.0, random.nextDouble() * 256.0, random.nextDouble() * 256.0
+            );
+            list.add(vector);
+            buffer.append(vector);
+        }
+        out = new int[k];
+    }
+
+    @Benchmark
+    public List<Vector3<Double>> sortList() {
+        final List<Vector3<Double>> sorted = new ArrayList<>(list);
+        sorted.sort(Comparator.comparingDouble(vector -> vector.getDistance(origin)));
+        return sorted.subList(0, k);
+    }
+
+    @Benchmark
+    public List<Vector3<Double>> selectList() {
+        final List<Vector3<Double>> selected = new ArrayList<>(k);
+        sequential.select(origin, list, vector -> vector, k, selected);
+        return selected;
+    }
+
+    @Benchmark
+    public int[] selectBuffer() {
+        sequential.select(origin, buffer, k, out);
+        return out;
+    }
+
+    @Benchmark
+    public int[] selectBufferParallel() {
+        parallel.select(origin, buffer, k, out);
+        return out;
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.leafclient.struct.maths.vector;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a {@link Vector3Accumulator} with a synchronized {@link Vector3#plus(Vector3)} when many threads
+ * add to the same vector.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class Vector3AccumulatorBenchmark {
+
+    private final Vector3<Double> delta = new Vector3<>(0.25D, -0.5D, 0.125D);
+    private final Vector3Accumulator accumulator = new Vector3Accumulator();
+    private final Object lock = new Object();
+    private Vector3<Double> sum = new Vector3<>(0.0D, 0.0D, 0.0D);
+
+    @Benchmark
+    public void synchronizedPlus() {
+        synchronized (lock) {
+            sum = sum.plus(delta);
+        }
+    }
+
+    @Benchmark
+    public void accumulatorAdd() {
+        accumulator.add(delta);
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.leafclient.struct.maths.vector;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the bulk operations of a {@link Vector3Buffer} against a list of {@link Vector3}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Vector3BufferBenchmark {
+
+    @Param({"1024", "16384"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean direct;
+
+    private final Vector3<Double> point = new Vector3<>(12.5D, 64.0D, -3.25D);
+    private List<Vector3<Double>> list;
+    private Vector3Buffer buffer;
+    private double[] distances;
+    private float[] yaws;
+    private float[] pitches;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        list = new ArrayList<>(size);
+        buffer = direct ? Vector3Buffer.allocateDirect(size) : Vector3Buffer.allocate(size);
+        for(int i = 0; i < size; i++) {
+            final Vector3<Double> vector = new Vector3<>(
+                    random.nextDouble() * 256.0,
+                    random.nextDouble() * 256.0,
+                    random.nextDouble() * 256.0
+            );
+            list.add(vector);
+            buffer.append(vector);
+        }
+        distances = new double[size];
+        yaws = new float[size];
+        pitches = new float[size];
+    }
+
+    @Benchmark
+    public double[] listDistance() {
+        for(int i = 0; i < size; i++) {
+            distances[i] = list.get(i).getDistance(point);
+        }
+        return distances;
+    }
+
+    @Benchmark
+    public double[] bufferDistance() {
+        buffer.distanceTo(point, distances);
+        return distances;
+    }
+
+    @Benchmark
+    public float[] listRotation() {
+        for(int i = 0; i < size; i++) {
+            final Vector2<Float> rotation = list.get(i).getRotation(point);
+            yaws[i] = rotation.getX();
+            pitches[i] = rotation.getY();
+        }
+        return yaws;
+    }
+
+    @Benchmark
+    public float[] bufferRotation() {
+        buffer.rotationTo(point, yaws, pitches);
+        return yaws;
+    }
+
+    @Benchmark
+    public Vector3Buffer bufferScale() {
+        buffer.scale(1.0);
+        return buffer;
+    }
+
+}
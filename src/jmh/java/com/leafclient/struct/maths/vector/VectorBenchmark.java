@@ -0,0 +1,121 @@
+package com.leafclient.struct.maths.vector;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link Vector2} and {@link Vector3} operations, next to their primitive specializations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VectorBenchmark {
+
+    private Vector2<Double> a2;
+    private Vector2<Double> b2;
+    private Vector3<Double> a3;
+    private Vector3<Double> b3;
+    private Vector3<Integer> a3i;
+    private Vector3<Integer> b3i;
+    private Vector3d a3d;
+    private Vector3d b3d;
+    private Vector3Expression expression;
+    private final MutableVector3d dest = new MutableVector3d();
+
+    @Setup
+    public void setup() {
+        a2 = new Vector2<>(12.5D, -3.25D);
+        b2 = new Vector2<>(-7.0D, 41.75D);
+        a3 = new Vector3<>(12.5D, 64.0D, -3.25D);
+        b3 = new Vector3<>(-7.0D, 70.5D, 41.75D);
+        a3i = new Vector3<>(12, 64, -3);
+        b3i = new Vector3<>(-7, 70, 41);
+        a3d = a3.toVector3d();
+        b3d = b3.toVector3d();
+        expression = new Vector3Expression().plus(b3).minus(a3).multiply(b3);
+    }
+
+    @Benchmark
+    public Vector2<Double> vector2Plus() {
+        return a2.plus(b2);
+    }
+
+    @Benchmark
+    public Vector2<Double> vector2Minus() {
+        return a2.minus(b2);
+    }
+
+    @Benchmark
+    public Vector2<Double> vector2Multiply() {
+        return a2.multiply(b2);
+    }
+
+    @Benchmark
+    public Vector3<Double> vector3Plus() {
+        return a3.plus(b3);
+    }
+
+    @Benchmark
+    public Vector3<Double> vector3Minus() {
+        return a3.minus(b3);
+    }
+
+    @Benchmark
+    public Vector3<Double> vector3Multiply() {
+        return a3.multiply(b3);
+    }
+
+    @Benchmark
+    public Vector3<Integer> vector3IntegerPlus() {
+        return a3i.plus(b3i);
+    }
+
+    @Benchmark
+    public double vector3Distance() {
+        return a3.getDistance(b3);
+    }
+
+    @Benchmark
+    public Vector2<Float> vector3Rotation() {
+        return a3.getRotation(b3);
+    }
+
+    @Benchmark
+    public Vector3d vector3dPlus() {
+        return a3d.plus(b3d);
+    }
+
+    @Benchmark
+    public double vector3dDistance() {
+        return a3d.getDistance(b3d);
+    }
+
+    @Benchmark
+    public Vector2f vector3dRotation() {
+        return a3d.getRotation(b3d);
+    }
+
+    @Benchmark
+    public Vector3<Double> vector3Chain() {
+        return a3.plus(b3).minus(a3).multiply(b3);
+    }
+
+    @Benchmark
+    public MutableVector3d vector3Expression() {
+        return expression.apply(a3, dest);
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.leafclient.struct.maths.vector;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Vector3#hashCode()} and {@link Vector3#equals(Object)} when vectors are used as map keys,
+ * compared with the packed coordinates of a {@link Vector3IntMap}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VectorHashingBenchmark {
+
+    private static final int SIZE = 16;
+
+    private final Map<Vector3<Integer>, Integer> map = new HashMap<>();
+    private final Vector3IntMap<Integer> packedMap = new Vector3IntMap<>();
+    private Vector3<Integer> key;
+    private Vector3<Integer> equalKey;
+    private Vector3<Integer> missingKey;
+
+    @Setup
+    public void setup() {
+        for(int x = 0; x < SIZE; x++) {
+            for(int y = 0; y < SIZE; y++) {
+                for(int z = 0; z < SIZE; z++) {
+                    map.put(new Vector3<>(x, y, z), x + y + z);
+                    packedMap.put(x, y, z, x + y + z);
+                }
+            }
+        }
+        key = new Vector3<>(3, 7, 11);
+        equalKey = new Vector3<>(3, 7, 11);
+        missingKey = new Vector3<>(-3, 7, 11);
+    }
+
+    @Benchmark
+    public int hashCodeVector3() {
+        return key.hashCode();
+    }
+
+    @Benchmark
+    public boolean equalsVector3() {
+        return key.equals(equalKey);
+    }
+
+    @Benchmark
+    public Integer mapHit() {
+        return map.get(equalKey);
+    }
+
+    @Benchmark
+    public Integer mapMiss() {
+        return map.get(missingKey);
+    }
+
+    @Benchmark
+    public Integer packedMapHit() {
+        return packedMap.get(3, 7, 11);
+    }
+
+    @Benchmark
+    public Integer packedMapMiss() {
+        return packedMap.get(-3, 7, 11);
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.leafclient.struct.structure.settings;
+
+import com.leafclient.struct.maths.DoubleRange;
+import com.leafclient.struct.maths.MathOperationsHelper;
+import com.leafclient.struct.maths.Range;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares updating a boxed setting value using {@link Range#coerce(Number)} and
+ * {@link MathOperationsHelper#round(Number, Number)} with updating a {@link DoubleSetting}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SettingBenchmark {
+
+    private final Range<Double> range = Range.of(0.5D, 6.0D);
+    private final Double step = 0.05D;
+    private volatile Number boxed;
+    private DoubleSetting setting;
+    private double value;
+
+    @Setup
+    public void setup() {
+        setting = new SettingGroup(1).addDouble("Reach", DoubleRange.of(0.5D, 6.0D), 0.05D, 3.0D);
+        value = 4.2371D;
+    }
+
+    @Benchmark
+    public Number boxedSet() {
+        final Number updated = MathOperationsHelper.round(range.coerce(value), step);
+        boxed = updated;
+        return updated;
+    }
+
+    @Benchmark
+    public double settingSet() {
+        return setting.set(value);
+    }
+
+    @Benchmark
+    public double settingGet() {
+        return setting.get();
+    }
+
+}
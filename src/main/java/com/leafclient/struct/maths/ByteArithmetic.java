@@ -0,0 +1,69 @@
+package com.leafclient.struct.maths;
+
+/**
+ * {@link NumberArithmetic} implementation for {@link Byte}.
+ */
+final class ByteArithmetic implements NumberArithmetic<Byte> {
+
+    static final ByteArithmetic INSTANCE = new ByteArithmetic();
+
+    private ByteArithmetic() {
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Class<Byte> getType() {
+        return Byte.class;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Byte add(Byte n1, Number n2) {
+        return (byte) (n1.byteValue() + n2.byteValue());
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Byte subtract(Byte n1, Number n2) {
+        return (byte) (n1.byteValue() - n2.byteValue());
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Byte multiplication(Byte n1, Number n2) {
+        return (byte) (n1.byteValue() * n2.byteValue());
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Byte division(Byte n1, Number n2) {
+        return (byte) (n1.byteValue() / n2.byteValue());
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Byte round(Byte n1, Number n2) {
+        return (byte) MathOperationsHelper.roundedValue(n1, n2);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Byte cast(Number number) {
+        return number.byteValue();
+    }
+
+}
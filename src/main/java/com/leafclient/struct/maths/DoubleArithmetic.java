@@ -0,0 +1,69 @@
+package com.leafclient.struct.maths;
+
+/**
+ * {@link NumberArithmetic} implementation for {@link Double}.
+ */
+final class DoubleArithmetic implements NumberArithmetic<Double> {
+
+    static final DoubleArithmetic INSTANCE = new DoubleArithmetic();
+
+    private DoubleArithmetic() {
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Class<Double> getType() {
+        return Double.class;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Double add(Double n1, Number n2) {
+        return n1.doubleValue() + n2.doubleValue();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Double subtract(Double n1, Number n2) {
+        return n1.doubleValue() - n2.doubleValue();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Double multiplication(Double n1, Number n2) {
+        return n1.doubleValue() * n2.doubleValue();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Double division(Double n1, Number n2) {
+        return n1.doubleValue() / n2.doubleValue();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Double round(Double n1, Number n2) {
+        return MathOperationsHelper.roundedValue(n1, n2);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Double cast(Number number) {
+        return number.doubleValue();
+    }
+
+}
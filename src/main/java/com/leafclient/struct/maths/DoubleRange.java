@@ -0,0 +1,134 @@
+package com.leafclient.struct.maths;
+
+/**
+ * A {@link Range} specialization storing its bounds as primitive doubles.
+ * Its operations never box their values and are free of branches.
+ */
+public final class DoubleRange {
+
+    private final double minimum;
+    private final double maximum;
+
+    /**
+     * Creates a range between the two specified numbers.
+     *
+     * @param minimum Minimum number
+     * @param maximum Maximum number
+     */
+    DoubleRange(double minimum, double maximum) {
+        this.minimum = minimum;
+        this.maximum = maximum;
+    }
+
+    /**
+     * Returns the minimum value of this {@link DoubleRange}.
+     *
+     * @return Minimum's value
+     */
+    public double getMinimum() {
+        return minimum;
+    }
+
+    /**
+     * Returns the maximum value of this {@link DoubleRange}.
+     *
+     * @return Maximum value
+     */
+    public double getMaximum() {
+        return maximum;
+    }
+
+    /**
+     * Bounds specified number between the {@link this#getMinimum()} and {@link this#getMaximum()}.
+     *
+     * @param value Current value
+     * @return Bounded value
+     */
+    public double coerce(double value) {
+        return Math.min(Math.max(value, minimum), maximum);
+    }
+
+    /**
+     * Returns whether specified value is between the {@link this#getMinimum()} and {@link this#getMaximum()}, both included.
+     *
+     * @param value Value
+     * @return `True` if the value is contained by this range
+     */
+    public boolean contains(double value) {
+        return value >= minimum & value <= maximum;
+    }
+
+    /**
+     * Bounds every specified value, in place.
+     *
+     * @param values Values
+     * @param offset First value index
+     * @param length Number of values
+     */
+    public void clamp(double[] values, int offset, int length) {
+        clamp(values, offset, values, offset, length);
+    }
+
+    /**
+     * Bounds every value of the source array and writes them into the destination array.
+     *
+     * @param source Source values
+     * @param sourceOffset First source value index
+     * @param dest Destination
+     * @param destOffset First destination index
+     * @param length Number of values
+     */
+    public void clamp(double[] source, int sourceOffset, double[] dest, int destOffset, int length) {
+        VectorKernels.coerce(source, sourceOffset, dest, destOffset, length, minimum, maximum);
+    }
+
+    /**
+     * Converts this range to its generic {@link Range} counterpart.
+     *
+     * @return Generic range
+     */
+    public Range<Double> toRange() {
+        return new Range<>(minimum, maximum);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        DoubleRange range = (DoubleRange) o;
+        return Double.compare(minimum, range.minimum) == 0 &&
+                Double.compare(maximum, range.maximum) == 0;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(minimum) + Double.hashCode(maximum);
+    }
+
+    /**
+     * Creates a {@link DoubleRange} between the two specified numbers.
+     *
+     * @param n1 First number
+     * @param n2 Second number
+     * @return Range
+     */
+    public static DoubleRange of(double n1, double n2) {
+        return new DoubleRange(Math.min(n1, n2), Math.max(n1, n2));
+    }
+
+    /**
+     * Creates a {@link DoubleRange} from specified generic {@link Range}.
+     *
+     * @param range Generic range
+     * @return Primitive range
+     */
+    public static DoubleRange from(Range<?> range) {
+        return of(range.getMinimum().doubleValue(), range.getMaximum().doubleValue());
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.leafclient.struct.maths;
+
+/**
+ * {@link NumberArithmetic} implementation for {@link Float}.
+ */
+final class FloatArithmetic implements NumberArithmetic<Float> {
+
+    static final FloatArithmetic INSTANCE = new FloatArithmetic();
+
+    private FloatArithmetic() {
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Class<Float> getType() {
+        return Float.class;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Float add(Float n1, Number n2) {
+        return n1.floatValue() + n2.floatValue();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Float subtract(Float n1, Number n2) {
+        return n1.floatValue() - n2.floatValue();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Float multiplication(Float n1, Number n2) {
+        return n1.floatValue() * n2.floatValue();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Float division(Float n1, Number n2) {
+        return n1.floatValue() / n2.floatValue();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Float round(Float n1, Number n2) {
+        return (float) MathOperationsHelper.roundedValue(n1, n2);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Float cast(Number number) {
+        return number.floatValue();
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.leafclient.struct.maths;
+
+/**
+ * {@link NumberArithmetic} implementation for {@link Integer}.
+ */
+final class IntegerArithmetic implements NumberArithmetic<Integer> {
+
+    static final IntegerArithmetic INSTANCE = new IntegerArithmetic();
+
+    private IntegerArithmetic() {
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Class<Integer> getType() {
+        return Integer.class;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Integer add(Integer n1, Number n2) {
+        return n1.intValue() + n2.intValue();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Integer subtract(Integer n1, Number n2) {
+        return n1.intValue() - n2.intValue();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Integer multiplication(Integer n1, Number n2) {
+        return n1.intValue() * n2.intValue();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Integer division(Integer n1, Number n2) {
+        return n1.intValue() / n2.intValue();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Integer round(Integer n1, Number n2) {
+        return (int) MathOperationsHelper.roundedValue(n1, n2);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Integer cast(Number number) {
+        return number.intValue();
+    }
+
+}
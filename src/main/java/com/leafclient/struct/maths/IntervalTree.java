@@ -0,0 +1,218 @@
+package com.leafclient.struct.maths;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * {@link IntervalTree} indexes many {@link Range}s, each associated to a value, and answers which of them
+ * contain a number or overlap another range in {@code O(log n + k)}.
+ *
+ * Ranges are kept sorted by minimum in primitive arrays, which are read as an implicit balanced binary tree
+ * where each node knows the greatest maximum of its subtree. Bounds are compared using their double value,
+ * like {@link Range#coerce(Number)} does, and are both included.
+ * Adding or removing a range costs {@code O(n)}, which suits sets that are mostly queried.
+ *
+ * Instances are not thread-safe.
+ *
+ * @param <V> Value type
+ */
+public final class IntervalTree<V> {
+
+    private double[] minimums = new double[16];
+    private double[] maximums = new double[16];
+    private Object[] values = new Object[16];
+    private double[] subtreeMaximums = new double[16];
+    private int size;
+    private boolean dirty;
+
+    /**
+     * @return the number of ranges stored in this tree
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return `True` if this tree does not contain any range
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Adds specified range associated to specified value.
+     *
+     * @param range Range
+     * @param value Value
+     */
+    public void add(Range<?> range, V value) {
+        add(range.getMinimum().doubleValue(), range.getMaximum().doubleValue(), value);
+    }
+
+    /**
+     * Adds specified range associated to specified value.
+     *
+     * @param range Range
+     * @param value Value
+     */
+    public void add(DoubleRange range, V value) {
+        add(range.getMinimum(), range.getMaximum(), value);
+    }
+
+    /**
+     * Adds the range between the two specified numbers associated to specified value.
+     *
+     * @param minimum Minimum number
+     * @param maximum Maximum number
+     * @param value Value
+     */
+    public void add(double minimum, double maximum, V value) {
+        if(minimum > maximum)
+            throw new IllegalArgumentException("Minimum is greater than maximum (" + minimum + " > " + maximum + ")");
+
+        if(size == minimums.length) {
+            final int capacity = size << 1;
+            minimums = Arrays.copyOf(minimums, capacity);
+            maximums = Arrays.copyOf(maximums, capacity);
+            values = Arrays.copyOf(values, capacity);
+            subtreeMaximums = new double[capacity];
+        }
+
+        // Inserted after every range with the same minimum
+        int low = 0, high = size;
+        while(low < high) {
+            final int middle = (low + high) >>> 1;
+            if(minimums[middle] <= minimum) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        final int index = low;
+        final int moved = size - index;
+        System.arraycopy(minimums, index, minimums, index + 1, moved);
+        System.arraycopy(maximums, index, maximums, index + 1, moved);
+        System.arraycopy(values, index, values, index + 1, moved);
+        minimums[index] = minimum;
+        maximums[index] = maximum;
+        values[index] = value;
+        size++;
+        dirty = true;
+    }
+
+    /**
+     * Removes every range associated to specified value.
+     *
+     * @param value Value
+     * @return Number of ranges removed
+     */
+    public int remove(Object value) {
+        int kept = 0;
+        for(int i = 0; i < size; i++) {
+            if(!Objects.equals(values[i], value)) {
+                minimums[kept] = minimums[i];
+                maximums[kept] = maximums[i];
+                values[kept++] = values[i];
+            }
+        }
+        final int removed = size - kept;
+        Arrays.fill(values, kept, size, null);
+        size = kept;
+        dirty |= removed > 0;
+        return removed;
+    }
+
+    /**
+     * Removes every range.
+     */
+    public void clear() {
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+        dirty = false;
+    }
+
+    /**
+     * Adds the value of every range containing specified number to specified collection.
+     *
+     * @param number Number
+     * @param out Output
+     * @return Number of values added
+     */
+    public int containing(double number, Collection<? super V> out) {
+        return overlapping(number, number, out);
+    }
+
+    /**
+     * Adds the value of every range overlapping the specified range to specified collection.
+     *
+     * @param range Range
+     * @param out Output
+     * @return Number of values added
+     */
+    public int overlapping(Range<?> range, Collection<? super V> out) {
+        return overlapping(range.getMinimum().doubleValue(), range.getMaximum().doubleValue(), out);
+    }
+
+    /**
+     * Adds the value of every range overlapping the range between the specified numbers to specified
+     * collection, ordered by minimum.
+     *
+     * @param minimum Minimum number
+     * @param maximum Maximum number
+     * @param out Output
+     * @return Number of values added
+     */
+    public int overlapping(double minimum, double maximum, Collection<? super V> out) {
+        if(size == 0 || minimum > maximum)
+            return 0;
+
+        if(dirty) {
+            build(0, size);
+            dirty = false;
+        }
+        return collect(0, size, minimum, maximum, out);
+    }
+
+    /**
+     * Fills the greatest maximum of each node of the implicit tree covering specified slice.
+     *
+     * @param from First index
+     * @param to Last index, excluded
+     * @return Greatest maximum of the slice
+     */
+    private double build(int from, int to) {
+        if(from >= to)
+            return Double.NEGATIVE_INFINITY;
+
+        final int middle = (from + to) >>> 1;
+        final double greatest = Math.max(
+                maximums[middle],
+                Math.max(build(from, middle), build(middle + 1, to))
+        );
+        subtreeMaximums[middle] = greatest;
+        return greatest;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int collect(int from, int to, double minimum, double maximum, Collection<? super V> out) {
+        if(from >= to)
+            return 0;
+
+        final int middle = (from + to) >>> 1;
+        if(subtreeMaximums[middle] < minimum)
+            return 0;
+
+        int found = collect(from, middle, minimum, maximum, out);
+        // Every following range starts after the queried one
+        if(minimums[middle] > maximum)
+            return found;
+
+        if(maximums[middle] >= minimum) {
+            out.add((V) values[middle]);
+            found++;
+        }
+        return found + collect(middle + 1, to, minimum, maximum, out);
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.leafclient.struct.maths;
+
+/**
+ * {@link NumberArithmetic} implementation for {@link Long}.
+ */
+final class LongArithmetic implements NumberArithmetic<Long> {
+
+    static final LongArithmetic INSTANCE = new LongArithmetic();
+
+    private LongArithmetic() {
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Class<Long> getType() {
+        return Long.class;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Long add(Long n1, Number n2) {
+        return n1.longValue() + n2.longValue();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Long subtract(Long n1, Number n2) {
+        return n1.longValue() - n2.longValue();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Long multiplication(Long n1, Number n2) {
+        return n1.longValue() * n2.longValue();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Long division(Long n1, Number n2) {
+        return n1.longValue() / n2.longValue();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Long round(Long n1, Number n2) {
+        return (long) MathOperationsHelper.roundedValue(n1, n2);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Long cast(Number number) {
+        return number.longValue();
+    }
+
+}
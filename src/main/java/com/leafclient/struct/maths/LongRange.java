@@ -0,0 +1,138 @@
+package com.leafclient.struct.maths;
+
+/**
+ * A {@link Range} specialization storing its bounds as primitive longs.
+ * Its operations never box their values and are free of branches.
+ */
+public final class LongRange {
+
+    private final long minimum;
+    private final long maximum;
+
+    /**
+     * Creates a range between the two specified numbers.
+     *
+     * @param minimum Minimum number
+     * @param maximum Maximum number
+     */
+    LongRange(long minimum, long maximum) {
+        this.minimum = minimum;
+        this.maximum = maximum;
+    }
+
+    /**
+     * Returns the minimum value of this {@link LongRange}.
+     *
+     * @return Minimum's value
+     */
+    public long getMinimum() {
+        return minimum;
+    }
+
+    /**
+     * Returns the maximum value of this {@link LongRange}.
+     *
+     * @return Maximum value
+     */
+    public long getMaximum() {
+        return maximum;
+    }
+
+    /**
+     * Bounds specified number between the {@link this#getMinimum()} and {@link this#getMaximum()}.
+     *
+     * @param value Current value
+     * @return Bounded value
+     */
+    public long coerce(long value) {
+        return Math.min(Math.max(value, minimum), maximum);
+    }
+
+    /**
+     * Returns whether specified value is between the {@link this#getMinimum()} and {@link this#getMaximum()}, both included.
+     *
+     * @param value Value
+     * @return `True` if the value is contained by this range
+     */
+    public boolean contains(long value) {
+        // A single unsigned comparison covers both bounds
+        return Long.compareUnsigned(value - minimum, maximum - minimum) <= 0;
+    }
+
+    /**
+     * Bounds every specified value, in place.
+     *
+     * @param values Values
+     * @param offset First value index
+     * @param length Number of values
+     */
+    public void clamp(long[] values, int offset, int length) {
+        clamp(values, offset, values, offset, length);
+    }
+
+    /**
+     * Bounds every value of the source array and writes them into the destination array.
+     *
+     * @param source Source values
+     * @param sourceOffset First source value index
+     * @param dest Destination
+     * @param destOffset First destination index
+     * @param length Number of values
+     */
+    public void clamp(long[] source, int sourceOffset, long[] dest, int destOffset, int length) {
+        final long minimum = this.minimum, maximum = this.maximum;
+        for(int i = 0; i < length; i++) {
+            dest[destOffset + i] = Math.min(Math.max(source[sourceOffset + i], minimum), maximum);
+        }
+    }
+
+    /**
+     * Converts this range to its generic {@link Range} counterpart.
+     *
+     * @return Generic range
+     */
+    public Range<Long> toRange() {
+        return new Range<>(minimum, maximum);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        LongRange range = (LongRange) o;
+        return minimum == range.minimum &&
+                maximum == range.maximum;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(minimum) + Long.hashCode(maximum);
+    }
+
+    /**
+     * Creates a {@link LongRange} between the two specified numbers.
+     *
+     * @param n1 First number
+     * @param n2 Second number
+     * @return Range
+     */
+    public static LongRange of(long n1, long n2) {
+        return new LongRange(Math.min(n1, n2), Math.max(n1, n2));
+    }
+
+    /**
+     * Creates a {@link LongRange} from specified generic {@link Range}.
+     *
+     * @param range Generic range
+     * @return Primitive range
+     */
+    public static LongRange from(Range<?> range) {
+        return of(range.getMinimum().longValue(), range.getMaximum().longValue());
+    }
+
+}
@@ -1,6 +1,10 @@
 package com.leafclient.struct.maths;
 
 import com.leafclient.struct.maths.exception.UnsupportedNumberType;
+import com.leafclient.struct.maths.metrics.MathMetrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Objects.*;
 
@@ -8,6 +12,11 @@ import static java.util.Objects.*;
  * {@link MathOperationsHelper} is an utility class allowing you to operate on generic numbers
  * even if the type is contained in a generic type.
  * It should be used only in necessary cases because of the performance cost.
+ *
+ * Each operation is delegated to the {@link NumberArithmetic} of the number's type, resolved once per type
+ * and cached. Callers operating many times on the same type should keep the {@link NumberArithmetic}
+ * returned by {@link MathOperationsHelper#arithmetic(Class)} instead.
+ * How often each operation is dispatched can be measured using the {@link MathMetrics}.
  */
 @SuppressWarnings("unchecked")
 public final class MathOperationsHelper {
@@ -24,6 +33,115 @@ public final class MathOperationsHelper {
             Double.TYPE
     };
 
+    /**
+     * Every registered {@link NumberArithmetic} by number type, primitive types share the implementation
+     * of their wrapper.
+     */
+    private static final Map<Class<?>, NumberArithmetic<?>> ARITHMETICS = new ConcurrentHashMap<>();
+
+    /**
+     * Per-type cache of the registered {@link NumberArithmetic}, holds null for unsupported types.
+     * Arithmetics are wrapped once here when the {@link MathMetrics} are enabled.
+     */
+    private static final ClassValue<NumberArithmetic<?>> CACHE = new ClassValue<NumberArithmetic<?>>() {
+        @Override
+        protected NumberArithmetic<?> computeValue(Class<?> type) {
+            final NumberArithmetic<?> arithmetic = ARITHMETICS.get(type);
+            if(MathMetrics.ENABLED && arithmetic != null)
+                return new MeteredArithmetic<>(arithmetic);
+
+            return arithmetic;
+        }
+    };
+
+    static {
+        register(Byte.TYPE, ByteArithmetic.INSTANCE);
+        register(Short.TYPE, ShortArithmetic.INSTANCE);
+        register(Integer.TYPE, IntegerArithmetic.INSTANCE);
+        register(Long.TYPE, LongArithmetic.INSTANCE);
+        register(Float.TYPE, FloatArithmetic.INSTANCE);
+        register(Double.TYPE, DoubleArithmetic.INSTANCE);
+    }
+
+    /**
+     * Registers specified {@link NumberArithmetic} so that its {@link NumberArithmetic#getType()} can be
+     * used by the {@link MathOperationsHelper} operations, replacing any previously registered one.
+     *
+     * @param arithmetic Arithmetic
+     * @param <T> Number type
+     */
+    public static <T extends Number> void register(NumberArithmetic<T> arithmetic) {
+        register(arithmetic.getType(), arithmetic);
+    }
+
+    /**
+     * Registers specified {@link NumberArithmetic} for the specified type as well as for
+     * the {@link NumberArithmetic#getType()}.
+     *
+     * @param type Number type
+     * @param arithmetic Arithmetic
+     * @param <T> Number type
+     */
+    private static <T extends Number> void register(Class<T> type, NumberArithmetic<T> arithmetic) {
+        requireNonNull(type);
+        requireNonNull(arithmetic);
+
+        ARITHMETICS.put(type, arithmetic);
+        ARITHMETICS.put(arithmetic.getType(), arithmetic);
+        CACHE.remove(type);
+        CACHE.remove(arithmetic.getType());
+    }
+
+    /**
+     * Returns the {@link NumberArithmetic} used to operate on specified type.
+     *
+     * @param type Number type
+     * @param <T> Number type
+     * @return Type's arithmetic
+     * @throws UnsupportedNumberType if no arithmetic is registered for this type
+     */
+    public static <T extends Number> NumberArithmetic<T> arithmetic(Class<T> type) {
+        final NumberArithmetic<T> arithmetic = (NumberArithmetic<T>) CACHE.get(requireNonNull(type));
+        if(arithmetic == null) {
+            if(MathMetrics.ENABLED) {
+                MathMetrics.unsupported(type);
+            }
+            throw UnsupportedNumberType
+                    .of(type);
+        }
+        return arithmetic;
+    }
+
+    /**
+     * Returns the {@link NumberArithmetic} used to operate on specified number.
+     *
+     * @param number Number
+     * @param <T> Number type
+     * @return Number's arithmetic
+     * @throws UnsupportedNumberType if no arithmetic is registered for this number's type
+     */
+    public static <T extends Number> NumberArithmetic<T> arithmetic(T number) {
+        return arithmetic((Class<T>) number.getClass());
+    }
+
+    /**
+     * Returns the {@link NumberArithmetic} used to operate on specified number, without reporting its operations
+     * to the {@link MathMetrics}. Used by the operations already counted once at their own level, such as the
+     * operations of the generic vectors, so that their axes are not counted again by type.
+     *
+     * @param number Number
+     * @param <T> Number type
+     * @return Number's arithmetic
+     * @throws UnsupportedNumberType if no arithmetic is registered for this number's type
+     */
+    public static <T extends Number> NumberArithmetic<T> unmeteredArithmetic(T number) {
+        final NumberArithmetic<T> arithmetic = arithmetic(number);
+        if(MathMetrics.ENABLED && arithmetic instanceof MeteredArithmetic)
+            return ((MeteredArithmetic<T>) arithmetic).getArithmetic();
+
+        return arithmetic;
+    }
+
     /**
      * Applies the addition operation to the specified numbers.
      *
@@ -36,22 +154,7 @@ public final class MathOperationsHelper {
         requireNonNull(n1);
         requireNonNull(n2);
 
-        if(n1.getClass() == Byte.TYPE || n1.getClass() == Byte.class) {
-            return (T) new Byte((byte)(n1.byteValue() + n2.byteValue()));
-        } else if(n1.getClass() == Short.TYPE || n1.getClass() == Short.class) {
-            return (T) new Short((short) (n1.shortValue() + n2.shortValue()));
-        } else if(n1.getClass() == Integer.TYPE || n1.getClass() == Integer.class) {
-            return (T) new Integer((n1.shortValue() + n2.shortValue()));
-        } else if(n1.getClass() == Long.TYPE || n1.getClass() == Long.class) {
-            return (T) new Long(n1.longValue() + n2.longValue());
-        } else if(n1.getClass() == Float.TYPE || n1.getClass() == Float.class) {
-            return (T) new Float(n1.floatValue() + n2.floatValue());
-        } else if(n1.getClass() == Double.TYPE || n1.getClass() == Double.class) {
-            return (T) new Double(n1.doubleValue() + n2.doubleValue());
-        }
-
-        throw UnsupportedNumberType
-                .of(n1.getClass());
+        return arithmetic(n1).add(n1, n2);
     }
 
     /**
@@ -66,22 +169,7 @@ public final class MathOperationsHelper {
         requireNonNull(n1);
         requireNonNull(n2);
 
-        if(n1.getClass() == Byte.TYPE || n1.getClass() == Byte.class) {
-            return (T) new Byte((byte)(n1.byteValue() - n2.byteValue()));
-        } else if(n1.getClass() == Short.TYPE || n1.getClass() == Short.class) {
-            return (T) new Short((short) (n1.shortValue() - n2.shortValue()));
-        } else if(n1.getClass() == Integer.TYPE || n1.getClass() == Integer.class) {
-            return (T) new Integer((n1.shortValue() - n2.shortValue()));
-        } else if(n1.getClass() == Long.TYPE || n1.getClass() == Long.class) {
-            return (T) new Long(n1.longValue() - n2.longValue());
-        } else if(n1.getClass() == Float.TYPE || n1.getClass() == Float.class) {
-            return (T) new Float(n1.floatValue() - n2.floatValue());
-        } else if(n1.getClass() == Double.TYPE || n1.getClass() == Double.class) {
-            return (T) new Double(n1.doubleValue() - n2.doubleValue());
-        }
-
-        throw UnsupportedNumberType
-                .of(n1.getClass());
+        return arithmetic(n1).subtract(n1, n2);
     }
 
     /**
@@ -96,22 +184,7 @@ public final class MathOperationsHelper {
         requireNonNull(n1);
         requireNonNull(n2);
 
-        if(n1.getClass() == Byte.TYPE || n1.getClass() == Byte.class) {
-            return (T) new Byte((byte)(n1.byteValue() * n2.byteValue()));
-        } else if(n1.getClass() == Short.TYPE || n1.getClass() == Short.class) {
-            return (T) new Short((short) (n1.shortValue() * n2.shortValue()));
-        } else if(n1.getClass() == Integer.TYPE || n1.getClass() == Integer.class) {
-            return (T) new Integer((n1.shortValue() * n2.shortValue()));
-        } else if(n1.getClass() == Long.TYPE || n1.getClass() == Long.class) {
-            return (T) new Long(n1.longValue() * n2.longValue());
-        } else if(n1.getClass() == Float.TYPE || n1.getClass() == Float.class) {
-            return (T) new Float(n1.floatValue() * n2.floatValue());
-        } else if(n1.getClass() == Double.TYPE || n1.getClass() == Double.class) {
-            return (T) new Double(n1.doubleValue() * n2.doubleValue());
-        }
-
-        throw UnsupportedNumberType
-                .of(n1.getClass());
+        return arithmetic(n1).multiplication(n1, n2);
     }
 
 
@@ -127,22 +200,7 @@ public final class MathOperationsHelper {
         requireNonNull(n1);
         requireNonNull(n2);
 
-        if(n1.getClass() == Byte.TYPE || n1.getClass() == Byte.class) {
-            return (T) new Byte((byte)(n1.byteValue() / n2.byteValue()));
-        } else if(n1.getClass() == Short.TYPE || n1.getClass() == Short.class) {
-            return (T) new Short((short) (n1.shortValue() / n2.shortValue()));
-        } else if(n1.getClass() == Integer.TYPE || n1.getClass() == Integer.class) {
-            return (T) new Integer((n1.shortValue() / n2.shortValue()));
-        } else if(n1.getClass() == Long.TYPE || n1.getClass() == Long.class) {
-            return (T) new Long(n1.longValue() / n2.longValue());
-        } else if(n1.getClass() == Float.TYPE || n1.getClass() == Float.class) {
-            return (T) new Float(n1.floatValue() / n2.floatValue());
-        } else if(n1.getClass() == Double.TYPE || n1.getClass() == Double.class) {
-            return (T) new Double(n1.doubleValue() / n2.doubleValue());
-        }
-
-        throw UnsupportedNumberType
-                .of(n1.getClass());
+        return arithmetic(n1).division(n1, n2);
     }
 
     /**
@@ -168,22 +226,7 @@ public final class MathOperationsHelper {
     public static <T extends Number> T cast(Number number, Class<T> returnType) {
         requireNonNull(returnType);
 
-        if(returnType == Byte.TYPE || returnType == Byte.class) {
-            return (T) new Byte(number.byteValue());
-        } else if(returnType == Short.TYPE || returnType == Short.class) {
-            return (T) new Short(number.shortValue());
-        } else if(returnType == Integer.TYPE || returnType == Integer.class) {
-            return (T) new Integer(number.intValue());
-        } else if(returnType == Long.TYPE || returnType == Long.class) {
-            return (T) new Long(number.longValue());
-        } else if(returnType == Float.TYPE || returnType == Float.class) {
-            return (T) new Float(number.floatValue());
-        } else if(returnType == Double.TYPE || returnType == Double.class) {
-            return (T) new Double(number.doubleValue());
-        }
-
-        throw UnsupportedNumberType
-                .of(returnType);
+        return arithmetic(returnType).cast(number);
     }
 
     /**
@@ -192,40 +235,25 @@ public final class MathOperationsHelper {
      * @param n1 First number
      * @param n2 Second number
      * @param <T> Number type
-     * @return The result of the subtraction between the first and the second number
+     * @return The first number rounded by the second number
      */
     public static <T extends Number> T round(T n1, T n2) {
         requireNonNull(n1);
         requireNonNull(n2);
 
-        if(n1.getClass() == Byte.TYPE || n1.getClass() == Byte.class) {
-            return (T) new Byte(
-                    (byte) (Math.round(n1.doubleValue() * 1.0 / n2.doubleValue()) / (1.0 / n2.doubleValue()))
-            );
-        } else if(n1.getClass() == Short.TYPE || n1.getClass() == Short.class) {
-            return (T) new Short(
-                    (short) (Math.round(n1.doubleValue() * 1.0 / n2.doubleValue()) / (1.0 / n2.doubleValue()))
-            );
-        } else if(n1.getClass() == Integer.TYPE || n1.getClass() == Integer.class) {
-            return (T) new Integer(
-                    (int) (Math.round(n1.doubleValue() * 1.0 / n2.doubleValue()) / (1.0 / n2.doubleValue()))
-            );
-        } else if(n1.getClass() == Long.TYPE || n1.getClass() == Long.class) {
-            return (T) new Long(
-                    (long) (Math.round(n1.doubleValue() * 1.0 / n2.doubleValue()) / (1.0 / n2.doubleValue()))
-            );
-        } else if(n1.getClass() == Float.TYPE || n1.getClass() == Float.class) {
-            return (T) new Float(
-                    (float) (Math.round(n1.doubleValue() * 1.0 / n2.doubleValue()) / (1.0 / n2.doubleValue()))
-            );
-        } else if(n1.getClass() == Double.TYPE || n1.getClass() == Double.class) {
-            return (T) new Double(
-                    (Math.round(n1.doubleValue() * 1.0 / n2.doubleValue()) / (1.0 / n2.doubleValue()))
-            );
-        }
+        return arithmetic(n1).round(n1, n2);
+    }
 
-        throw UnsupportedNumberType
-                .of(n1.getClass());
+    /**
+     * Rounds the first number by the second number using double precision, shared by the primitive
+     * {@link NumberArithmetic} implementations.
+     *
+     * @param n1 First number
+     * @param n2 Second number
+     * @return Rounded value
+     */
+    static double roundedValue(Number n1, Number n2) {
+        return Math.round(n1.doubleValue() * 1.0 / n2.doubleValue()) / (1.0 / n2.doubleValue());
     }
 
 }
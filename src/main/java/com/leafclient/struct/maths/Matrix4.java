@@ -0,0 +1,542 @@
+package com.leafclient.struct.maths;
+
+import com.leafclient.struct.maths.vector.MutableVector2d;
+import com.leafclient.struct.maths.vector.MutableVector3d;
+import com.leafclient.struct.maths.vector.Vector3Buffer;
+
+/**
+ * A mutable 4x4 matrix storing its 16 components as primitive doubles, transforming column vectors.
+ * Every operation writes into this matrix or into caller-owned outputs, so that hot paths can run without
+ * allocating any object. Arrays read and written by {@link Matrix4#set(double[], int)} and
+ * {@link Matrix4#get(double[], int)} are in column-major order, as expected by OpenGL.
+ *
+ * A world-to-screen projection is usually built as {@code projection * view}, using
+ * {@link Matrix4#setPerspective(double, double, double, double)} and
+ * {@link Matrix4#setView(double, double, double, float, float)}, then applied to many positions in a single
+ * pass using {@link Matrix4#project(double[], double[], double[], int, int, double, double, double[], double[], int[])}.
+ *
+ * Instances are not thread-safe.
+ */
+public final class Matrix4 {
+
+    // Component at row r and column c is mrc
+    private double m00, m01, m02, m03;
+    private double m10, m11, m12, m13;
+    private double m20, m21, m22, m23;
+    private double m30, m31, m32, m33;
+
+    /**
+     * Creates a new identity {@link Matrix4}.
+     */
+    public Matrix4() {
+        identity();
+    }
+
+    /**
+     * Creates a copy of specified matrix.
+     *
+     * @param other Copied matrix
+     */
+    public Matrix4(Matrix4 other) {
+        set(other);
+    }
+
+    /**
+     * Returns the component at specified row and column.
+     *
+     * @param row Row, from 0 to 3
+     * @param column Column, from 0 to 3
+     * @return Component
+     */
+    public double get(int row, int column) {
+        if(row < 0 || row > 3 || column < 0 || column > 3)
+            throw new IndexOutOfBoundsException("Component " + row + ", " + column + " out of bounds for a 4x4 matrix");
+
+        switch(column * 4 + row) {
+            case 0: return m00;
+            case 1: return m10;
+            case 2: return m20;
+            case 3: return m30;
+            case 4: return m01;
+            case 5: return m11;
+            case 6: return m21;
+            case 7: return m31;
+            case 8: return m02;
+            case 9: return m12;
+            case 10: return m22;
+            case 11: return m32;
+            case 12: return m03;
+            case 13: return m13;
+            case 14: return m23;
+            default: return m33;
+        }
+    }
+
+    /**
+     * Writes the components of this matrix into specified array, in column-major order.
+     *
+     * @param dest Destination
+     * @param offset Index of the first component
+     * @return Destination
+     */
+    public double[] get(double[] dest, int offset) {
+        dest[offset] = m00;
+        dest[offset + 1] = m10;
+        dest[offset + 2] = m20;
+        dest[offset + 3] = m30;
+        dest[offset + 4] = m01;
+        dest[offset + 5] = m11;
+        dest[offset + 6] = m21;
+        dest[offset + 7] = m31;
+        dest[offset + 8] = m02;
+        dest[offset + 9] = m12;
+        dest[offset + 10] = m22;
+        dest[offset + 11] = m32;
+        dest[offset + 12] = m03;
+        dest[offset + 13] = m13;
+        dest[offset + 14] = m23;
+        dest[offset + 15] = m33;
+        return dest;
+    }
+
+    /**
+     * Reads the components of this matrix from specified array, in column-major order.
+     *
+     * @param source Source
+     * @param offset Index of the first component
+     * @return this {@link Matrix4}
+     */
+    public Matrix4 set(double[] source, int offset) {
+        m00 = source[offset];
+        m10 = source[offset + 1];
+        m20 = source[offset + 2];
+        m30 = source[offset + 3];
+        m01 = source[offset + 4];
+        m11 = source[offset + 5];
+        m21 = source[offset + 6];
+        m31 = source[offset + 7];
+        m02 = source[offset + 8];
+        m12 = source[offset + 9];
+        m22 = source[offset + 10];
+        m32 = source[offset + 11];
+        m03 = source[offset + 12];
+        m13 = source[offset + 13];
+        m23 = source[offset + 14];
+        m33 = source[offset + 15];
+        return this;
+    }
+
+    /**
+     * Copies specified matrix into this one.
+     *
+     * @param other Other
+     * @return this {@link Matrix4}
+     */
+    public Matrix4 set(Matrix4 other) {
+        m00 = other.m00; m01 = other.m01; m02 = other.m02; m03 = other.m03;
+        m10 = other.m10; m11 = other.m11; m12 = other.m12; m13 = other.m13;
+        m20 = other.m20; m21 = other.m21; m22 = other.m22; m23 = other.m23;
+        m30 = other.m30; m31 = other.m31; m32 = other.m32; m33 = other.m33;
+        return this;
+    }
+
+    /**
+     * Sets this matrix to the identity matrix.
+     *
+     * @return this {@link Matrix4}
+     */
+    public Matrix4 identity() {
+        m00 = 1.0; m01 = 0.0; m02 = 0.0; m03 = 0.0;
+        m10 = 0.0; m11 = 1.0; m12 = 0.0; m13 = 0.0;
+        m20 = 0.0; m21 = 0.0; m22 = 1.0; m23 = 0.0;
+        m30 = 0.0; m31 = 0.0; m32 = 0.0; m33 = 1.0;
+        return this;
+    }
+
+    /**
+     * Sets this matrix to the translation by specified offset.
+     *
+     * @param x X-Axis offset
+     * @param y Y-Axis offset
+     * @param z Z-Axis offset
+     * @return this {@link Matrix4}
+     */
+    public Matrix4 setTranslation(double x, double y, double z) {
+        identity();
+        m03 = x;
+        m13 = y;
+        m23 = z;
+        return this;
+    }
+
+    /**
+     * Sets this matrix to the rotation of specified unit quaternion.
+     *
+     * @param rotation Rotation
+     * @return this {@link Matrix4}
+     */
+    public Matrix4 setRotation(Quaternion rotation) {
+        final double x = rotation.getX(), y = rotation.getY(), z = rotation.getZ(), w = rotation.getW();
+        final double xx = x * x, yy = y * y, zz = z * z;
+        final double xy = x * y, xz = x * z, yz = y * z;
+        final double xw = x * w, yw = y * w, zw = z * w;
+        m00 = 1.0 - 2.0 * (yy + zz); m01 = 2.0 * (xy - zw); m02 = 2.0 * (xz + yw); m03 = 0.0;
+        m10 = 2.0 * (xy + zw); m11 = 1.0 - 2.0 * (xx + zz); m12 = 2.0 * (yz - xw); m13 = 0.0;
+        m20 = 2.0 * (xz - yw); m21 = 2.0 * (yz + xw); m22 = 1.0 - 2.0 * (xx + yy); m23 = 0.0;
+        m30 = 0.0; m31 = 0.0; m32 = 0.0; m33 = 1.0;
+        return this;
+    }
+
+    /**
+     * Sets this matrix to an OpenGL perspective projection, looking towards the negative Z-Axis.
+     *
+     * @param fovY Vertical field of view in degrees
+     * @param aspect Width divided by height of the viewport
+     * @param near Distance of the near plane
+     * @param far Distance of the far plane
+     * @return this {@link Matrix4}
+     */
+    public Matrix4 setPerspective(double fovY, double aspect, double near, double far) {
+        final double f = 1.0 / Math.tan(Math.toRadians(fovY) * 0.5);
+        final double depth = 1.0 / (near - far);
+        m00 = f / aspect; m01 = 0.0; m02 = 0.0; m03 = 0.0;
+        m10 = 0.0; m11 = f; m12 = 0.0; m13 = 0.0;
+        m20 = 0.0; m21 = 0.0; m22 = (far + near) * depth; m23 = 2.0 * far * near * depth;
+        m30 = 0.0; m31 = 0.0; m32 = -1.0; m33 = 0.0;
+        return this;
+    }
+
+    /**
+     * Sets this matrix to the view of a camera at specified position, looking in the direction of
+     * specified rotation as computed by {@link com.leafclient.struct.maths.vector.Vector3#getRotation(com.leafclient.struct.maths.vector.Vector3)}:
+     * a yaw of 0 looks towards the positive Z-Axis and a positive pitch looks down.
+     *
+     * @param eyeX Camera X-Axis
+     * @param eyeY Camera Y-Axis
+     * @param eyeZ Camera Z-Axis
+     * @param yaw Yaw in degrees
+     * @param pitch Pitch in degrees
+     * @return this {@link Matrix4}
+     */
+    public Matrix4 setView(double eyeX, double eyeY, double eyeZ, float yaw, float pitch) {
+        // Rotation around X by the pitch, after the rotation around Y by the yaw plus 180 degrees
+        final double yawRadians = Math.toRadians(yaw + 180.0);
+        final double pitchRadians = Math.toRadians(pitch);
+        final double cosYaw = Math.cos(yawRadians), sinYaw = Math.sin(yawRadians);
+        final double cosPitch = Math.cos(pitchRadians), sinPitch = Math.sin(pitchRadians);
+        m00 = cosYaw; m01 = 0.0; m02 = sinYaw;
+        m10 = sinPitch * sinYaw; m11 = cosPitch; m12 = -sinPitch * cosYaw;
+        m20 = -cosPitch * sinYaw; m21 = sinPitch; m22 = cosPitch * cosYaw;
+        m30 = 0.0; m31 = 0.0; m32 = 0.0; m33 = 1.0;
+        m03 = -(m00 * eyeX + m01 * eyeY + m02 * eyeZ);
+        m13 = -(m10 * eyeX + m11 * eyeY + m12 * eyeZ);
+        m23 = -(m20 * eyeX + m21 * eyeY + m22 * eyeZ);
+        return this;
+    }
+
+    /**
+     * Multiplies this matrix by specified one, in place: {@code this = this * right}.
+     * The resulting matrix applies the right matrix first, then this one.
+     *
+     * @param right Right operand
+     * @return this {@link Matrix4}
+     */
+    public Matrix4 multiply(Matrix4 right) {
+        return multiply(this, right);
+    }
+
+    /**
+     * Multiplies specified matrix by this one, in place: {@code this = left * this}.
+     *
+     * @param left Left operand
+     * @return this {@link Matrix4}
+     */
+    public Matrix4 multiplyLeft(Matrix4 left) {
+        return multiply(left, this);
+    }
+
+    /**
+     * Sets this matrix to the product of the specified matrices, which may be this matrix.
+     *
+     * @param left Left operand
+     * @param right Right operand
+     * @return this {@link Matrix4}
+     */
+    public Matrix4 multiply(Matrix4 left, Matrix4 right) {
+        final double a00 = left.m00, a01 = left.m01, a02 = left.m02, a03 = left.m03;
+        final double a10 = left.m10, a11 = left.m11, a12 = left.m12, a13 = left.m13;
+        final double a20 = left.m20, a21 = left.m21, a22 = left.m22, a23 = left.m23;
+        final double a30 = left.m30, a31 = left.m31, a32 = left.m32, a33 = left.m33;
+        final double b00 = right.m00, b01 = right.m01, b02 = right.m02, b03 = right.m03;
+        final double b10 = right.m10, b11 = right.m11, b12 = right.m12, b13 = right.m13;
+        final double b20 = right.m20, b21 = right.m21, b22 = right.m22, b23 = right.m23;
+        final double b30 = right.m30, b31 = right.m31, b32 = right.m32, b33 = right.m33;
+
+        m00 = a00 * b00 + a01 * b10 + a02 * b20 + a03 * b30;
+        m01 = a00 * b01 + a01 * b11 + a02 * b21 + a03 * b31;
+        m02 = a00 * b02 + a01 * b12 + a02 * b22 + a03 * b32;
+        m03 = a00 * b03 + a01 * b13 + a02 * b23 + a03 * b33;
+        m10 = a10 * b00 + a11 * b10 + a12 * b20 + a13 * b30;
+        m11 = a10 * b01 + a11 * b11 + a12 * b21 + a13 * b31;
+        m12 = a10 * b02 + a11 * b12 + a12 * b22 + a13 * b32;
+        m13 = a10 * b03 + a11 * b13 + a12 * b23 + a13 * b33;
+        m20 = a20 * b00 + a21 * b10 + a22 * b20 + a23 * b30;
+        m21 = a20 * b01 + a21 * b11 + a22 * b21 + a23 * b31;
+        m22 = a20 * b02 + a21 * b12 + a22 * b22 + a23 * b32;
+        m23 = a20 * b03 + a21 * b13 + a22 * b23 + a23 * b33;
+        m30 = a30 * b00 + a31 * b10 + a32 * b20 + a33 * b30;
+        m31 = a30 * b01 + a31 * b11 + a32 * b21 + a33 * b31;
+        m32 = a30 * b02 + a31 * b12 + a32 * b22 + a33 * b32;
+        m33 = a30 * b03 + a31 * b13 + a32 * b23 + a33 * b33;
+        return this;
+    }
+
+    /**
+     * @return the determinant of this {@link Matrix4}
+     */
+    public double determinant() {
+        final double s0 = m00 * m11 - m10 * m01, s1 = m00 * m12 - m10 * m02, s2 = m00 * m13 - m10 * m03;
+        final double s3 = m01 * m12 - m11 * m02, s4 = m01 * m13 - m11 * m03, s5 = m02 * m13 - m12 * m03;
+        final double c5 = m22 * m33 - m32 * m23, c4 = m21 * m33 - m31 * m23, c3 = m21 * m32 - m31 * m22;
+        final double c2 = m20 * m33 - m30 * m23, c1 = m20 * m32 - m30 * m22, c0 = m20 * m31 - m30 * m21;
+        return s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+    }
+
+    /**
+     * Inverts this matrix, in place.
+     *
+     * @return this {@link Matrix4}
+     * @throws IllegalArgumentException if this matrix is not invertible
+     */
+    public Matrix4 invert() {
+        // 2x2 determinants of the two upper rows and of the two lower rows
+        final double s0 = m00 * m11 - m10 * m01, s1 = m00 * m12 - m10 * m02, s2 = m00 * m13 - m10 * m03;
+        final double s3 = m01 * m12 - m11 * m02, s4 = m01 * m13 - m11 * m03, s5 = m02 * m13 - m12 * m03;
+        final double c5 = m22 * m33 - m32 * m23, c4 = m21 * m33 - m31 * m23, c3 = m21 * m32 - m31 * m22;
+        final double c2 = m20 * m33 - m30 * m23, c1 = m20 * m32 - m30 * m22, c0 = m20 * m31 - m30 * m21;
+        final double determinant = s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+        if(determinant == 0.0 || Double.isNaN(determinant))
+            throw new IllegalArgumentException("Matrix is not invertible");
+
+        final double inverse = 1.0 / determinant;
+        final double r00 = (m11 * c5 - m12 * c4 + m13 * c3) * inverse;
+        final double r01 = (-m01 * c5 + m02 * c4 - m03 * c3) * inverse;
+        final double r02 = (m31 * s5 - m32 * s4 + m33 * s3) * inverse;
+        final double r03 = (-m21 * s5 + m22 * s4 - m23 * s3) * inverse;
+        final double r10 = (-m10 * c5 + m12 * c2 - m13 * c1) * inverse;
+        final double r11 = (m00 * c5 - m02 * c2 + m03 * c1) * inverse;
+        final double r12 = (-m30 * s5 + m32 * s2 - m33 * s1) * inverse;
+        final double r13 = (m20 * s5 - m22 * s2 + m23 * s1) * inverse;
+        final double r20 = (m10 * c4 - m11 * c2 + m13 * c0) * inverse;
+        final double r21 = (-m00 * c4 + m01 * c2 - m03 * c0) * inverse;
+        final double r22 = (m30 * s4 - m31 * s2 + m33 * s0) * inverse;
+        final double r23 = (-m20 * s4 + m21 * s2 - m23 * s0) * inverse;
+        final double r30 = (-m10 * c3 + m11 * c1 - m12 * c0) * inverse;
+        final double r31 = (m00 * c3 - m01 * c1 + m02 * c0) * inverse;
+        final double r32 = (-m30 * s3 + m31 * s1 - m32 * s0) * inverse;
+        final double r33 = (m20 * s3 - m21 * s1 + m22 * s0) * inverse;
+
+        m00 = r00; m01 = r01; m02 = r02; m03 = r03;
+        m10 = r10; m11 = r11; m12 = r12; m13 = r13;
+        m20 = r20; m21 = r21; m22 = r22; m23 = r23;
+        m30 = r30; m31 = r31; m32 = r32; m33 = r33;
+        return this;
+    }
+
+    /**
+     * Transposes this matrix, in place.
+     *
+     * @return this {@link Matrix4}
+     */
+    public Matrix4 transpose() {
+        double swap;
+        swap = m01; m01 = m10; m10 = swap;
+        swap = m02; m02 = m20; m20 = swap;
+        swap = m03; m03 = m30; m30 = swap;
+        swap = m12; m12 = m21; m21 = swap;
+        swap = m13; m13 = m31; m31 = swap;
+        swap = m23; m23 = m32; m32 = swap;
+        return this;
+    }
+
+    /**
+     * Transforms specified position by this matrix, in place, dividing by the resulting W component
+     * unless it is 1 or 0.
+     *
+     * @param position Position
+     * @return Position
+     */
+    public MutableVector3d transformPosition(MutableVector3d position) {
+        final double x = position.getX(), y = position.getY(), z = position.getZ();
+        final double w = m30 * x + m31 * y + m32 * z + m33;
+        final double factor = w == 1.0 || w == 0.0 ? 1.0 : 1.0 / w;
+        return position.set(
+                (m00 * x + m01 * y + m02 * z + m03) * factor,
+                (m10 * x + m11 * y + m12 * z + m13) * factor,
+                (m20 * x + m21 * y + m22 * z + m23) * factor
+        );
+    }
+
+    /**
+     * Transforms specified direction by this matrix, in place, ignoring the translation.
+     *
+     * @param direction Direction
+     * @return Direction
+     */
+    public MutableVector3d transformDirection(MutableVector3d direction) {
+        final double x = direction.getX(), y = direction.getY(), z = direction.getZ();
+        return direction.set(
+                m00 * x + m01 * y + m02 * z,
+                m10 * x + m11 * y + m12 * z,
+                m20 * x + m21 * y + m22 * z
+        );
+    }
+
+    /**
+     * Transforms the positions stored in the specified arrays by the affine part of this matrix, in place.
+     *
+     * @param x X-Axis values
+     * @param y Y-Axis values
+     * @param z Z-Axis values
+     * @param offset First position index
+     * @param length Number of positions
+     */
+    public void transformPositions(double[] x, double[] y, double[] z, int offset, int length) {
+        for(int i = offset, end = offset + length; i < end; i++) {
+            final double pX = x[i], pY = y[i], pZ = z[i];
+            x[i] = m00 * pX + m01 * pY + m02 * pZ + m03;
+            y[i] = m10 * pX + m11 * pY + m12 * pZ + m13;
+            z[i] = m20 * pX + m21 * pY + m22 * pZ + m23;
+        }
+    }
+
+    /**
+     * Transforms every position of specified buffer by the affine part of this matrix, in place.
+     *
+     * @param positions Positions
+     */
+    public void transformPositions(Vector3Buffer positions) {
+        if(positions.hasArray()) {
+            transformPositions(positions.arrayX(), positions.arrayY(), positions.arrayZ(), 0, positions.size());
+            return;
+        }
+
+        for(int i = 0, size = positions.size(); i < size; i++) {
+            final double pX = positions.getX(i), pY = positions.getY(i), pZ = positions.getZ(i);
+            positions.set(i,
+                    m00 * pX + m01 * pY + m02 * pZ + m03,
+                    m10 * pX + m11 * pY + m12 * pZ + m13,
+                    m20 * pX + m21 * pY + m22 * pZ + m23
+            );
+        }
+    }
+
+    /**
+     * Projects specified position to the screen using this matrix as the world-to-clip transformation.
+     * The origin of the screen is its top left corner.
+     *
+     * @param x X-Axis
+     * @param y Y-Axis
+     * @param z Z-Axis
+     * @param width Screen width
+     * @param height Screen height
+     * @param dest Destination of the screen coordinates
+     * @return `True` if the position is in front of the camera, otherwise the destination is not modified
+     */
+    public boolean project(double x, double y, double z, double width, double height, MutableVector2d dest) {
+        final double w = m30 * x + m31 * y + m32 * z + m33;
+        if(!(w > 0.0))
+            return false;
+
+        final double inverse = 1.0 / w;
+        dest.set(
+                ((m00 * x + m01 * y + m02 * z + m03) * inverse + 1.0) * 0.5 * width,
+                (1.0 - (m10 * x + m11 * y + m12 * z + m13) * inverse) * 0.5 * height
+        );
+        return true;
+    }
+
+    /**
+     * Projects the positions stored in the specified arrays to the screen in a single pass, using this matrix
+     * as the world-to-clip transformation. Positions behind the camera are skipped, the screen coordinates of
+     * the others are written contiguously with the index of their position.
+     * The origin of the screen is its top left corner.
+     *
+     * @param x X-Axis values
+     * @param y Y-Axis values
+     * @param z Z-Axis values
+     * @param offset First position index
+     * @param length Number of positions
+     * @param width Screen width
+     * @param height Screen height
+     * @param screenX Output of the screen X coordinates
+     * @param screenY Output of the screen Y coordinates
+     * @param indices Output of the indexes of the projected positions
+     * @return Number of projected positions
+     */
+    public int project(double[] x, double[] y, double[] z, int offset, int length, double width, double height,
+                       double[] screenX, double[] screenY, int[] indices) {
+        final double halfWidth = width * 0.5, halfHeight = height * 0.5;
+        int count = 0;
+        for(int i = offset, end = offset + length; i < end; i++) {
+            final double pX = x[i], pY = y[i], pZ = z[i];
+            final double w = m30 * pX + m31 * pY + m32 * pZ + m33;
+            if(!(w > 0.0))
+                continue;
+
+            final double inverse = 1.0 / w;
+            screenX[count] = ((m00 * pX + m01 * pY + m02 * pZ + m03) * inverse + 1.0) * halfWidth;
+            screenY[count] = (1.0 - (m10 * pX + m11 * pY + m12 * pZ + m13) * inverse) * halfHeight;
+            indices[count++] = i;
+        }
+        return count;
+    }
+
+    /**
+     * Projects every position of specified buffer to the screen in a single pass,
+     * see {@link Matrix4#project(double[], double[], double[], int, int, double, double, double[], double[], int[])}.
+     *
+     * @param positions Positions
+     * @param width Screen width
+     * @param height Screen height
+     * @param screenX Output of the screen X coordinates
+     * @param screenY Output of the screen Y coordinates
+     * @param indices Output of the indexes of the projected positions
+     * @return Number of projected positions
+     */
+    public int project(Vector3Buffer positions, double width, double height,
+                       double[] screenX, double[] screenY, int[] indices) {
+        if(positions.hasArray())
+            return project(positions.arrayX(), positions.arrayY(), positions.arrayZ(), 0, positions.size(),
+                    width, height, screenX, screenY, indices);
+
+        final double halfWidth = width * 0.5, halfHeight = height * 0.5;
+        int count = 0;
+        for(int i = 0, size = positions.size(); i < size; i++) {
+            final double pX = positions.getX(i), pY = positions.getY(i), pZ = positions.getZ(i);
+            final double w = m30 * pX + m31 * pY + m32 * pZ + m33;
+            if(!(w > 0.0))
+                continue;
+
+            final double inverse = 1.0 / w;
+            screenX[count] = ((m00 * pX + m01 * pY + m02 * pZ + m03) * inverse + 1.0) * halfWidth;
+            screenY[count] = (1.0 - (m10 * pX + m11 * pY + m12 * pZ + m13) * inverse) * halfHeight;
+            indices[count++] = i;
+        }
+        return count;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public String toString() {
+        return "Matrix4{\n"
+                + "  " + m00 + ", " + m01 + ", " + m02 + ", " + m03 + ",\n"
+                + "  " + m10 + ", " + m11 + ", " + m12 + ", " + m13 + ",\n"
+                + "  " + m20 + ", " + m21 + ", " + m22 + ", " + m23 + ",\n"
+                + "  " + m30 + ", " + m31 + ", " + m32 + ", " + m33 + "\n"
+                + "}";
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.leafclient.struct.maths;
+
+import com.leafclient.struct.maths.metrics.MathMetrics;
+import com.leafclient.struct.maths.metrics.MathOperation;
+
+/**
+ * {@link NumberArithmetic} reporting each operation of the arithmetic it wraps to the {@link MathMetrics},
+ * returned by the {@link MathOperationsHelper} when the metrics are enabled.
+ *
+ * @param <T> Number type
+ */
+final class MeteredArithmetic<T extends Number> implements NumberArithmetic<T> {
+
+    private final NumberArithmetic<T> arithmetic;
+
+    MeteredArithmetic(NumberArithmetic<T> arithmetic) {
+        this.arithmetic = arithmetic;
+    }
+
+    /**
+     * @return the arithmetic wrapped by this {@link MeteredArithmetic}
+     */
+    NumberArithmetic<T> getArithmetic() {
+        return arithmetic;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Class<T> getType() {
+        return arithmetic.getType();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public T add(T n1, Number n2) {
+        final long start = MathMetrics.start(MathOperation.ADD, getType());
+        final T result = arithmetic.add(n1, n2);
+        MathMetrics.end(MathOperation.ADD, start);
+        return result;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public T subtract(T n1, Number n2) {
+        final long start = MathMetrics.start(MathOperation.SUBTRACT, getType());
+        final T result = arithmetic.subtract(n1, n2);
+        MathMetrics.end(MathOperation.SUBTRACT, start);
+        return result;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public T multiplication(T n1, Number n2) {
+        final long start = MathMetrics.start(MathOperation.MULTIPLICATION, getType());
+        final T result = arithmetic.multiplication(n1, n2);
+        MathMetrics.end(MathOperation.MULTIPLICATION, start);
+        return result;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public T division(T n1, Number n2) {
+        final long start = MathMetrics.start(MathOperation.DIVISION, getType());
+        final T result = arithmetic.division(n1, n2);
+        MathMetrics.end(MathOperation.DIVISION, start);
+        return result;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public T round(T n1, Number n2) {
+        final long start = MathMetrics.start(MathOperation.ROUND, getType());
+        final T result = arithmetic.round(n1, n2);
+        MathMetrics.end(MathOperation.ROUND, start);
+        return result;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public T cast(Number number) {
+        final long start = MathMetrics.start(MathOperation.CAST, getType());
+        final T result = arithmetic.cast(number);
+        MathMetrics.end(MathOperation.CAST, start);
+        return result;
+    }
+
+}
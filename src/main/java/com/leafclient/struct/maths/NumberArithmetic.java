@@ -0,0 +1,78 @@
+package com.leafclient.struct.maths;
+
+/**
+ * {@link NumberArithmetic} implements the operations of the {@link MathOperationsHelper} for a single
+ * {@link Number} type.
+ * Implementations are resolved once per type using {@link MathOperationsHelper#arithmetic(Class)}, callers
+ * operating many times on the same type should keep the returned instance instead of going through
+ * the {@link MathOperationsHelper} on each operation.
+ * Custom types can be supported by using {@link MathOperationsHelper#register(NumberArithmetic)}.
+ *
+ * The first number determines the arithmetic, the second one can be of any {@link Number} type and is read
+ * as the type of this arithmetic, for instance using {@link Number#intValue()}.
+ *
+ * @param <T> Number type
+ */
+public interface NumberArithmetic<T extends Number> {
+
+    /**
+     * Returns the {@link Number} type supported by this {@link NumberArithmetic}.
+     *
+     * @return Number type
+     */
+    Class<T> getType();
+
+    /**
+     * Applies the addition operation to the specified numbers.
+     *
+     * @param n1 First number
+     * @param n2 Second number
+     * @return The result of the addition between the first and the second number
+     */
+    T add(T n1, Number n2);
+
+    /**
+     * Applies the subtraction operation to the specified numbers.
+     *
+     * @param n1 First number
+     * @param n2 Second number
+     * @return The result of the subtraction between the first and the second number
+     */
+    T subtract(T n1, Number n2);
+
+    /**
+     * Applies the multiplication operation to the specified numbers.
+     *
+     * @param n1 First number
+     * @param n2 Second number
+     * @return The result of the multiplication between the first and the second number
+     */
+    T multiplication(T n1, Number n2);
+
+    /**
+     * Applies the division operation to the specified numbers.
+     *
+     * @param n1 First number
+     * @param n2 Second number
+     * @return The result of the division between the first and the second number
+     */
+    T division(T n1, Number n2);
+
+    /**
+     * Returns the first number rounded by the second number.
+     *
+     * @param n1 First number
+     * @param n2 Second number
+     * @return The first number rounded by the second number
+     */
+    T round(T n1, Number n2);
+
+    /**
+     * Casts specified {@link Number} to the type of this {@link NumberArithmetic}.
+     *
+     * @param number Number
+     * @return Casted number
+     */
+    T cast(Number number);
+
+}
@@ -0,0 +1,223 @@
+package com.leafclient.struct.maths;
+
+import com.leafclient.struct.maths.vector.MutableVector3d;
+
+/**
+ * A mutable rotation quaternion storing its 4 components as primitive doubles.
+ * Every operation writes into this quaternion or into a caller-owned destination, so that hot paths
+ * can run without allocating any object. Angles are expressed in degrees.
+ *
+ * Instances are not thread-safe.
+ */
+public final class Quaternion {
+
+    private double x;
+    private double y;
+    private double z;
+    private double w = 1.0;
+
+    /**
+     * Creates a new identity {@link Quaternion}.
+     */
+    public Quaternion() {
+    }
+
+    /**
+     * Creates a new {@link Quaternion} with specified components.
+     *
+     * @param x X component
+     * @param y Y component
+     * @param z Z component
+     * @param w W component
+     */
+    public Quaternion(double x, double y, double z, double w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+    }
+
+    /**
+     * @return the X component of this {@link Quaternion}
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * @return the Y component of this {@link Quaternion}
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * @return the Z component of this {@link Quaternion}
+     */
+    public double getZ() {
+        return z;
+    }
+
+    /**
+     * @return the W component of this {@link Quaternion}
+     */
+    public double getW() {
+        return w;
+    }
+
+    /**
+     * Modifies every component of this quaternion.
+     *
+     * @param x X component
+     * @param y Y component
+     * @param z Z component
+     * @param w W component
+     * @return this {@link Quaternion}
+     */
+    public Quaternion set(double x, double y, double z, double w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+        return this;
+    }
+
+    /**
+     * Copies specified quaternion into this one.
+     *
+     * @param other Other
+     * @return this {@link Quaternion}
+     */
+    public Quaternion set(Quaternion other) {
+        return set(other.x, other.y, other.z, other.w);
+    }
+
+    /**
+     * Sets this quaternion to the identity rotation.
+     *
+     * @return this {@link Quaternion}
+     */
+    public Quaternion identity() {
+        return set(0.0, 0.0, 0.0, 1.0);
+    }
+
+    /**
+     * Sets this quaternion to the rotation of specified angle around specified axis.
+     *
+     * @param axisX Axis X component
+     * @param axisY Axis Y component
+     * @param axisZ Axis Z component
+     * @param angle Angle in degrees, counterclockwise when looking towards the origin
+     * @return this {@link Quaternion}
+     * @throws IllegalArgumentException if the axis is the zero vector
+     */
+    public Quaternion setAxisAngle(double axisX, double axisY, double axisZ, double angle) {
+        final double length = Math.sqrt(axisX * axisX + axisY * axisY + axisZ * axisZ);
+        if(length == 0.0)
+            throw new IllegalArgumentException("Axis is the zero vector");
+
+        final double half = Math.toRadians(angle) * 0.5;
+        final double factor = Math.sin(half) / length;
+        return set(axisX * factor, axisY * factor, axisZ * factor, Math.cos(half));
+    }
+
+    /**
+     * @return the length of this {@link Quaternion}
+     */
+    public double length() {
+        return Math.sqrt(x * x + y * y + z * z + w * w);
+    }
+
+    /**
+     * Returns the dot product of this quaternion and specified one.
+     *
+     * @param other Other
+     * @return Dot product
+     */
+    public double dot(Quaternion other) {
+        return x * other.x + y * other.y + z * other.z + w * other.w;
+    }
+
+    /**
+     * Scales this quaternion to a length of 1.
+     *
+     * @return this {@link Quaternion}
+     * @throws IllegalArgumentException if this quaternion is zero
+     */
+    public Quaternion normalize() {
+        final double length = length();
+        if(length == 0.0)
+            throw new IllegalArgumentException("Quaternion is zero");
+
+        final double inverse = 1.0 / length;
+        return set(x * inverse, y * inverse, z * inverse, w * inverse);
+    }
+
+    /**
+     * Negates the vector part of this quaternion, which inverts the rotation of a unit quaternion.
+     *
+     * @return this {@link Quaternion}
+     */
+    public Quaternion conjugate() {
+        return set(-x, -y, -z, w);
+    }
+
+    /**
+     * Inverts this quaternion.
+     *
+     * @return this {@link Quaternion}
+     * @throws IllegalArgumentException if this quaternion is zero
+     */
+    public Quaternion invert() {
+        final double lengthSquared = x * x + y * y + z * z + w * w;
+        if(lengthSquared == 0.0)
+            throw new IllegalArgumentException("Quaternion is zero");
+
+        final double inverse = 1.0 / lengthSquared;
+        return set(-x * inverse, -y * inverse, -z * inverse, w * inverse);
+    }
+
+    /**
+     * Multiplies this quaternion by specified one, in place: the resulting rotation applies
+     * the specified rotation first, then this one.
+     *
+     * @param other Right operand
+     * @return this {@link Quaternion}
+     */
+    public Quaternion multiply(Quaternion other) {
+        return set(
+                w * other.x + x * other.w + y * other.z - z * other.y,
+                w * other.y - x * other.z + y * other.w + z * other.x,
+                w * other.z + x * other.y - y * other.x + z * other.w,
+                w * other.w - x * other.x - y * other.y - z * other.z
+        );
+    }
+
+    /**
+     * Rotates specified vector by this unit quaternion, in place.
+     *
+     * @param vector Vector
+     * @return Vector
+     */
+    public MutableVector3d transform(MutableVector3d vector) {
+        final double vX = vector.getX(), vY = vector.getY(), vZ = vector.getZ();
+        // v' = v + w * t + cross(q, t) with t = 2 * cross(q, v)
+        final double tX = 2.0 * (y * vZ - z * vY);
+        final double tY = 2.0 * (z * vX - x * vZ);
+        final double tZ = 2.0 * (x * vY - y * vX);
+        return vector.set(
+                vX + w * tX + (y * tZ - z * tY),
+                vY + w * tY + (z * tX - x * tZ),
+                vZ + w * tZ + (x * tY - y * tX)
+        );
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public String toString() {
+        return "Quaternion{x=" + x + ", y=" + y + ", z=" + z + ", w=" + w + "}";
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.leafclient.struct.maths;
+
+/**
+ * Plain loops implementing the {@link VectorKernels}, written so that the JIT is able to vectorize them.
+ * Used on every runtime where the Vector API is not available.
+ */
+final class ScalarKernels {
+
+    private ScalarKernels() {
+    }
+
+    static void distanceSquared(double pX, double pY, double pZ,
+                                double[] x, double[] y, double[] z, int offset, int length,
+                                double[] out) {
+        final int end = offset + length;
+        for(int i = offset; i < end; i++) {
+            final double dX = pX - x[i];
+            final double dY = pY - y[i];
+            final double dZ = pZ - z[i];
+            out[i] = dX * dX + dY * dY + dZ * dZ;
+        }
+    }
+
+    static void distance(double pX, double pY, double pZ,
+                         double[] x, double[] y, double[] z, int offset, int length,
+                         double[] out) {
+        final int end = offset + length;
+        for(int i = offset; i < end; i++) {
+            final double dX = pX - x[i];
+            final double dY = pY - y[i];
+            final double dZ = pZ - z[i];
+            out[i] = Math.sqrt(dX * dX + dY * dY + dZ * dZ);
+        }
+    }
+
+    static double dot(double[] a, double[] b, int offset, int length) {
+        final int end = offset + length;
+        double sum = 0.0;
+        for(int i = offset; i < end; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    static void dot(double dX, double dY, double dZ,
+                    double[] x, double[] y, double[] z, int offset, int length,
+                    double[] out) {
+        final int end = offset + length;
+        for(int i = offset; i < end; i++) {
+            out[i] = dX * x[i] + dY * y[i] + dZ * z[i];
+        }
+    }
+
+    static void add(double[] values, double addend, int offset, int length) {
+        final int end = offset + length;
+        for(int i = offset; i < end; i++) {
+            values[i] += addend;
+        }
+    }
+
+    static void add(double[] values, double[] addends, double factor, int offset, int length) {
+        final int end = offset + length;
+        for(int i = offset; i < end; i++) {
+            values[i] += factor * addends[i];
+        }
+    }
+
+    static void scale(double[] values, double factor, int offset, int length) {
+        final int end = offset + length;
+        for(int i = offset; i < end; i++) {
+            values[i] *= factor;
+        }
+    }
+
+    static void coerce(double[] source, int sourceOffset, double[] dest, int destOffset, int length,
+                       double minimum, double maximum) {
+        for(int i = 0; i < length; i++) {
+            dest[destOffset + i] = Math.min(Math.max(source[sourceOffset + i], minimum), maximum);
+        }
+    }
+
+}
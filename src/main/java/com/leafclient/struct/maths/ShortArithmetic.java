@@ -0,0 +1,69 @@
+package com.leafclient.struct.maths;
+
+/**
+ * {@link NumberArithmetic} implementation for {@link Short}.
+ */
+final class ShortArithmetic implements NumberArithmetic<Short> {
+
+    static final ShortArithmetic INSTANCE = new ShortArithmetic();
+
+    private ShortArithmetic() {
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Class<Short> getType() {
+        return Short.class;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Short add(Short n1, Number n2) {
+        return (short) (n1.shortValue() + n2.shortValue());
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Short subtract(Short n1, Number n2) {
+        return (short) (n1.shortValue() - n2.shortValue());
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Short multiplication(Short n1, Number n2) {
+        return (short) (n1.shortValue() * n2.shortValue());
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Short division(Short n1, Number n2) {
+        return (short) (n1.shortValue() / n2.shortValue());
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Short round(Short n1, Number n2) {
+        return (short) MathOperationsHelper.roundedValue(n1, n2);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Short cast(Number number) {
+        return number.shortValue();
+    }
+
+}
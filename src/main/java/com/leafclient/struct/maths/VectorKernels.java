@@ -0,0 +1,151 @@
+package com.leafclient.struct.maths;
+
+/**
+ * {@link VectorKernels} are bulk operations over arrays of coordinates, such as the ones stored by a
+ * {@link com.leafclient.struct.maths.vector.Vector3Buffer}.
+ * The library is released as a multi-release JAR: on Java 17 and later, when the {@code jdk.incubator.vector}
+ * module is resolved (using {@code --add-modules jdk.incubator.vector}), the kernels are implemented with
+ * the Vector API, otherwise they are plain loops that the JIT may vectorize on its own.
+ * Results are identical in both cases, except for {@link VectorKernels#dot(double[], double[], int, int)}
+ * whose sum may be reordered.
+ *
+ * Every kernel operates on the indexes from {@code offset} included to {@code offset + length} excluded,
+ * and writes the result of index {@code i} at the index {@code i} of the output.
+ */
+public final class VectorKernels {
+
+    private VectorKernels() {
+    }
+
+    /**
+     * @return the name of the implementation used on this runtime, either "scalar" or "simd"
+     */
+    public static String implementation() {
+        return "scalar";
+    }
+
+    /**
+     * Computes the squared distance between specified point and each position.
+     *
+     * @param pX Point's X-Axis
+     * @param pY Point's Y-Axis
+     * @param pZ Point's Z-Axis
+     * @param x X-Axis of the positions
+     * @param y Y-Axis of the positions
+     * @param z Z-Axis of the positions
+     * @param offset First index
+     * @param length Number of positions
+     * @param out Output
+     */
+    public static void distanceSquared(double pX, double pY, double pZ,
+                                       double[] x, double[] y, double[] z, int offset, int length,
+                                       double[] out) {
+        ScalarKernels.distanceSquared(pX, pY, pZ, x, y, z, offset, length, out);
+    }
+
+    /**
+     * Computes the distance between specified point and each position.
+     *
+     * @param pX Point's X-Axis
+     * @param pY Point's Y-Axis
+     * @param pZ Point's Z-Axis
+     * @param x X-Axis of the positions
+     * @param y Y-Axis of the positions
+     * @param z Z-Axis of the positions
+     * @param offset First index
+     * @param length Number of positions
+     * @param out Output
+     */
+    public static void distance(double pX, double pY, double pZ,
+                                double[] x, double[] y, double[] z, int offset, int length,
+                                double[] out) {
+        ScalarKernels.distance(pX, pY, pZ, x, y, z, offset, length, out);
+    }
+
+    /**
+     * Computes the dot product of the two specified arrays.
+     *
+     * @param a First array
+     * @param b Second array
+     * @param offset First index
+     * @param length Number of values
+     * @return Dot product
+     */
+    public static double dot(double[] a, double[] b, int offset, int length) {
+        return ScalarKernels.dot(a, b, offset, length);
+    }
+
+    /**
+     * Computes the dot product between specified direction and each position.
+     *
+     * @param dX Direction's X-Axis
+     * @param dY Direction's Y-Axis
+     * @param dZ Direction's Z-Axis
+     * @param x X-Axis of the positions
+     * @param y Y-Axis of the positions
+     * @param z Z-Axis of the positions
+     * @param offset First index
+     * @param length Number of positions
+     * @param out Output
+     */
+    public static void dot(double dX, double dY, double dZ,
+                           double[] x, double[] y, double[] z, int offset, int length,
+                           double[] out) {
+        ScalarKernels.dot(dX, dY, dZ, x, y, z, offset, length, out);
+    }
+
+    /**
+     * Adds specified value to each value, in place.
+     *
+     * @param values Values
+     * @param addend Added value
+     * @param offset First index
+     * @param length Number of values
+     */
+    public static void add(double[] values, double addend, int offset, int length) {
+        ScalarKernels.add(values, addend, offset, length);
+    }
+
+    /**
+     * Adds each specified addend multiplied by specified factor to the value of the same index, in place.
+     *
+     * @param values Values
+     * @param addends Added values
+     * @param factor Factor applied to the added values, -1 to subtract them
+     * @param offset First index
+     * @param length Number of values
+     */
+    public static void add(double[] values, double[] addends, double factor, int offset, int length) {
+        ScalarKernels.add(values, addends, factor, offset, length);
+    }
+
+    /**
+     * Multiplies each value by specified factor, in place.
+     *
+     * @param values Values
+     * @param factor Factor
+     * @param offset First index
+     * @param length Number of values
+     */
+    public static void scale(double[] values, double factor, int offset, int length) {
+        ScalarKernels.scale(values, factor, offset, length);
+    }
+
+    /**
+     * Bounds each value of the source array between specified minimum and maximum, and writes them
+     * into the destination array.
+     *
+     * @param source Source values
+     * @param sourceOffset First source value index
+     * @param dest Destination
+     * @param destOffset First destination index
+     * @param length Number of values
+     * @param minimum Minimum
+     * @param maximum Maximum
+     */
+    public static void coerce(double[] source, int sourceOffset, double[] dest, int destOffset, int length,
+                              double minimum, double maximum) {
+        ScalarKernels.coerce(source, sourceOffset, dest, destOffset, length, minimum, maximum);
+    }
+
+}
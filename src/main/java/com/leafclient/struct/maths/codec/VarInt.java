@@ -0,0 +1,141 @@
+package com.leafclient.struct.maths.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Variable-length encoding of integers into a {@link ByteBuffer}, 7 bits per byte with the highest bit
+ * telling whether another byte follows. Signed values are zigzag encoded first, so that small negative
+ * values are as short as small positive ones.
+ */
+public final class VarInt {
+
+    private VarInt() {
+    }
+
+    /**
+     * Writes specified unsigned int.
+     *
+     * @param buffer Buffer
+     * @param value Value, read as unsigned
+     */
+    public static void putUnsignedInt(ByteBuffer buffer, int value) {
+        while((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Reads an unsigned int.
+     *
+     * @param buffer Buffer
+     * @return Value
+     * @throws IllegalArgumentException if the value is longer than 5 bytes
+     */
+    public static int getUnsignedInt(ByteBuffer buffer) {
+        int value = 0;
+        for(int shift = 0; shift < 35; shift += 7) {
+            final byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if(b >= 0)
+                return value;
+        }
+        throw new IllegalArgumentException("Malformed variable-length int");
+    }
+
+    /**
+     * Writes specified unsigned long.
+     *
+     * @param buffer Buffer
+     * @param value Value, read as unsigned
+     */
+    public static void putUnsignedLong(ByteBuffer buffer, long value) {
+        while((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Reads an unsigned long.
+     *
+     * @param buffer Buffer
+     * @return Value
+     * @throws IllegalArgumentException if the value is longer than 10 bytes
+     */
+    public static long getUnsignedLong(ByteBuffer buffer) {
+        long value = 0;
+        for(int shift = 0; shift < 70; shift += 7) {
+            final byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if(b >= 0)
+                return value;
+        }
+        throw new IllegalArgumentException("Malformed variable-length long");
+    }
+
+    /**
+     * Writes specified signed int, zigzag encoded.
+     *
+     * @param buffer Buffer
+     * @param value Value
+     */
+    public static void putInt(ByteBuffer buffer, int value) {
+        putUnsignedInt(buffer, (value << 1) ^ (value >> 31));
+    }
+
+    /**
+     * Reads a signed int written by {@link VarInt#putInt(ByteBuffer, int)}.
+     *
+     * @param buffer Buffer
+     * @return Value
+     */
+    public static int getInt(ByteBuffer buffer) {
+        final int value = getUnsignedInt(buffer);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Writes specified signed long, zigzag encoded.
+     *
+     * @param buffer Buffer
+     * @param value Value
+     */
+    public static void putLong(ByteBuffer buffer, long value) {
+        putUnsignedLong(buffer, (value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Reads a signed long written by {@link VarInt#putLong(ByteBuffer, long)}.
+     *
+     * @param buffer Buffer
+     * @return Value
+     */
+    public static long getLong(ByteBuffer buffer) {
+        final long value = getUnsignedLong(buffer);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * @param value Value
+     * @return the number of bytes written by {@link VarInt#putInt(ByteBuffer, int)} for specified value
+     */
+    public static int sizeOfInt(int value) {
+        return sizeOfUnsignedLong(((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * @param value Value
+     * @return the number of bytes written by {@link VarInt#putLong(ByteBuffer, long)} for specified value
+     */
+    public static int sizeOfLong(long value) {
+        return sizeOfUnsignedLong((value << 1) ^ (value >> 63));
+    }
+
+    private static int sizeOfUnsignedLong(long value) {
+        return Math.max(1, (64 - Long.numberOfLeadingZeros(value) + 6) / 7);
+    }
+
+}
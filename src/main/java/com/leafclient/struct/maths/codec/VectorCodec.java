@@ -0,0 +1,587 @@
+package com.leafclient.struct.maths.codec;
+
+import com.leafclient.struct.maths.DoubleRange;
+import com.leafclient.struct.maths.IntRange;
+import com.leafclient.struct.maths.LongRange;
+import com.leafclient.struct.maths.Range;
+import com.leafclient.struct.maths.vector.Vector2;
+import com.leafclient.struct.maths.vector.Vector2d;
+import com.leafclient.struct.maths.vector.Vector2f;
+import com.leafclient.struct.maths.vector.Vector2i;
+import com.leafclient.struct.maths.vector.Vector3;
+import com.leafclient.struct.maths.vector.Vector3Buffer;
+import com.leafclient.struct.maths.vector.Vector3d;
+import com.leafclient.struct.maths.vector.Vector3f;
+import com.leafclient.struct.maths.vector.Vector3i;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link VectorCodec} writes vectors and ranges directly into a {@link ByteBuffer} and reads them back,
+ * without any intermediate array. Values are written at the position of the buffer, which is advanced,
+ * using the byte order of the buffer.
+ * <ul>
+ *     <li>Fixed-width encodings write each axis with the size of its primitive type, generic vectors and
+ *     ranges being written as doubles.</li>
+ *     <li>Variable-length encodings write integers using {@link VarInt}, small values taking a single byte.</li>
+ *     <li>Delta encodings write sequences of positions as the quantized difference with the previous position,
+ *     which is short when consecutive positions are close to each other.</li>
+ * </ul>
+ * Reading past the limit of a buffer throws a {@link java.nio.BufferUnderflowException}, and writing past it
+ * a {@link java.nio.BufferOverflowException}.
+ */
+public final class VectorCodec {
+
+    private VectorCodec() {
+    }
+
+    /**
+     * Writes specified vector as 2 doubles.
+     *
+     * @param buffer Buffer
+     * @param vector Vector
+     */
+    public static void putVector2(ByteBuffer buffer, Vector2<?> vector) {
+        buffer.putDouble(vector.getX().doubleValue()).putDouble(vector.getY().doubleValue());
+    }
+
+    /**
+     * Reads a vector written by {@link VectorCodec#putVector2(ByteBuffer, Vector2)}.
+     *
+     * @param buffer Buffer
+     * @return Vector
+     */
+    public static Vector2<Double> getVector2(ByteBuffer buffer) {
+        final double x = buffer.getDouble();
+        return new Vector2<>(x, buffer.getDouble());
+    }
+
+    /**
+     * Writes specified vector as 3 doubles.
+     *
+     * @param buffer Buffer
+     * @param vector Vector
+     */
+    public static void putVector3(ByteBuffer buffer, Vector3<?> vector) {
+        buffer.putDouble(vector.getX().doubleValue())
+                .putDouble(vector.getY().doubleValue())
+                .putDouble(vector.getZ().doubleValue());
+    }
+
+    /**
+     * Reads a vector written by {@link VectorCodec#putVector3(ByteBuffer, Vector3)}.
+     *
+     * @param buffer Buffer
+     * @return Vector
+     */
+    public static Vector3<Double> getVector3(ByteBuffer buffer) {
+        final double x = buffer.getDouble();
+        final double y = buffer.getDouble();
+        return new Vector3<>(x, y, buffer.getDouble());
+    }
+
+    /**
+     * Writes specified vector as 2 doubles.
+     *
+     * @param buffer Buffer
+     * @param vector Vector
+     */
+    public static void putVector2d(ByteBuffer buffer, Vector2d vector) {
+        buffer.putDouble(vector.getX()).putDouble(vector.getY());
+    }
+
+    /**
+     * Reads a vector written by {@link VectorCodec#putVector2d(ByteBuffer, Vector2d)}.
+     *
+     * @param buffer Buffer
+     * @return Vector
+     */
+    public static Vector2d getVector2d(ByteBuffer buffer) {
+        final double x = buffer.getDouble();
+        return new Vector2d(x, buffer.getDouble());
+    }
+
+    /**
+     * Writes specified vector as 2 floats.
+     *
+     * @param buffer Buffer
+     * @param vector Vector
+     */
+    public static void putVector2f(ByteBuffer buffer, Vector2f vector) {
+        buffer.putFloat(vector.getX()).putFloat(vector.getY());
+    }
+
+    /**
+     * Reads a vector written by {@link VectorCodec#putVector2f(ByteBuffer, Vector2f)}.
+     *
+     * @param buffer Buffer
+     * @return Vector
+     */
+    public static Vector2f getVector2f(ByteBuffer buffer) {
+        final float x = buffer.getFloat();
+        return new Vector2f(x, buffer.getFloat());
+    }
+
+    /**
+     * Writes specified vector as 2 ints.
+     *
+     * @param buffer Buffer
+     * @param vector Vector
+     */
+    public static void putVector2i(ByteBuffer buffer, Vector2i vector) {
+        buffer.putInt(vector.getX()).putInt(vector.getY());
+    }
+
+    /**
+     * Reads a vector written by {@link VectorCodec#putVector2i(ByteBuffer, Vector2i)}.
+     *
+     * @param buffer Buffer
+     * @return Vector
+     */
+    public static Vector2i getVector2i(ByteBuffer buffer) {
+        final int x = buffer.getInt();
+        return new Vector2i(x, buffer.getInt());
+    }
+
+    /**
+     * Writes specified vector as 3 doubles.
+     *
+     * @param buffer Buffer
+     * @param vector Vector
+     */
+    public static void putVector3d(ByteBuffer buffer, Vector3d vector) {
+        buffer.putDouble(vector.getX()).putDouble(vector.getY()).putDouble(vector.getZ());
+    }
+
+    /**
+     * Reads a vector written by {@link VectorCodec#putVector3d(ByteBuffer, Vector3d)}.
+     *
+     * @param buffer Buffer
+     * @return Vector
+     */
+    public static Vector3d getVector3d(ByteBuffer buffer) {
+        final double x = buffer.getDouble();
+        final double y = buffer.getDouble();
+        return new Vector3d(x, y, buffer.getDouble());
+    }
+
+    /**
+     * Writes specified vector as 3 floats.
+     *
+     * @param buffer Buffer
+     * @param vector Vector
+     */
+    public static void putVector3f(ByteBuffer buffer, Vector3f vector) {
+        buffer.putFloat(vector.getX()).putFloat(vector.getY()).putFloat(vector.getZ());
+    }
+
+    /**
+     * Reads a vector written by {@link VectorCodec#putVector3f(ByteBuffer, Vector3f)}.
+     *
+     * @param buffer Buffer
+     * @return Vector
+     */
+    public static Vector3f getVector3f(ByteBuffer buffer) {
+        final float x = buffer.getFloat();
+        final float y = buffer.getFloat();
+        return new Vector3f(x, y, buffer.getFloat());
+    }
+
+    /**
+     * Writes specified vector as 3 ints.
+     *
+     * @param buffer Buffer
+     * @param vector Vector
+     */
+    public static void putVector3i(ByteBuffer buffer, Vector3i vector) {
+        buffer.putInt(vector.getX()).putInt(vector.getY()).putInt(vector.getZ());
+    }
+
+    /**
+     * Reads a vector written by {@link VectorCodec#putVector3i(ByteBuffer, Vector3i)}.
+     *
+     * @param buffer Buffer
+     * @return Vector
+     */
+    public static Vector3i getVector3i(ByteBuffer buffer) {
+        final int x = buffer.getInt();
+        final int y = buffer.getInt();
+        return new Vector3i(x, y, buffer.getInt());
+    }
+
+    /**
+     * Writes specified vector as 3 variable-length ints, from 3 to 15 bytes.
+     *
+     * @param buffer Buffer
+     * @param vector Vector
+     */
+    public static void putVarVector3i(ByteBuffer buffer, Vector3i vector) {
+        VarInt.putInt(buffer, vector.getX());
+        VarInt.putInt(buffer, vector.getY());
+        VarInt.putInt(buffer, vector.getZ());
+    }
+
+    /**
+     * Reads a vector written by {@link VectorCodec#putVarVector3i(ByteBuffer, Vector3i)}.
+     *
+     * @param buffer Buffer
+     * @return Vector
+     */
+    public static Vector3i getVarVector3i(ByteBuffer buffer) {
+        final int x = VarInt.getInt(buffer);
+        final int y = VarInt.getInt(buffer);
+        return new Vector3i(x, y, VarInt.getInt(buffer));
+    }
+
+    /**
+     * Writes specified range as 2 doubles.
+     *
+     * @param buffer Buffer
+     * @param range Range
+     */
+    public static void putRange(ByteBuffer buffer, Range<?> range) {
+        buffer.putDouble(range.getMinimum().doubleValue()).putDouble(range.getMaximum().doubleValue());
+    }
+
+    /**
+     * Reads a range written by {@link VectorCodec#putRange(ByteBuffer, Range)}.
+     *
+     * @param buffer Buffer
+     * @return Range
+     */
+    public static Range<Double> getRange(ByteBuffer buffer) {
+        final double minimum = buffer.getDouble();
+        return Range.of(minimum, buffer.getDouble());
+    }
+
+    /**
+     * Writes specified range as 2 ints.
+     *
+     * @param buffer Buffer
+     * @param range Range
+     */
+    public static void putIntRange(ByteBuffer buffer, IntRange range) {
+        buffer.putInt(range.getMinimum()).putInt(range.getMaximum());
+    }
+
+    /**
+     * Reads a range written by {@link VectorCodec#putIntRange(ByteBuffer, IntRange)}.
+     *
+     * @param buffer Buffer
+     * @return Range
+     */
+    public static IntRange getIntRange(ByteBuffer buffer) {
+        final int minimum = buffer.getInt();
+        return IntRange.of(minimum, buffer.getInt());
+    }
+
+    /**
+     * Writes specified range as a variable-length minimum followed by the variable-length length of the range.
+     *
+     * @param buffer Buffer
+     * @param range Range
+     */
+    public static void putVarIntRange(ByteBuffer buffer, IntRange range) {
+        VarInt.putInt(buffer, range.getMinimum());
+        VarInt.putUnsignedInt(buffer, range.getMaximum() - range.getMinimum());
+    }
+
+    /**
+     * Reads a range written by {@link VectorCodec#putVarIntRange(ByteBuffer, IntRange)}.
+     *
+     * @param buffer Buffer
+     * @return Range
+     */
+    public static IntRange getVarIntRange(ByteBuffer buffer) {
+        final int minimum = VarInt.getInt(buffer);
+        return IntRange.of(minimum, minimum + VarInt.getUnsignedInt(buffer));
+    }
+
+    /**
+     * Writes specified range as 2 longs.
+     *
+     * @param buffer Buffer
+     * @param range Range
+     */
+    public static void putLongRange(ByteBuffer buffer, LongRange range) {
+        buffer.putLong(range.getMinimum()).putLong(range.getMaximum());
+    }
+
+    /**
+     * Reads a range written by {@link VectorCodec#putLongRange(ByteBuffer, LongRange)}.
+     *
+     * @param buffer Buffer
+     * @return Range
+     */
+    public static LongRange getLongRange(ByteBuffer buffer) {
+        final long minimum = buffer.getLong();
+        return LongRange.of(minimum, buffer.getLong());
+    }
+
+    /**
+     * Writes specified range as 2 doubles.
+     *
+     * @param buffer Buffer
+     * @param range Range
+     */
+    public static void putDoubleRange(ByteBuffer buffer, DoubleRange range) {
+        buffer.putDouble(range.getMinimum()).putDouble(range.getMaximum());
+    }
+
+    /**
+     * Reads a range written by {@link VectorCodec#putDoubleRange(ByteBuffer, DoubleRange)}.
+     *
+     * @param buffer Buffer
+     * @return Range
+     */
+    public static DoubleRange getDoubleRange(ByteBuffer buffer) {
+        final double minimum = buffer.getDouble();
+        return DoubleRange.of(minimum, buffer.getDouble());
+    }
+
+    /**
+     * Writes every position of specified buffer as doubles: the number of positions as a variable-length int,
+     * followed by every X-Axis, every Y-Axis and every Z-Axis.
+     *
+     * @param buffer Destination buffer
+     * @param positions Positions
+     */
+    public static void putVector3Buffer(ByteBuffer buffer, Vector3Buffer positions) {
+        final int size = positions.size();
+        VarInt.putUnsignedInt(buffer, size);
+        if(positions.hasArray()) {
+            putDoubles(buffer, positions.arrayX(), 0, size);
+            putDoubles(buffer, positions.arrayY(), 0, size);
+            putDoubles(buffer, positions.arrayZ(), 0, size);
+            return;
+        }
+
+        for(int i = 0; i < size; i++) {
+            buffer.putDouble(positions.getX(i));
+        }
+        for(int i = 0; i < size; i++) {
+            buffer.putDouble(positions.getY(i));
+        }
+        for(int i = 0; i < size; i++) {
+            buffer.putDouble(positions.getZ(i));
+        }
+    }
+
+    /**
+     * Reads positions written by {@link VectorCodec#putVector3Buffer(ByteBuffer, Vector3Buffer)} and appends
+     * them to specified buffer.
+     *
+     * @param buffer Source buffer
+     * @param dest Destination positions
+     * @return Number of positions read
+     */
+    public static int getVector3Buffer(ByteBuffer buffer, Vector3Buffer dest) {
+        final int size = VarInt.getUnsignedInt(buffer);
+        final int start = buffer.position();
+        // Computed as a long since the size comes from the buffer and may be corrupted
+        if(size < 0 || buffer.remaining() < (long) size * Double.BYTES * 3)
+            throw new BufferUnderflowException();
+
+        final int axis = size * Double.BYTES;
+
+        for(int i = 0; i < size; i++) {
+            final int offset = start + i * Double.BYTES;
+            dest.append(buffer.getDouble(offset), buffer.getDouble(offset + axis), buffer.getDouble(offset + 2 * axis));
+        }
+        buffer.position(start + 3 * axis);
+        return size;
+    }
+
+    /**
+     * Writes the positions stored in the specified arrays, from {@code offset} included to {@code offset + length}
+     * excluded, using the delta encoding: the number of positions as a variable-length int, followed by the
+     * difference between each position and the previous one, quantized to specified precision.
+     * Decoded positions are rounded to the nearest multiple of the precision, and rounding errors do not accumulate.
+     *
+     * @param buffer Buffer
+     * @param x X-Axis values
+     * @param y Y-Axis values
+     * @param z Z-Axis values
+     * @param offset First position index
+     * @param length Number of positions
+     * @param precision Precision, for instance {@code 1.0 / 4096}
+     */
+    public static void putDeltas(ByteBuffer buffer, double[] x, double[] y, double[] z, int offset, int length,
+                                 double precision) {
+        final double scale = scale(precision);
+        VarInt.putUnsignedInt(buffer, length);
+        long previousX = 0, previousY = 0, previousZ = 0;
+        for(int i = offset, end = offset + length; i < end; i++) {
+            final long qX = Math.round(x[i] * scale);
+            final long qY = Math.round(y[i] * scale);
+            final long qZ = Math.round(z[i] * scale);
+            VarInt.putLong(buffer, qX - previousX);
+            VarInt.putLong(buffer, qY - previousY);
+            VarInt.putLong(buffer, qZ - previousZ);
+            previousX = qX;
+            previousY = qY;
+            previousZ = qZ;
+        }
+    }
+
+    /**
+     * Reads positions written by {@link VectorCodec#putDeltas(ByteBuffer, double[], double[], double[], int, int, double)}
+     * into the specified arrays, starting at {@code offset}.
+     *
+     * @param buffer Buffer
+     * @param x X-Axis output
+     * @param y Y-Axis output
+     * @param z Z-Axis output
+     * @param offset First position index
+     * @param precision Precision used to write the positions
+     * @return Number of positions read
+     * @throws IndexOutOfBoundsException if the arrays cannot hold every position
+     * @throws BufferUnderflowException if the buffer cannot contain every position
+     */
+    public static int getDeltas(ByteBuffer buffer, double[] x, double[] y, double[] z, int offset, double precision) {
+        final double scale = scale(precision);
+        final int length = readDeltaCount(buffer, 3);
+        final int capacity = Math.min(x.length, Math.min(y.length, z.length));
+        if(length > capacity - offset)
+            throw new IndexOutOfBoundsException("Index " + ((long) offset + length - 1) + " out of bounds for size " + capacity);
+
+        final int end = offset + length;
+
+        long qX = 0, qY = 0, qZ = 0;
+        for(int i = offset; i < end; i++) {
+            qX += VarInt.getLong(buffer);
+            qY += VarInt.getLong(buffer);
+            qZ += VarInt.getLong(buffer);
+            x[i] = qX / scale;
+            y[i] = qY / scale;
+            z[i] = qZ / scale;
+        }
+        return length;
+    }
+
+    /**
+     * Writes every position of specified buffer using the delta encoding,
+     * see {@link VectorCodec#putDeltas(ByteBuffer, double[], double[], double[], int, int, double)}.
+     *
+     * @param buffer Destination buffer
+     * @param positions Positions
+     * @param precision Precision
+     */
+    public static void putDeltas(ByteBuffer buffer, Vector3Buffer positions, double precision) {
+        if(positions.hasArray()) {
+            putDeltas(buffer, positions.arrayX(), positions.arrayY(), positions.arrayZ(), 0, positions.size(), precision);
+            return;
+        }
+
+        final double scale = scale(precision);
+        VarInt.putUnsignedInt(buffer, positions.size());
+        long previousX = 0, previousY = 0, previousZ = 0;
+        for(int i = 0, size = positions.size(); i < size; i++) {
+            final long qX = Math.round(positions.getX(i) * scale);
+            final long qY = Math.round(positions.getY(i) * scale);
+            final long qZ = Math.round(positions.getZ(i) * scale);
+            VarInt.putLong(buffer, qX - previousX);
+            VarInt.putLong(buffer, qY - previousY);
+            VarInt.putLong(buffer, qZ - previousZ);
+            previousX = qX;
+            previousY = qY;
+            previousZ = qZ;
+        }
+    }
+
+    /**
+     * Reads positions written using the delta encoding and appends them to specified buffer.
+     *
+     * @param buffer Source buffer
+     * @param dest Destination positions
+     * @param precision Precision used to write the positions
+     * @return Number of positions read
+     * @throws BufferUnderflowException if the buffer cannot contain every position
+     */
+    public static int getDeltas(ByteBuffer buffer, Vector3Buffer dest, double precision) {
+        final double scale = scale(precision);
+        final int length = readDeltaCount(buffer, 3);
+        long qX = 0, qY = 0, qZ = 0;
+        for(int i = 0; i < length; i++) {
+            qX += VarInt.getLong(buffer);
+            qY += VarInt.getLong(buffer);
+            qZ += VarInt.getLong(buffer);
+            dest.append(qX / scale, qY / scale, qZ / scale);
+        }
+        return length;
+    }
+
+    /**
+     * Writes specified ints using the delta encoding: the number of values as a variable-length int, followed
+     * by the difference between each value and the previous one.
+     *
+     * @param buffer Buffer
+     * @param values Values
+     * @param offset First value index
+     * @param length Number of values
+     */
+    public static void putDeltas(ByteBuffer buffer, int[] values, int offset, int length) {
+        VarInt.putUnsignedInt(buffer, length);
+        int previous = 0;
+        for(int i = offset, end = offset + length; i < end; i++) {
+            VarInt.putInt(buffer, values[i] - previous);
+            previous = values[i];
+        }
+    }
+
+    /**
+     * Reads ints written by {@link VectorCodec#putDeltas(ByteBuffer, int[], int, int)} into specified array,
+     * starting at {@code offset}.
+     *
+     * @param buffer Buffer
+     * @param values Output
+     * @param offset First value index
+     * @return Number of values read
+     * @throws IndexOutOfBoundsException if the array cannot hold every value
+     * @throws BufferUnderflowException if the buffer cannot contain every value
+     */
+    public static int getDeltas(ByteBuffer buffer, int[] values, int offset) {
+        final int length = readDeltaCount(buffer, 1);
+        if(length > values.length - offset)
+            throw new IndexOutOfBoundsException("Index " + ((long) offset + length - 1) + " out of bounds for size " + values.length);
+
+        int value = 0;
+        for(int i = offset, end = offset + length; i < end; i++) {
+            value += VarInt.getInt(buffer);
+            values[i] = value;
+        }
+        return length;
+    }
+
+    /**
+     * Writes specified doubles through a view of the buffer, which copies them in bulk.
+     */
+    private static void putDoubles(ByteBuffer buffer, double[] values, int offset, int length) {
+        buffer.asDoubleBuffer().put(values, offset, length);
+        buffer.position(buffer.position() + length * Double.BYTES);
+    }
+
+    /**
+     * Reads the number of delta encoded elements, checking that the buffer holds at least one byte per
+     * variable-length delta before anything is decoded.
+     *
+     * @param deltas Number of deltas per element
+     * @return Number of elements
+     */
+    private static int readDeltaCount(ByteBuffer buffer, int deltas) {
+        final int length = VarInt.getUnsignedInt(buffer);
+        if(length < 0 || buffer.remaining() < (long) length * deltas)
+            throw new BufferUnderflowException();
+
+        return length;
+    }
+
+    private static double scale(double precision) {
+        if(!(precision > 0.0))
+            throw new IllegalArgumentException("Precision must be positive (" + precision + ")");
+
+        return 1.0 / precision;
+    }
+
+}
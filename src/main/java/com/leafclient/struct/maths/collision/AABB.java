@@ -0,0 +1,297 @@
+package com.leafclient.struct.maths.collision;
+
+import com.leafclient.struct.maths.vector.MutableVector3d;
+import com.leafclient.struct.maths.vector.Vector3;
+
+/**
+ * An immutable axis-aligned bounding box storing its bounds as primitive doubles.
+ *
+ * Two boxes only intersect if they overlap with a positive volume: boxes sharing a face do not intersect,
+ * and a box flat on any axis intersects no box. A position is contained by a box if it is within its bounds,
+ * both included.
+ */
+public final class AABB {
+
+    private final double minX;
+    private final double minY;
+    private final double minZ;
+    private final double maxX;
+    private final double maxY;
+    private final double maxZ;
+
+    /**
+     * Creates a box between the two specified corners, see {@link AABB#of(double, double, double, double, double, double)}.
+     */
+    AABB(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
+    }
+
+    /**
+     * Creates an {@link AABB} between the two specified corners, in any order.
+     *
+     * @param x1 First corner X-Axis
+     * @param y1 First corner Y-Axis
+     * @param z1 First corner Z-Axis
+     * @param x2 Second corner X-Axis
+     * @param y2 Second corner Y-Axis
+     * @param z2 Second corner Z-Axis
+     * @return Box
+     */
+    public static AABB of(double x1, double y1, double z1, double x2, double y2, double z2) {
+        return new AABB(
+                Math.min(x1, x2), Math.min(y1, y2), Math.min(z1, z2),
+                Math.max(x1, x2), Math.max(y1, y2), Math.max(z1, z2)
+        );
+    }
+
+    /**
+     * Creates an {@link AABB} between the two specified corners, in any order.
+     *
+     * @param first First corner
+     * @param second Second corner
+     * @return Box
+     */
+    public static AABB of(Vector3<?> first, Vector3<?> second) {
+        return of(
+                first.getX().doubleValue(), first.getY().doubleValue(), first.getZ().doubleValue(),
+                second.getX().doubleValue(), second.getY().doubleValue(), second.getZ().doubleValue()
+        );
+    }
+
+    /**
+     * @return the minimum X-Axis of this {@link AABB}
+     */
+    public double getMinX() {
+        return minX;
+    }
+
+    /**
+     * @return the minimum Y-Axis of this {@link AABB}
+     */
+    public double getMinY() {
+        return minY;
+    }
+
+    /**
+     * @return the minimum Z-Axis of this {@link AABB}
+     */
+    public double getMinZ() {
+        return minZ;
+    }
+
+    /**
+     * @return the maximum X-Axis of this {@link AABB}
+     */
+    public double getMaxX() {
+        return maxX;
+    }
+
+    /**
+     * @return the maximum Y-Axis of this {@link AABB}
+     */
+    public double getMaxY() {
+        return maxY;
+    }
+
+    /**
+     * @return the maximum Z-Axis of this {@link AABB}
+     */
+    public double getMaxZ() {
+        return maxZ;
+    }
+
+    /**
+     * @return the size of this {@link AABB} on the X-Axis
+     */
+    public double getWidth() {
+        return maxX - minX;
+    }
+
+    /**
+     * @return the size of this {@link AABB} on the Y-Axis
+     */
+    public double getHeight() {
+        return maxY - minY;
+    }
+
+    /**
+     * @return the size of this {@link AABB} on the Z-Axis
+     */
+    public double getDepth() {
+        return maxZ - minZ;
+    }
+
+    /**
+     * Writes the center of this box into specified destination.
+     *
+     * @param dest Destination
+     * @return Destination
+     */
+    public MutableVector3d getCenter(MutableVector3d dest) {
+        return dest.set((minX + maxX) * 0.5, (minY + maxY) * 0.5, (minZ + maxZ) * 0.5);
+    }
+
+    /**
+     * Returns whether specified position is within this box, bounds included.
+     *
+     * @param x X-Axis
+     * @param y Y-Axis
+     * @param z Z-Axis
+     * @return `True` if the position is contained by this box
+     */
+    public boolean contains(double x, double y, double z) {
+        return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+    }
+
+    /**
+     * Returns whether specified position is within this box, bounds included.
+     *
+     * @param position Position
+     * @return `True` if the position is contained by this box
+     */
+    public boolean contains(Vector3<?> position) {
+        return contains(position.getX().doubleValue(), position.getY().doubleValue(), position.getZ().doubleValue());
+    }
+
+    /**
+     * Returns whether specified box is entirely within this box, bounds included.
+     *
+     * @param other Other box
+     * @return `True` if the other box is contained by this box
+     */
+    public boolean contains(AABB other) {
+        return other.minX >= minX && other.maxX <= maxX
+                && other.minY >= minY && other.maxY <= maxY
+                && other.minZ >= minZ && other.maxZ <= maxZ;
+    }
+
+    /**
+     * Returns whether specified box overlaps this box with a positive volume.
+     *
+     * @param other Other box
+     * @return `True` if the boxes intersect
+     */
+    public boolean intersects(AABB other) {
+        return intersects(other.minX, other.minY, other.minZ, other.maxX, other.maxY, other.maxZ);
+    }
+
+    /**
+     * Returns whether specified box overlaps this box with a positive volume.
+     *
+     * @param minX Other minimum X-Axis
+     * @param minY Other minimum Y-Axis
+     * @param minZ Other minimum Z-Axis
+     * @param maxX Other maximum X-Axis
+     * @param maxY Other maximum Y-Axis
+     * @param maxZ Other maximum Z-Axis
+     * @return `True` if the boxes intersect
+     */
+    public boolean intersects(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        // The overlap must have a positive size on each axis, a box flat on any axis intersects nothing
+        return Math.max(this.minX, minX) < Math.min(this.maxX, maxX)
+                && Math.max(this.minY, minY) < Math.min(this.maxY, maxY)
+                && Math.max(this.minZ, minZ) < Math.min(this.maxZ, maxZ);
+    }
+
+    /**
+     * Returns the distance along specified ray to the first point of this box, see {@link Ray#intersect(AABB)}.
+     *
+     * @param ray Ray
+     * @return Distance or {@link Double#NaN} if the ray does not hit this box
+     */
+    public double intersectRay(Ray ray) {
+        return ray.intersect(this);
+    }
+
+    /**
+     * Creates a box grown by specified amount on every side.
+     *
+     * @param amount Amount, negative values shrink the box
+     * @return Expanded box
+     * @throws IllegalArgumentException if the box would be shrunk below a size of 0
+     */
+    public AABB expand(double amount) {
+        return expand(amount, amount, amount);
+    }
+
+    /**
+     * Creates a box grown by specified amounts on both sides of each axis.
+     *
+     * @param x X-Axis amount
+     * @param y Y-Axis amount
+     * @param z Z-Axis amount
+     * @return Expanded box
+     * @throws IllegalArgumentException if the box would be shrunk below a size of 0
+     */
+    public AABB expand(double x, double y, double z) {
+        final AABB expanded = new AABB(minX - x, minY - y, minZ - z, maxX + x, maxY + y, maxZ + z);
+        if(expanded.minX > expanded.maxX || expanded.minY > expanded.maxY || expanded.minZ > expanded.maxZ)
+            throw new IllegalArgumentException("Box cannot be shrunk below a size of 0 (" + expanded + ")");
+
+        return expanded;
+    }
+
+    /**
+     * Creates a box moved by specified offset.
+     *
+     * @param x X-Axis offset
+     * @param y Y-Axis offset
+     * @param z Z-Axis offset
+     * @return Moved box
+     */
+    public AABB offset(double x, double y, double z) {
+        return new AABB(minX + x, minY + y, minZ + z, maxX + x, maxY + y, maxZ + z);
+    }
+
+    /**
+     * Creates the smallest box containing this box and specified one.
+     *
+     * @param other Other box
+     * @return Union
+     */
+    public AABB union(AABB other) {
+        return new AABB(
+                Math.min(minX, other.minX), Math.min(minY, other.minY), Math.min(minZ, other.minZ),
+                Math.max(maxX, other.maxX), Math.max(maxY, other.maxY), Math.max(maxZ, other.maxZ)
+        );
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        AABB box = (AABB) o;
+        return Double.compare(minX, box.minX) == 0 && Double.compare(minY, box.minY) == 0 &&
+                Double.compare(minZ, box.minZ) == 0 && Double.compare(maxX, box.maxX) == 0 &&
+                Double.compare(maxY, box.maxY) == 0 && Double.compare(maxZ, box.maxZ) == 0;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public int hashCode() {
+        int hash = Double.hashCode(minX);
+        hash = 31 * hash + Double.hashCode(minY);
+        hash = 31 * hash + Double.hashCode(minZ);
+        hash = 31 * hash + Double.hashCode(maxX);
+        hash = 31 * hash + Double.hashCode(maxY);
+        return 31 * hash + Double.hashCode(maxZ);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public String toString() {
+        return "AABB{" + minX + ", " + minY + ", " + minZ + " -> " + maxX + ", " + maxY + ", " + maxZ + "}";
+    }
+
+}
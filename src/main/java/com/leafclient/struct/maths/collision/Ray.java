@@ -0,0 +1,295 @@
+package com.leafclient.struct.maths.collision;
+
+import com.leafclient.struct.maths.vector.MutableVector3d;
+import com.leafclient.struct.maths.vector.Vector3;
+
+import java.util.List;
+
+/**
+ * An immutable ray starting at an origin and going in a unit direction up to a maximum distance, tested against
+ * {@link AABB}s using the slab method. The inverse of the direction is computed once, so that each box costs
+ * multiplications and comparisons only.
+ *
+ * The batch queries find the nearest box hit among many, writing it into a {@link RayHit} without allocating.
+ */
+public final class Ray {
+
+    private final double originX;
+    private final double originY;
+    private final double originZ;
+    private final double directionX;
+    private final double directionY;
+    private final double directionZ;
+    private final double inverseX;
+    private final double inverseY;
+    private final double inverseZ;
+    private final double maxDistance;
+
+    private Ray(double originX, double originY, double originZ,
+                double directionX, double directionY, double directionZ, double maxDistance) {
+        final double length = Math.sqrt(directionX * directionX + directionY * directionY + directionZ * directionZ);
+        if(!(length > 0.0) || Double.isInfinite(length))
+            throw new IllegalArgumentException("Invalid direction (" + directionX + ", " + directionY + ", " + directionZ + ")");
+
+        if(!(maxDistance >= 0.0))
+            throw new IllegalArgumentException("Negative maximum distance (" + maxDistance + ")");
+
+        this.originX = originX;
+        this.originY = originY;
+        this.originZ = originZ;
+        this.directionX = directionX / length;
+        this.directionY = directionY / length;
+        this.directionZ = directionZ / length;
+        this.inverseX = 1.0 / this.directionX;
+        this.inverseY = 1.0 / this.directionY;
+        this.inverseZ = 1.0 / this.directionZ;
+        this.maxDistance = maxDistance;
+    }
+
+    /**
+     * Creates a {@link Ray}.
+     *
+     * @param originX Origin's X-Axis
+     * @param originY Origin's Y-Axis
+     * @param originZ Origin's Z-Axis
+     * @param directionX Direction's X-Axis, normalized by the ray
+     * @param directionY Direction's Y-Axis, normalized by the ray
+     * @param directionZ Direction's Z-Axis, normalized by the ray
+     * @param maxDistance Maximum distance, {@link Double#POSITIVE_INFINITY} for none
+     * @return Ray
+     */
+    public static Ray of(double originX, double originY, double originZ,
+                         double directionX, double directionY, double directionZ, double maxDistance) {
+        return new Ray(originX, originY, originZ, directionX, directionY, directionZ, maxDistance);
+    }
+
+    /**
+     * Creates a {@link Ray} going in the direction of specified rotation, using the conventions of
+     * {@link Vector3#getRotation(Vector3)}.
+     *
+     * @param origin Origin
+     * @param yaw Yaw in degrees
+     * @param pitch Pitch in degrees
+     * @param maxDistance Maximum distance, {@link Double#POSITIVE_INFINITY} for none
+     * @return Ray
+     */
+    public static Ray of(Vector3<?> origin, float yaw, float pitch, double maxDistance) {
+        final double yawRadians = Math.toRadians(yaw);
+        final double pitchRadians = Math.toRadians(pitch);
+        final double horizontal = Math.cos(pitchRadians);
+        return new Ray(
+                origin.getX().doubleValue(), origin.getY().doubleValue(), origin.getZ().doubleValue(),
+                -Math.sin(yawRadians) * horizontal, -Math.sin(pitchRadians), Math.cos(yawRadians) * horizontal,
+                maxDistance
+        );
+    }
+
+    /**
+     * @return the X-Axis of the origin of this {@link Ray}
+     */
+    public double getOriginX() {
+        return originX;
+    }
+
+    /**
+     * @return the Y-Axis of the origin of this {@link Ray}
+     */
+    public double getOriginY() {
+        return originY;
+    }
+
+    /**
+     * @return the Z-Axis of the origin of this {@link Ray}
+     */
+    public double getOriginZ() {
+        return originZ;
+    }
+
+    /**
+     * @return the X-Axis of the unit direction of this {@link Ray}
+     */
+    public double getDirectionX() {
+        return directionX;
+    }
+
+    /**
+     * @return the Y-Axis of the unit direction of this {@link Ray}
+     */
+    public double getDirectionY() {
+        return directionY;
+    }
+
+    /**
+     * @return the Z-Axis of the unit direction of this {@link Ray}
+     */
+    public double getDirectionZ() {
+        return directionZ;
+    }
+
+    /**
+     * @return the maximum distance of this {@link Ray}
+     */
+    public double getMaxDistance() {
+        return maxDistance;
+    }
+
+    /**
+     * Writes the position at specified distance along this ray into specified destination.
+     *
+     * @param distance Distance
+     * @param dest Destination
+     * @return Destination
+     */
+    public MutableVector3d getPoint(double distance, MutableVector3d dest) {
+        return dest.set(originX + directionX * distance, originY + directionY * distance, originZ + directionZ * distance);
+    }
+
+    /**
+     * Returns the distance along this ray to the first point of specified box.
+     *
+     * @param box Box
+     * @return Distance, 0 if the origin is inside the box, or {@link Double#NaN} if the ray does not hit the box
+     * within its maximum distance
+     */
+    public double intersect(AABB box) {
+        return intersect(box.getMinX(), box.getMinY(), box.getMinZ(), box.getMaxX(), box.getMaxY(), box.getMaxZ());
+    }
+
+    /**
+     * Returns the distance along this ray to the first point of specified box.
+     *
+     * @param minX Minimum X-Axis
+     * @param minY Minimum Y-Axis
+     * @param minZ Minimum Z-Axis
+     * @param maxX Maximum X-Axis
+     * @param maxY Maximum Y-Axis
+     * @param maxZ Maximum Z-Axis
+     * @return Distance, 0 if the origin is inside the box, or {@link Double#NaN} if the ray does not hit the box
+     * within its maximum distance
+     */
+    public double intersect(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        return slab(minX, minY, minZ, maxX, maxY, maxZ, maxDistance);
+    }
+
+    /**
+     * Finds the nearest box of specified list hit by this ray.
+     *
+     * @param boxes Boxes
+     * @param dest Result, receiving the index of the box in the list
+     * @return `True` if a box was hit
+     */
+    public boolean nearest(List<AABB> boxes, RayHit dest) {
+        dest.reset();
+        double limit = maxDistance;
+        for(int i = 0, size = boxes.size(); i < size; i++) {
+            final AABB box = boxes.get(i);
+            final double distance = slab(box.getMinX(), box.getMinY(), box.getMinZ(),
+                    box.getMaxX(), box.getMaxY(), box.getMaxZ(), limit);
+            if(distance == distance && (distance < limit || !dest.isHit())) {
+                dest.set(i, this, distance);
+                limit = distance;
+            }
+        }
+        return dest.isHit();
+    }
+
+    /**
+     * Finds the nearest box hit by this ray among the boxes stored in the specified arrays,
+     * from {@code offset} included to {@code offset + length} excluded.
+     *
+     * @param minX Minimum X-Axis values
+     * @param minY Minimum Y-Axis values
+     * @param minZ Minimum Z-Axis values
+     * @param maxX Maximum X-Axis values
+     * @param maxY Maximum Y-Axis values
+     * @param maxZ Maximum Z-Axis values
+     * @param offset First box index
+     * @param length Number of boxes
+     * @param dest Result, receiving the index of the box in the arrays
+     * @return `True` if a box was hit
+     */
+    public boolean nearest(double[] minX, double[] minY, double[] minZ, double[] maxX, double[] maxY, double[] maxZ,
+                           int offset, int length, RayHit dest) {
+        dest.reset();
+        double limit = maxDistance;
+        for(int i = offset, end = offset + length; i < end; i++) {
+            final double distance = slab(minX[i], minY[i], minZ[i], maxX[i], maxY[i], maxZ[i], limit);
+            if(distance == distance && (distance < limit || !dest.isHit())) {
+                dest.set(i, this, distance);
+                limit = distance;
+            }
+        }
+        return dest.isHit();
+    }
+
+    /**
+     * Finds the nearest box of specified broad phase hit by this ray.
+     *
+     * @param boxes Boxes
+     * @param dest Result, receiving the id of the box
+     * @return `True` if a box was hit
+     */
+    public boolean nearest(SweepAndPrune boxes, RayHit dest) {
+        dest.reset();
+        double limit = maxDistance;
+        for(int id = 0, end = boxes.idLimit(); id < end; id++) {
+            if(!boxes.contains(id))
+                continue;
+
+            final double distance = slab(boxes.minX[id], boxes.minY[id], boxes.minZ[id],
+                    boxes.maxX[id], boxes.maxY[id], boxes.maxZ[id], limit);
+            if(distance == distance && (distance < limit || !dest.isHit())) {
+                dest.set(id, this, distance);
+                limit = distance;
+            }
+        }
+        return dest.isHit();
+    }
+
+    /**
+     * Intersects the slabs of each axis, an axis parallel to the ray only checks that the origin is between
+     * its bounds.
+     *
+     * @param limit Maximum distance
+     * @return Entry distance or NaN
+     */
+    private double slab(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, double limit) {
+        double near = 0.0, far = limit;
+        if(directionX == 0.0) {
+            if(originX < minX || originX > maxX)
+                return Double.NaN;
+        } else {
+            final double first = (minX - originX) * inverseX, second = (maxX - originX) * inverseX;
+            near = Math.max(near, Math.min(first, second));
+            far = Math.min(far, Math.max(first, second));
+        }
+        if(directionY == 0.0) {
+            if(originY < minY || originY > maxY)
+                return Double.NaN;
+        } else {
+            final double first = (minY - originY) * inverseY, second = (maxY - originY) * inverseY;
+            near = Math.max(near, Math.min(first, second));
+            far = Math.min(far, Math.max(first, second));
+        }
+        if(directionZ == 0.0) {
+            if(originZ < minZ || originZ > maxZ)
+                return Double.NaN;
+        } else {
+            final double first = (minZ - originZ) * inverseZ, second = (maxZ - originZ) * inverseZ;
+            near = Math.max(near, Math.min(first, second));
+            far = Math.min(far, Math.max(first, second));
+        }
+        return near <= far ? near : Double.NaN;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public String toString() {
+        return "Ray{origin=" + originX + ", " + originY + ", " + originZ
+                + ", direction=" + directionX + ", " + directionY + ", " + directionZ
+                + ", maxDistance=" + maxDistance + "}";
+    }
+
+}
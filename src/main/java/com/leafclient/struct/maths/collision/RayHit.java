@@ -0,0 +1,91 @@
+package com.leafclient.struct.maths.collision;
+
+/**
+ * {@link RayHit} receives the nearest box hit by a {@link Ray}, so that batch queries can run without
+ * allocating a result.
+ *
+ * Instances are not thread-safe.
+ */
+public final class RayHit {
+
+    private int index = -1;
+    private double distance = Double.NaN;
+    private double x;
+    private double y;
+    private double z;
+
+    /**
+     * @return `True` if a box was hit
+     */
+    public boolean isHit() {
+        return index >= 0;
+    }
+
+    /**
+     * @return the index or the id of the box hit, -1 if none
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return the distance between the origin of the ray and the hit position, NaN if no box was hit
+     */
+    public double getDistance() {
+        return distance;
+    }
+
+    /**
+     * @return the X-Axis of the hit position
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * @return the Y-Axis of the hit position
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * @return the Z-Axis of the hit position
+     */
+    public double getZ() {
+        return z;
+    }
+
+    /**
+     * Sets this result to a miss.
+     *
+     * @return this {@link RayHit}
+     */
+    public RayHit reset() {
+        index = -1;
+        distance = Double.NaN;
+        x = y = z = 0.0;
+        return this;
+    }
+
+    /**
+     * Sets this result to a hit of specified box.
+     */
+    void set(int index, Ray ray, double distance) {
+        this.index = index;
+        this.distance = distance;
+        this.x = ray.getOriginX() + ray.getDirectionX() * distance;
+        this.y = ray.getOriginY() + ray.getDirectionY() * distance;
+        this.z = ray.getOriginZ() + ray.getDirectionZ() * distance;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public String toString() {
+        return isHit() ? "RayHit{index=" + index + ", distance=" + distance + ", position=" + x + ", " + y + ", " + z + "}"
+                : "RayHit{miss}";
+    }
+
+}
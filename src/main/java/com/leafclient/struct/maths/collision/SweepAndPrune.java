@@ -0,0 +1,290 @@
+package com.leafclient.struct.maths.collision;
+
+import java.util.Arrays;
+
+/**
+ * {@link SweepAndPrune} finds the pairs of intersecting {@link AABB}s among many, without testing every box
+ * against every other box.
+ *
+ * The minimum and maximum X-Axis of each box are kept as endpoints sorted along the X-Axis. Between two queries,
+ * boxes usually move a little and the endpoints stay nearly sorted, so the insertion sort restoring their order
+ * is close to linear. A sweep over the sorted endpoints then only tests the boxes overlapping on the X-Axis.
+ *
+ * Boxes are identified by the int returned when adding them, an id can be reused once its box is removed.
+ * Instances are not thread-safe.
+ */
+public final class SweepAndPrune {
+
+    double[] minX = new double[16];
+    double[] minY = new double[16];
+    double[] minZ = new double[16];
+    double[] maxX = new double[16];
+    double[] maxY = new double[16];
+    double[] maxZ = new double[16];
+    private boolean[] used = new boolean[16];
+    private int[] freeIds = new int[16];
+    private int freeCount;
+    private int idLimit;
+    private int size;
+
+    // Sorted endpoints: id << 1 for a minimum, id << 1 | 1 for a maximum
+    private int[] endpoints = new int[32];
+    private double[] values = new double[32];
+    private int endpointCount;
+
+    private int[] active = new int[16];
+    private int[] activePositions = new int[16];
+
+    /**
+     * @return the number of boxes
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param id Box id
+     * @return `True` if specified id is the id of a box
+     */
+    public boolean contains(int id) {
+        return id >= 0 && id < idLimit && used[id];
+    }
+
+    /**
+     * Adds specified box.
+     *
+     * @param box Box
+     * @return Id of the box
+     */
+    public int add(AABB box) {
+        return add(box.getMinX(), box.getMinY(), box.getMinZ(), box.getMaxX(), box.getMaxY(), box.getMaxZ());
+    }
+
+    /**
+     * Adds specified box.
+     *
+     * @param minX Minimum X-Axis
+     * @param minY Minimum Y-Axis
+     * @param minZ Minimum Z-Axis
+     * @param maxX Maximum X-Axis
+     * @param maxY Maximum Y-Axis
+     * @param maxZ Maximum Z-Axis
+     * @return Id of the box
+     */
+    public int add(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        final int id;
+        if(freeCount > 0) {
+            id = freeIds[--freeCount];
+        } else {
+            if(idLimit == used.length) {
+                grow(idLimit << 1);
+            }
+            id = idLimit++;
+        }
+        used[id] = true;
+        size++;
+        set(id, minX, minY, minZ, maxX, maxY, maxZ);
+
+        if(endpointCount + 2 > endpoints.length) {
+            endpoints = Arrays.copyOf(endpoints, endpoints.length << 1);
+            values = Arrays.copyOf(values, values.length << 1);
+        }
+        // Sorted on the next query
+        endpoints[endpointCount++] = id << 1;
+        endpoints[endpointCount++] = id << 1 | 1;
+        return id;
+    }
+
+    /**
+     * Moves the box of specified id.
+     *
+     * @param id Box id
+     * @param box New box
+     */
+    public void update(int id, AABB box) {
+        update(id, box.getMinX(), box.getMinY(), box.getMinZ(), box.getMaxX(), box.getMaxY(), box.getMaxZ());
+    }
+
+    /**
+     * Moves the box of specified id.
+     *
+     * @param id Box id
+     * @param minX Minimum X-Axis
+     * @param minY Minimum Y-Axis
+     * @param minZ Minimum Z-Axis
+     * @param maxX Maximum X-Axis
+     * @param maxY Maximum Y-Axis
+     * @param maxZ Maximum Z-Axis
+     */
+    public void update(int id, double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        check(id);
+        set(id, minX, minY, minZ, maxX, maxY, maxZ);
+    }
+
+    /**
+     * Returns the box of specified id.
+     *
+     * @param id Box id
+     * @return Box
+     */
+    public AABB get(int id) {
+        check(id);
+        return new AABB(minX[id], minY[id], minZ[id], maxX[id], maxY[id], maxZ[id]);
+    }
+
+    /**
+     * Removes the box of specified id.
+     *
+     * @param id Box id
+     */
+    public void remove(int id) {
+        check(id);
+        used[id] = false;
+        size--;
+        if(freeCount == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, freeCount << 1);
+        }
+        freeIds[freeCount++] = id;
+
+        int kept = 0;
+        for(int i = 0; i < endpointCount; i++) {
+            if(endpoints[i] >> 1 != id) {
+                endpoints[kept] = endpoints[i];
+                values[kept++] = values[i];
+            }
+        }
+        endpointCount = kept;
+    }
+
+    /**
+     * Removes every box.
+     */
+    public void clear() {
+        Arrays.fill(used, 0, idLimit, false);
+        idLimit = 0;
+        freeCount = 0;
+        size = 0;
+        endpointCount = 0;
+    }
+
+    /**
+     * Passes every pair of intersecting boxes to specified consumer, the boxes of a pair being ordered by id.
+     * The consumer must not modify this {@link SweepAndPrune}.
+     *
+     * @param consumer Consumer
+     * @return Number of pairs
+     */
+    public int findPairs(PairConsumer consumer) {
+        sort();
+        Arrays.fill(activePositions, 0, idLimit, -1);
+
+        int activeCount = 0;
+        int pairs = 0;
+        for(int i = 0; i < endpointCount; i++) {
+            final int endpoint = endpoints[i];
+            final int id = endpoint >> 1;
+            if((endpoint & 1) == 1) {
+                final int position = activePositions[id];
+                if(position >= 0) {
+                    final int last = active[--activeCount];
+                    active[position] = last;
+                    activePositions[last] = position;
+                    activePositions[id] = -1;
+                }
+                continue;
+            }
+            final double boxMinY = minY[id], boxMinZ = minZ[id], boxMaxY = maxY[id], boxMaxZ = maxZ[id];
+            // A box flat on any axis cannot intersect any box, see AABB#intersects
+            if(!(maxX[id] > minX[id] && boxMaxY > boxMinY && boxMaxZ > boxMinZ))
+                continue;
+
+            for(int j = 0; j < activeCount; j++) {
+                final int other = active[j];
+                if(boxMinY < maxY[other] && minY[other] < boxMaxY && boxMinZ < maxZ[other] && minZ[other] < boxMaxZ) {
+                    if(id < other) {
+                        consumer.accept(id, other);
+                    } else {
+                        consumer.accept(other, id);
+                    }
+                    pairs++;
+                }
+            }
+            activePositions[id] = activeCount;
+            active[activeCount++] = id;
+        }
+        return pairs;
+    }
+
+    /**
+     * @return the number of ids used so far, greater than every id
+     */
+    int idLimit() {
+        return idLimit;
+    }
+
+    /**
+     * Restores the order of the endpoints after the boxes moved: by X-Axis, maximums before minimums so that
+     * boxes sharing a face are not reported.
+     */
+    private void sort() {
+        for(int i = 0; i < endpointCount; i++) {
+            final int endpoint = endpoints[i];
+            values[i] = (endpoint & 1) == 0 ? minX[endpoint >> 1] : maxX[endpoint >> 1];
+        }
+        for(int i = 1; i < endpointCount; i++) {
+            final int endpoint = endpoints[i];
+            final double value = values[i];
+            int j = i - 1;
+            while(j >= 0 && (values[j] > value || (values[j] == value && (endpoints[j] & 1) < (endpoint & 1)))) {
+                endpoints[j + 1] = endpoints[j];
+                values[j + 1] = values[j];
+                j--;
+            }
+            endpoints[j + 1] = endpoint;
+            values[j + 1] = value;
+        }
+    }
+
+    private void set(int id, double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        this.minX[id] = Math.min(minX, maxX);
+        this.minY[id] = Math.min(minY, maxY);
+        this.minZ[id] = Math.min(minZ, maxZ);
+        this.maxX[id] = Math.max(minX, maxX);
+        this.maxY[id] = Math.max(minY, maxY);
+        this.maxZ[id] = Math.max(minZ, maxZ);
+    }
+
+    private void check(int id) {
+        if(!contains(id))
+            throw new IllegalArgumentException("Unknown or removed box (" + id + ")");
+    }
+
+    private void grow(int capacity) {
+        minX = Arrays.copyOf(minX, capacity);
+        minY = Arrays.copyOf(minY, capacity);
+        minZ = Arrays.copyOf(minZ, capacity);
+        maxX = Arrays.copyOf(maxX, capacity);
+        maxY = Arrays.copyOf(maxY, capacity);
+        maxZ = Arrays.copyOf(maxZ, capacity);
+        used = Arrays.copyOf(used, capacity);
+        active = Arrays.copyOf(active, capacity);
+        activePositions = Arrays.copyOf(activePositions, capacity);
+    }
+
+    /**
+     * Action performed on each pair of intersecting boxes found by a {@link SweepAndPrune}.
+     */
+    @FunctionalInterface
+    public interface PairConsumer {
+
+        /**
+         * Accepts specified pair.
+         *
+         * @param first Lower box id
+         * @param second Greater box id
+         */
+        void accept(int first, int second);
+
+    }
+
+}
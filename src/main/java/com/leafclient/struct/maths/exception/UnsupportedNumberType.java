@@ -4,7 +4,8 @@ import com.leafclient.struct.maths.MathOperationsHelper;
 
 /**
  * {@link MathOperationsHelper} operations are really unsafe and do not support any type of {@link Number} implementations.
- * This exception is thrown if an operation is unsupported.
+ * This exception is thrown if an operation is unsupported, custom types can be supported by registering a
+ * {@link com.leafclient.struct.maths.NumberArithmetic} using {@link MathOperationsHelper#register}.
  */
 public final class UnsupportedNumberType extends RuntimeException {
 
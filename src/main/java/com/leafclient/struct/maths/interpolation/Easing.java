@@ -0,0 +1,56 @@
+package com.leafclient.struct.maths.interpolation;
+
+/**
+ * Curves applied by the {@link InterpolationEngine} to the progress of a track.
+ */
+public enum Easing {
+
+    /**
+     * Constant speed.
+     */
+    LINEAR {
+        @Override
+        public double apply(double progress) {
+            return progress;
+        }
+    },
+
+    /**
+     * Starts slowly and accelerates, quadratic.
+     */
+    EASE_IN {
+        @Override
+        public double apply(double progress) {
+            return progress * progress;
+        }
+    },
+
+    /**
+     * Starts quickly and decelerates, quadratic.
+     */
+    EASE_OUT {
+        @Override
+        public double apply(double progress) {
+            return progress * (2.0 - progress);
+        }
+    },
+
+    /**
+     * Accelerates and then decelerates, cubic smoothstep.
+     */
+    EASE_IN_OUT {
+        @Override
+        public double apply(double progress) {
+            return progress * progress * (3.0 - 2.0 * progress);
+        }
+    };
+
+    /**
+     * Applies this curve to specified progress.
+     *
+     * @param progress Progress, between 0 and 1
+     * @return Eased progress, 0 at the start and 1 at the end
+     */
+    public abstract double apply(double progress);
+
+}
@@ -0,0 +1,415 @@
+package com.leafclient.struct.maths.interpolation;
+
+import com.leafclient.struct.maths.vector.MutableVector2d;
+import com.leafclient.struct.maths.vector.MutableVector3d;
+import com.leafclient.struct.maths.vector.Vector2;
+import com.leafclient.struct.maths.vector.Vector3;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * {@link InterpolationEngine} smoothly moves many rotations and positions towards their targets, such as aim
+ * rotations and entity positions between two server updates. Every track is stored in primitive arrays and
+ * {@link InterpolationEngine#advance(double)} moves all of them at once without allocating.
+ *
+ * Tracks are identified by the handles returned when they are added. A handle embeds a generation, so that a
+ * handle whose track has been removed is never confused with a newer track recycling the same slot.
+ * Rotation tracks interpolate their yaw along the shortest arc: going from 350 to 10 degrees passes by 360
+ * rather than 180, the interpolated yaw is therefore not normalized.
+ *
+ * Instances are not thread-safe.
+ */
+public final class InterpolationEngine {
+
+    private static final int AXES = 3;
+
+    private final boolean autoRemove;
+
+    private double[] from = new double[16 * AXES];
+    private double[] to = new double[16 * AXES];
+    private double[] current = new double[16 * AXES];
+    private double[] elapsed = new double[16];
+    private double[] durations = new double[16];
+    private Easing[] easings = new Easing[16];
+    private boolean[] rotations = new boolean[16];
+    private boolean[] active = new boolean[16];
+    // Whether the end of the track was already counted by advance
+    private boolean[] reported = new boolean[16];
+    private int[] generations = new int[16];
+
+    private int[] free = new int[16];
+    private int freeCount;
+    private int limit;
+    private int size;
+
+    /**
+     * Creates an {@link InterpolationEngine} keeping its tracks once they reached their target.
+     */
+    public InterpolationEngine() {
+        this(false);
+    }
+
+    /**
+     * Creates an {@link InterpolationEngine}.
+     *
+     * @param autoRemove `True` to remove and recycle the tracks once they reached their target
+     */
+    public InterpolationEngine(boolean autoRemove) {
+        this.autoRemove = autoRemove;
+    }
+
+    /**
+     * @return the number of tracks
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds a rotation track.
+     *
+     * @param yaw Current yaw
+     * @param pitch Current pitch
+     * @param targetYaw Target yaw
+     * @param targetPitch Target pitch
+     * @param duration Duration, in the unit given to {@link InterpolationEngine#advance(double)}
+     * @param easing Easing
+     * @return Track handle
+     */
+    public long addRotation(double yaw, double pitch, double targetYaw, double targetPitch,
+                            double duration, Easing easing) {
+        validate(duration, easing);
+        final int slot = allocate();
+        rotations[slot] = true;
+        start(slot, yaw, pitch, 0.0, targetYaw, targetPitch, 0.0, duration, easing);
+        return handle(slot);
+    }
+
+    /**
+     * Adds a rotation track.
+     *
+     * @param rotation Current rotation, X-Axis is the yaw and Y-Axis the pitch
+     * @param target Target rotation
+     * @param duration Duration, in the unit given to {@link InterpolationEngine#advance(double)}
+     * @param easing Easing
+     * @return Track handle
+     */
+    public long addRotation(Vector2<?> rotation, Vector2<?> target, double duration, Easing easing) {
+        return addRotation(
+                rotation.getX().doubleValue(), rotation.getY().doubleValue(),
+                target.getX().doubleValue(), target.getY().doubleValue(),
+                duration, easing
+        );
+    }
+
+    /**
+     * Adds a position track.
+     *
+     * @param position Current position
+     * @param target Target position
+     * @param duration Duration, in the unit given to {@link InterpolationEngine#advance(double)}
+     * @param easing Easing
+     * @return Track handle
+     */
+    public long addPosition(Vector3<?> position, Vector3<?> target, double duration, Easing easing) {
+        return addPosition(
+                position.getX().doubleValue(), position.getY().doubleValue(), position.getZ().doubleValue(),
+                target.getX().doubleValue(), target.getY().doubleValue(), target.getZ().doubleValue(),
+                duration, easing
+        );
+    }
+
+    /**
+     * Adds a position track.
+     *
+     * @param x Current X-Axis
+     * @param y Current Y-Axis
+     * @param z Current Z-Axis
+     * @param targetX Target X-Axis
+     * @param targetY Target Y-Axis
+     * @param targetZ Target Z-Axis
+     * @param duration Duration, in the unit given to {@link InterpolationEngine#advance(double)}
+     * @param easing Easing
+     * @return Track handle
+     */
+    public long addPosition(double x, double y, double z, double targetX, double targetY, double targetZ,
+                            double duration, Easing easing) {
+        validate(duration, easing);
+        final int slot = allocate();
+        rotations[slot] = false;
+        start(slot, x, y, z, targetX, targetY, targetZ, duration, easing);
+        return handle(slot);
+    }
+
+    /**
+     * Restarts specified rotation track from its current rotation towards a new target.
+     *
+     * @param handle Track handle
+     * @param targetYaw Target yaw
+     * @param targetPitch Target pitch
+     * @param duration Duration
+     */
+    public void retargetRotation(long handle, double targetYaw, double targetPitch, double duration) {
+        final int slot = slot(handle);
+        if(!rotations[slot])
+            throw new IllegalArgumentException("Track is not a rotation");
+
+        final int base = slot * AXES;
+        start(slot, current[base], current[base + 1], 0.0, targetYaw, targetPitch, 0.0, duration, easings[slot]);
+    }
+
+    /**
+     * Restarts specified position track from its current position towards a new target.
+     *
+     * @param handle Track handle
+     * @param targetX Target X-Axis
+     * @param targetY Target Y-Axis
+     * @param targetZ Target Z-Axis
+     * @param duration Duration
+     */
+    public void retargetPosition(long handle, double targetX, double targetY, double targetZ, double duration) {
+        final int slot = slot(handle);
+        if(rotations[slot])
+            throw new IllegalArgumentException("Track is not a position");
+
+        final int base = slot * AXES;
+        start(
+                slot, current[base], current[base + 1], current[base + 2],
+                targetX, targetY, targetZ, duration, easings[slot]
+        );
+    }
+
+    /**
+     * Removes specified track, its handle becomes invalid.
+     *
+     * @param handle Track handle
+     * @return `True` if the track existed
+     */
+    public boolean remove(long handle) {
+        if(!contains(handle))
+            return false;
+
+        release((int) handle);
+        return true;
+    }
+
+    /**
+     * Removes every track, every handle becomes invalid.
+     */
+    public void clear() {
+        for(int slot = 0; slot < limit; slot++) {
+            if(active[slot]) {
+                release(slot);
+            }
+        }
+    }
+
+    /**
+     * @param handle Track handle
+     * @return `True` if specified handle identifies a track of this engine
+     */
+    public boolean contains(long handle) {
+        final int slot = (int) handle;
+        return slot >= 0 && slot < limit && active[slot] && generations[slot] == (int) (handle >>> 32);
+    }
+
+    /**
+     * @param handle Track handle
+     * @return `True` if specified track reached its target
+     */
+    public boolean isFinished(long handle) {
+        final int slot = slot(handle);
+        return elapsed[slot] >= durations[slot];
+    }
+
+    /**
+     * Advances every track by specified time and updates their current values.
+     * Finished tracks are removed if this engine was created with auto removal, including the tracks started
+     * with a duration of 0.
+     *
+     * @param delta Elapsed time, in the unit of the durations
+     * @return Number of tracks which reached their target during this call
+     */
+    public int advance(double delta) {
+        int finished = 0;
+        for(int slot = 0; slot < limit; slot++) {
+            if(!active[slot])
+                continue;
+
+            if(reported[slot])
+                continue;
+
+            final double duration = durations[slot];
+            final double time = elapsed[slot] + delta;
+            elapsed[slot] = time;
+            final int base = slot * AXES;
+            if(time >= duration) {
+                reported[slot] = true;
+                current[base] = to[base];
+                current[base + 1] = to[base + 1];
+                current[base + 2] = to[base + 2];
+                finished++;
+                if(autoRemove) {
+                    release(slot);
+                }
+                continue;
+            }
+
+            final double progress = easings[slot].apply(time / duration);
+            current[base] = from[base] + (to[base] - from[base]) * progress;
+            current[base + 1] = from[base + 1] + (to[base + 1] - from[base + 1]) * progress;
+            current[base + 2] = from[base + 2] + (to[base + 2] - from[base + 2]) * progress;
+        }
+        return finished;
+    }
+
+    /**
+     * Writes the current rotation of specified track into specified destination.
+     *
+     * @param handle Track handle
+     * @param dest Destination, X-Axis is the yaw and Y-Axis the pitch
+     * @return Destination
+     */
+    public MutableVector2d getRotation(long handle, MutableVector2d dest) {
+        final int base = slot(handle) * AXES;
+        return dest.set(current[base], current[base + 1]);
+    }
+
+    /**
+     * Writes the current position of specified track into specified destination.
+     *
+     * @param handle Track handle
+     * @param dest Destination
+     * @return Destination
+     */
+    public MutableVector3d getPosition(long handle, MutableVector3d dest) {
+        final int base = slot(handle) * AXES;
+        return dest.set(current[base], current[base + 1], current[base + 2]);
+    }
+
+    /**
+     * @param handle Track handle
+     * @return the current X-Axis, or yaw, of specified track
+     */
+    public double getX(long handle) {
+        return current[slot(handle) * AXES];
+    }
+
+    /**
+     * @param handle Track handle
+     * @return the current Y-Axis, or pitch, of specified track
+     */
+    public double getY(long handle) {
+        return current[slot(handle) * AXES + 1];
+    }
+
+    /**
+     * @param handle Track handle
+     * @return the current Z-Axis of specified track, 0 for rotations
+     */
+    public double getZ(long handle) {
+        return current[slot(handle) * AXES + 2];
+    }
+
+    private void start(int slot, double x, double y, double z, double targetX, double targetY, double targetZ,
+                       double duration, Easing easing) {
+        validate(duration, easing);
+
+        if(rotations[slot]) {
+            // Shortest arc, the target yaw is moved next to the current one
+            targetX = x + wrapDegrees(targetX - x);
+        }
+
+        final int base = slot * AXES;
+        from[base] = current[base] = x;
+        from[base + 1] = current[base + 1] = y;
+        from[base + 2] = current[base + 2] = z;
+        to[base] = targetX;
+        to[base + 1] = targetY;
+        to[base + 2] = targetZ;
+        elapsed[slot] = 0.0;
+        reported[slot] = false;
+        durations[slot] = duration;
+        easings[slot] = easing;
+        if(duration == 0.0) {
+            current[base] = targetX;
+            current[base + 1] = targetY;
+            current[base + 2] = targetZ;
+        }
+    }
+
+    /**
+     * Checks the parameters of a track before its slot is allocated, so that an invalid track does not leak it.
+     */
+    private static void validate(double duration, Easing easing) {
+        if(!(duration >= 0.0))
+            throw new IllegalArgumentException("Duration must be positive (" + duration + ")");
+
+        Objects.requireNonNull(easing);
+    }
+
+    private int allocate() {
+        final int slot;
+        if(freeCount > 0) {
+            slot = free[--freeCount];
+        } else {
+            if(limit == active.length) {
+                grow(limit << 1);
+            }
+            slot = limit++;
+        }
+        active[slot] = true;
+        size++;
+        return slot;
+    }
+
+    private void release(int slot) {
+        active[slot] = false;
+        easings[slot] = null;
+        generations[slot]++;
+        if(freeCount == free.length) {
+            free = Arrays.copyOf(free, freeCount << 1);
+        }
+        free[freeCount++] = slot;
+        size--;
+    }
+
+    private void grow(int capacity) {
+        from = Arrays.copyOf(from, capacity * AXES);
+        to = Arrays.copyOf(to, capacity * AXES);
+        current = Arrays.copyOf(current, capacity * AXES);
+        elapsed = Arrays.copyOf(elapsed, capacity);
+        durations = Arrays.copyOf(durations, capacity);
+        easings = Arrays.copyOf(easings, capacity);
+        rotations = Arrays.copyOf(rotations, capacity);
+        active = Arrays.copyOf(active, capacity);
+        reported = Arrays.copyOf(reported, capacity);
+        generations = Arrays.copyOf(generations, capacity);
+    }
+
+    private long handle(int slot) {
+        return (long) generations[slot] << 32 | slot;
+    }
+
+    private int slot(long handle) {
+        if(!contains(handle))
+            throw new IllegalArgumentException("Unknown or removed track (" + handle + ")");
+
+        return (int) handle;
+    }
+
+    /**
+     * @return specified angle, in degrees, between -180 included and 180 excluded
+     */
+    private static double wrapDegrees(double angle) {
+        angle %= 360.0;
+        if(angle >= 180.0) {
+            angle -= 360.0;
+        } else if(angle < -180.0) {
+            angle += 360.0;
+        }
+        return angle;
+    }
+
+}
@@ -0,0 +1,177 @@
+package com.leafclient.struct.maths.metrics;
+
+import com.leafclient.struct.maths.MathOperationsHelper;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link MathMetrics} counts the operations dispatched by the {@link MathOperationsHelper} and the generic vectors,
+ * by {@link MathOperation} and by number type, along with the {@link com.leafclient.struct.maths.exception.UnsupportedNumberType}
+ * thrown and sampled latency histograms. High counts point at callers that should move to the primitive types.
+ *
+ * Metrics are disabled by default and enabled by starting the JVM with {@code -Dstruct.metrics=true}.
+ * When disabled, {@link MathMetrics#ENABLED} is a constant false and the instrumentation is removed by the JIT.
+ * When enabled, one operation out of {@code struct.metrics.sampling} (1024 by default, 0 to disable) is timed,
+ * and the metrics are registered as a {@link MathMetricsMXBean} named {@link MathMetrics#OBJECT_NAME}.
+ *
+ * Every method is thread-safe.
+ */
+public final class MathMetrics {
+
+    /**
+     * Whether the metrics are collected.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("struct.metrics");
+
+    /**
+     * Name of the registered {@link MathMetricsMXBean}.
+     */
+    public static final String OBJECT_NAME = "com.leafclient.struct:type=MathMetrics";
+
+    /**
+     * Number of buckets of the latency histograms.
+     */
+    public static final int LATENCY_BUCKETS = 64;
+
+    private static final int SAMPLING_INTERVAL = Integer.highestOneBit(Math.max(0, Integer.getInteger("struct.metrics.sampling", 1024)));
+
+    private static final MathOperation[] OPERATIONS = MathOperation.values();
+    private static final LongAdder[] OPERATION_COUNTS = new LongAdder[OPERATIONS.length];
+    private static final AtomicLongArray[] LATENCIES = new AtomicLongArray[OPERATIONS.length];
+    private static final Map<Class<?>, LongAdder> TYPE_COUNTS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, LongAdder> UNSUPPORTED_TYPE_COUNTS = new ConcurrentHashMap<>();
+
+    private static final ClassValue<LongAdder> TYPE_COUNTERS = new ClassValue<LongAdder>() {
+        @Override
+        protected LongAdder computeValue(Class<?> type) {
+            return TYPE_COUNTS.computeIfAbsent(type, ignored -> new LongAdder());
+        }
+    };
+
+    static {
+        for(int i = 0; i < OPERATIONS.length; i++) {
+            OPERATION_COUNTS[i] = new LongAdder();
+            LATENCIES[i] = new AtomicLongArray(LATENCY_BUCKETS);
+        }
+        if(ENABLED) {
+            register();
+        }
+    }
+
+    private MathMetrics() {
+    }
+
+    /**
+     * Counts an operation on specified number type and decides whether it is timed.
+     * Must only be called when {@link MathMetrics#ENABLED}.
+     *
+     * @param operation Operation
+     * @param type Number type
+     * @return Start time to give to {@link MathMetrics#end(MathOperation, long)}, 0 if the operation is not sampled
+     */
+    public static long start(MathOperation operation, Class<?> type) {
+        OPERATION_COUNTS[operation.ordinal()].increment();
+        TYPE_COUNTERS.get(type).increment();
+        if(SAMPLING_INTERVAL == 0 || (ThreadLocalRandom.current().nextInt() & (SAMPLING_INTERVAL - 1)) != 0)
+            return 0L;
+
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the latency of an operation started using {@link MathMetrics#start(MathOperation, Class)}.
+     *
+     * @param operation Operation
+     * @param start Start time
+     */
+    public static void end(MathOperation operation, long start) {
+        if(start == 0L)
+            return;
+
+        final long elapsed = System.nanoTime() - start;
+        LATENCIES[operation.ordinal()].incrementAndGet(63 - Long.numberOfLeadingZeros(Math.max(1L, elapsed)));
+    }
+
+    /**
+     * Counts an operation on specified number type without timing it.
+     * Must only be called when {@link MathMetrics#ENABLED}.
+     *
+     * @param operation Operation
+     * @param type Number type
+     */
+    public static void count(MathOperation operation, Class<?> type) {
+        OPERATION_COUNTS[operation.ordinal()].increment();
+        TYPE_COUNTERS.get(type).increment();
+    }
+
+    /**
+     * Counts an {@link com.leafclient.struct.maths.exception.UnsupportedNumberType} thrown for specified type.
+     * Must only be called when {@link MathMetrics#ENABLED}.
+     *
+     * @param type Number type
+     */
+    public static void unsupported(Class<?> type) {
+        UNSUPPORTED_TYPE_COUNTS.computeIfAbsent(type, ignored -> new LongAdder()).increment();
+    }
+
+    /**
+     * @return the current values of the metrics
+     */
+    public static MathMetricsSnapshot snapshot() {
+        final long[] operationCounts = new long[OPERATIONS.length];
+        final long[][] latencies = new long[OPERATIONS.length][LATENCY_BUCKETS];
+        for(int i = 0; i < OPERATIONS.length; i++) {
+            operationCounts[i] = OPERATION_COUNTS[i].sum();
+            for(int bucket = 0; bucket < LATENCY_BUCKETS; bucket++) {
+                latencies[i][bucket] = LATENCIES[i].get(bucket);
+            }
+        }
+        return new MathMetricsSnapshot(operationCounts, sums(TYPE_COUNTS), sums(UNSUPPORTED_TYPE_COUNTS), latencies);
+    }
+
+    /**
+     * Resets every metric to zero.
+     */
+    public static void reset() {
+        for(int i = 0; i < OPERATIONS.length; i++) {
+            OPERATION_COUNTS[i].reset();
+            for(int bucket = 0; bucket < LATENCY_BUCKETS; bucket++) {
+                LATENCIES[i].set(bucket, 0L);
+            }
+        }
+        TYPE_COUNTS.values().forEach(LongAdder::reset);
+        UNSUPPORTED_TYPE_COUNTS.values().forEach(LongAdder::reset);
+    }
+
+    /**
+     * @return the number of operations between two latency samples, 0 if latencies are not sampled
+     */
+    public static int getSamplingInterval() {
+        return SAMPLING_INTERVAL;
+    }
+
+    private static Map<Class<?>, Long> sums(Map<Class<?>, LongAdder> counters) {
+        final Map<Class<?>, Long> sums = new HashMap<>();
+        counters.forEach((type, counter) -> sums.put(type, counter.sum()));
+        return sums;
+    }
+
+    /**
+     * Registers the {@link MathMetricsMXBean} in the platform MBean server, ignored if it is not available.
+     */
+    private static void register() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new MathMetricsBean(), new ObjectName(OBJECT_NAME));
+        } catch (Exception | LinkageError ignored) {
+            // Metrics stay readable through MathMetrics#snapshot()
+        }
+    }
+
+}
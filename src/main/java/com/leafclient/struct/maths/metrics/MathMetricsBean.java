@@ -0,0 +1,86 @@
+package com.leafclient.struct.maths.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link MathMetricsMXBean} implementation reading the {@link MathMetrics}.
+ */
+final class MathMetricsBean implements MathMetricsMXBean {
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public boolean isEnabled() {
+        return MathMetrics.ENABLED;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public int getSamplingInterval() {
+        return MathMetrics.getSamplingInterval();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Map<String, Long> getOperationCounts() {
+        final MathMetricsSnapshot snapshot = MathMetrics.snapshot();
+        final Map<String, Long> counts = new HashMap<>();
+        for(MathOperation operation: MathOperation.values()) {
+            counts.put(operation.name(), snapshot.getOperationCount(operation));
+        }
+        return counts;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Map<String, Long> getTypeCounts() {
+        return byName(MathMetrics.snapshot().getTypeCounts());
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Map<String, Long> getUnsupportedTypeCounts() {
+        return byName(MathMetrics.snapshot().getUnsupportedTypeCounts());
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public long getUnsupportedTypeCount() {
+        return MathMetrics.snapshot().getUnsupportedTypeCount();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public long[] getLatencyHistogram(String operation) {
+        return MathMetrics.snapshot().getLatencyHistogram(MathOperation.valueOf(operation));
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void reset() {
+        MathMetrics.reset();
+    }
+
+    private static Map<String, Long> byName(Map<Class<?>, Long> counts) {
+        final Map<String, Long> named = new HashMap<>();
+        counts.forEach((type, count) -> named.merge(type.getName(), count, Long::sum));
+        return named;
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.leafclient.struct.maths.metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface of the {@link MathMetrics}, registered as {@link MathMetrics#OBJECT_NAME}.
+ */
+public interface MathMetricsMXBean {
+
+    /**
+     * @return `True` if the metrics are collected
+     */
+    boolean isEnabled();
+
+    /**
+     * @return the number of operations between two latency samples, 0 if latencies are not sampled
+     */
+    int getSamplingInterval();
+
+    /**
+     * @return the number of calls by {@link MathOperation} name
+     */
+    Map<String, Long> getOperationCounts();
+
+    /**
+     * @return the number of dispatched operations by number type name
+     */
+    Map<String, Long> getTypeCounts();
+
+    /**
+     * @return the number of {@link com.leafclient.struct.maths.exception.UnsupportedNumberType} thrown by number
+     * type name
+     */
+    Map<String, Long> getUnsupportedTypeCounts();
+
+    /**
+     * @return the total number of {@link com.leafclient.struct.maths.exception.UnsupportedNumberType} thrown
+     */
+    long getUnsupportedTypeCount();
+
+    /**
+     * Returns the sampled latencies of specified operation, see {@link MathMetricsSnapshot#getLatencyHistogram}.
+     *
+     * @param operation {@link MathOperation} name
+     * @return Number of samples by bucket
+     */
+    long[] getLatencyHistogram(String operation);
+
+    /**
+     * Resets every metric to zero.
+     */
+    void reset();
+
+}
@@ -0,0 +1,72 @@
+package com.leafclient.struct.maths.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * {@link MathMetricsSnapshot} holds the values of the {@link MathMetrics} at a given time,
+ * see {@link MathMetrics#snapshot()}.
+ */
+public final class MathMetricsSnapshot {
+
+    private final long[] operationCounts;
+    private final Map<Class<?>, Long> typeCounts;
+    private final Map<Class<?>, Long> unsupportedTypeCounts;
+    private final long[][] latencyHistograms;
+
+    MathMetricsSnapshot(long[] operationCounts, Map<Class<?>, Long> typeCounts,
+                        Map<Class<?>, Long> unsupportedTypeCounts, long[][] latencyHistograms) {
+        this.operationCounts = operationCounts;
+        this.typeCounts = Collections.unmodifiableMap(typeCounts);
+        this.unsupportedTypeCounts = Collections.unmodifiableMap(unsupportedTypeCounts);
+        this.latencyHistograms = latencyHistograms;
+    }
+
+    /**
+     * Returns the number of calls of specified operation.
+     *
+     * @param operation Operation
+     * @return Number of calls
+     */
+    public long getOperationCount(MathOperation operation) {
+        return operationCounts[operation.ordinal()];
+    }
+
+    /**
+     * @return the number of dispatched operations by number type
+     */
+    public Map<Class<?>, Long> getTypeCounts() {
+        return typeCounts;
+    }
+
+    /**
+     * @return the number of {@link com.leafclient.struct.maths.exception.UnsupportedNumberType} thrown by number type
+     */
+    public Map<Class<?>, Long> getUnsupportedTypeCounts() {
+        return unsupportedTypeCounts;
+    }
+
+    /**
+     * @return the total number of {@link com.leafclient.struct.maths.exception.UnsupportedNumberType} thrown
+     */
+    public long getUnsupportedTypeCount() {
+        long count = 0;
+        for(long typeCount: unsupportedTypeCounts.values()) {
+            count += typeCount;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the sampled latencies of specified operation: the bucket {@code i} counts the samples that took
+     * between {@code 2^i} included and {@code 2^(i+1)} excluded nanoseconds, the first bucket also counting
+     * the samples under one nanosecond.
+     *
+     * @param operation Operation
+     * @return Number of samples by bucket, an array of {@link MathMetrics#LATENCY_BUCKETS} values
+     */
+    public long[] getLatencyHistogram(MathOperation operation) {
+        return latencyHistograms[operation.ordinal()].clone();
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.leafclient.struct.maths.metrics;
+
+/**
+ * Operations counted by the {@link MathMetrics}.
+ */
+public enum MathOperation {
+
+    /**
+     * {@link com.leafclient.struct.maths.NumberArithmetic#add}, dispatched on the number type.
+     */
+    ADD,
+
+    /**
+     * {@link com.leafclient.struct.maths.NumberArithmetic#subtract}, dispatched on the number type.
+     */
+    SUBTRACT,
+
+    /**
+     * {@link com.leafclient.struct.maths.NumberArithmetic#multiplication}, dispatched on the number type.
+     */
+    MULTIPLICATION,
+
+    /**
+     * {@link com.leafclient.struct.maths.NumberArithmetic#division}, dispatched on the number type.
+     */
+    DIVISION,
+
+    /**
+     * {@link com.leafclient.struct.maths.NumberArithmetic#round}, dispatched on the number type.
+     */
+    ROUND,
+
+    /**
+     * {@link com.leafclient.struct.maths.NumberArithmetic#cast}, dispatched on the number type.
+     */
+    CAST,
+
+    /**
+     * Addition of two generic {@link com.leafclient.struct.maths.vector.Vector2} or
+     * {@link com.leafclient.struct.maths.vector.Vector3}.
+     */
+    VECTOR_PLUS,
+
+    /**
+     * Subtraction of two generic {@link com.leafclient.struct.maths.vector.Vector2} or
+     * {@link com.leafclient.struct.maths.vector.Vector3}.
+     */
+    VECTOR_MINUS,
+
+    /**
+     * Multiplication of two generic {@link com.leafclient.struct.maths.vector.Vector2} or
+     * {@link com.leafclient.struct.maths.vector.Vector3}.
+     */
+    VECTOR_MULTIPLY,
+
+    /**
+     * Distance between two generic {@link com.leafclient.struct.maths.vector.Vector2} or
+     * {@link com.leafclient.struct.maths.vector.Vector3}.
+     */
+    VECTOR_DISTANCE,
+
+    /**
+     * Rotation between two generic {@link com.leafclient.struct.maths.vector.Vector3}.
+     */
+    VECTOR_ROTATION
+
+}
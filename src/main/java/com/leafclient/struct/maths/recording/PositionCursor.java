@@ -0,0 +1,200 @@
+package com.leafclient.struct.maths.recording;
+
+import com.leafclient.struct.maths.vector.MutableVector3d;
+
+import java.nio.MappedByteBuffer;
+
+/**
+ * {@link PositionCursor} reads the records of a {@link PositionRecorder} in place: the cursor points to
+ * a record and its getters read the mapped segment directly, without copying the record.
+ * Records appended after the creation of the cursor are visible to it.
+ *
+ * Instances are not thread-safe, each reading thread should use its own cursor.
+ */
+public final class PositionCursor {
+
+    private final PositionRecorder recorder;
+    private final int segmentRecords;
+
+    private long index = -1;
+    private MappedByteBuffer segment;
+    private int offset;
+
+    PositionCursor(PositionRecorder recorder) {
+        this.recorder = recorder;
+        this.segmentRecords = recorder.getSegmentRecords();
+    }
+
+    /**
+     * @return the index of the record this cursor points to, -1 before the first record
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    /**
+     * @return `True` if a record follows the one this cursor points to
+     */
+    public boolean hasNext() {
+        return index + 1 < recorder.size();
+    }
+
+    /**
+     * Moves this cursor to the next record.
+     *
+     * @return `True` if the cursor points to a record, false if every record was read
+     */
+    public boolean next() {
+        if(index + 1 >= recorder.size())
+            return false;
+
+        moveTo(index + 1);
+        return true;
+    }
+
+    /**
+     * Moves this cursor to specified record.
+     *
+     * @param index Record index
+     * @return this {@link PositionCursor}
+     * @throws IndexOutOfBoundsException if the record is not readable
+     */
+    public PositionCursor moveTo(long index) {
+        final long size = recorder.size();
+        if(index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+
+        // Segments are read after the size, which is published after them
+        this.segment = recorder.segments()[(int) (index / segmentRecords)];
+        this.offset = PositionRecorder.offset((int) (index % segmentRecords));
+        this.index = index;
+        return this;
+    }
+
+    /**
+     * Moves this cursor before the first record whose tick is greater than or equal to specified tick,
+     * so that the following {@link PositionCursor#next()} reads it.
+     *
+     * @param tick Tick
+     * @return `True` if a record of specified tick exists
+     */
+    public boolean seek(long tick) {
+        final long size = recorder.size();
+        final long first = lowerBound(tick, size);
+        rewind(first);
+        return first < size && tickAt(first) == tick;
+    }
+
+    /**
+     * Moves this cursor to the record of specified entity at specified tick.
+     * The records of the tick are scanned in the order they were appended.
+     *
+     * @param tick Tick
+     * @param entityId Entity id
+     * @return `True` if the record exists, otherwise the cursor is moved before the first record
+     * of a greater tick
+     */
+    public boolean seek(long tick, int entityId) {
+        if(!seek(tick))
+            return false;
+
+        while(next()) {
+            if(getTick() != tick) {
+                rewind(index);
+                return false;
+            }
+            if(getEntityId() == entityId)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Moves this cursor before the first record.
+     */
+    public void rewind() {
+        rewind(0);
+    }
+
+    /**
+     * @return the tick of the record
+     */
+    public long getTick() {
+        return segment().getLong(offset + PositionRecorder.TICK_OFFSET);
+    }
+
+    /**
+     * @return the entity id of the record
+     */
+    public int getEntityId() {
+        return segment().getInt(offset + PositionRecorder.ENTITY_OFFSET);
+    }
+
+    /**
+     * @return the X-Axis of the record
+     */
+    public double getX() {
+        return segment().getDouble(offset + PositionRecorder.X_OFFSET);
+    }
+
+    /**
+     * @return the Y-Axis of the record
+     */
+    public double getY() {
+        return segment().getDouble(offset + PositionRecorder.Y_OFFSET);
+    }
+
+    /**
+     * @return the Z-Axis of the record
+     */
+    public double getZ() {
+        return segment().getDouble(offset + PositionRecorder.Z_OFFSET);
+    }
+
+    /**
+     * Sets specified vector to the position of the record.
+     *
+     * @param dest Destination vector
+     * @return Destination vector
+     */
+    public MutableVector3d getPosition(MutableVector3d dest) {
+        return dest.set(getX(), getY(), getZ());
+    }
+
+    private MappedByteBuffer segment() {
+        if(segment == null)
+            throw new IllegalStateException("Cursor does not point to a record");
+
+        return segment;
+    }
+
+    /**
+     * Moves this cursor before specified record.
+     */
+    private void rewind(long index) {
+        this.index = index - 1;
+        this.segment = null;
+    }
+
+    /**
+     * @return the index of the first record whose tick is greater than or equal to specified tick
+     */
+    private long lowerBound(long tick, long size) {
+        long low = 0, high = size;
+        while(low < high) {
+            final long middle = (low + high) >>> 1;
+            if(tickAt(middle) < tick) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private long tickAt(long index) {
+        final MappedByteBuffer segment = recorder.segments()[(int) (index / segmentRecords)];
+        return segment.getLong(PositionRecorder.offset((int) (index % segmentRecords)) + PositionRecorder.TICK_OFFSET);
+    }
+
+}
@@ -0,0 +1,319 @@
+package com.leafclient.struct.maths.recording;
+
+import com.leafclient.struct.maths.vector.Vector3;
+import com.leafclient.struct.maths.vector.Vector3d;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link PositionRecorder} appends the position of entities at each tick to memory-mapped segment files,
+ * for replays and movement analysis.
+ *
+ * Each record is a fixed-width {@link PositionRecorder#RECORD_BYTES} bytes entry holding the tick, the entity id
+ * and the 3 axises of the position. Records are written in segment files of a fixed number of records, mapped
+ * using {@link FileChannel#map(FileChannel.MapMode, long, long)}: appending a record only writes to memory and
+ * the operating system writes the pages back to the file, unless {@link PositionRecorder#force()} is called.
+ * When a segment is full, the recorder rolls over to a new one. Ticks must be appended in increasing order,
+ * which allows {@link PositionCursor} to seek a tick using a binary search.
+ *
+ * Appends must be made by a single writer thread and do not lock. Any number of threads can read
+ * the appended records at the same time through their own {@link PositionCursor}: a record is visible
+ * to the readers once it is fully written.
+ *
+ * Opening a directory containing segments continues the recording after its last record.
+ */
+public final class PositionRecorder implements Closeable {
+
+    /**
+     * Size of a record in bytes: the tick, the entity id, 4 reserved bytes and the 3 axises.
+     */
+    public static final int RECORD_BYTES = 40;
+
+    /**
+     * Default number of records of a segment, about 40 MB.
+     */
+    public static final int DEFAULT_SEGMENT_RECORDS = 1 << 20;
+
+    static final int TICK_OFFSET = 0;
+    static final int ENTITY_OFFSET = 8;
+    static final int X_OFFSET = 16;
+    static final int Y_OFFSET = 24;
+    static final int Z_OFFSET = 32;
+
+    private static final int MAGIC = 0x53505253;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 64;
+    private static final int HEADER_CAPACITY = 8;
+    private static final int HEADER_FIRST_RECORD = 16;
+    private static final int HEADER_COUNT = 24;
+    private static final String SEGMENT_SUFFIX = ".positions";
+
+    private final Path directory;
+    private final int segmentRecords;
+
+    /**
+     * Mapped segments, replaced by a larger copy when rolling over before any record of the new segment
+     * is committed.
+     */
+    private volatile MappedByteBuffer[] segments;
+
+    /**
+     * Number of records readable, written with {@link AtomicLong#lazySet(long)} after each record.
+     */
+    private final AtomicLong committed = new AtomicLong();
+
+    private MappedByteBuffer current;
+    private int currentCount;
+    private int unforced;
+    private long lastTick = Long.MIN_VALUE;
+    private volatile boolean closed;
+
+    private PositionRecorder(Path directory, int segmentRecords, List<MappedByteBuffer> segments, long size) {
+        this.directory = directory;
+        this.segmentRecords = segmentRecords;
+        this.segments = segments.toArray(new MappedByteBuffer[0]);
+        this.committed.set(size);
+        if(!segments.isEmpty()) {
+            this.current = segments.get(segments.size() - 1);
+            this.unforced = segments.size() - 1;
+            this.currentCount = (int) (size - (long) (segments.size() - 1) * segmentRecords);
+            if(currentCount > 0) {
+                this.lastTick = current.getLong(offset(currentCount - 1) + TICK_OFFSET);
+            }
+        }
+    }
+
+    /**
+     * Opens a {@link PositionRecorder} writing to specified directory, using segments of
+     * {@link PositionRecorder#DEFAULT_SEGMENT_RECORDS} records.
+     *
+     * @param directory Directory of the segments, created if needed
+     * @return Recorder
+     * @throws IOException if the directory cannot be read or a segment is corrupted
+     */
+    public static PositionRecorder open(Path directory) throws IOException {
+        return open(directory, DEFAULT_SEGMENT_RECORDS);
+    }
+
+    /**
+     * Opens a {@link PositionRecorder} writing to specified directory.
+     * If the directory already contains segments, their number of records is kept instead of the specified one.
+     *
+     * @param directory Directory of the segments, created if needed
+     * @param segmentRecords Number of records of a segment
+     * @return Recorder
+     * @throws IOException if the directory cannot be read or a segment is corrupted
+     */
+    public static PositionRecorder open(Path directory, int segmentRecords) throws IOException {
+        if(segmentRecords <= 0 || (long) segmentRecords * RECORD_BYTES + HEADER_BYTES > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Invalid number of records per segment (" + segmentRecords + ")");
+
+        Files.createDirectories(directory);
+        final List<Path> paths = new ArrayList<>();
+        try(DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SEGMENT_SUFFIX)) {
+            for(Path path: stream) {
+                paths.add(path);
+            }
+        }
+        Collections.sort(paths);
+
+        final List<MappedByteBuffer> segments = new ArrayList<>(paths.size());
+        long size = 0;
+        for(int i = 0; i < paths.size(); i++) {
+            final long length = Files.size(paths.get(i));
+            final MappedByteBuffer segment = length < HEADER_BYTES ? null : map(paths.get(i), HEADER_BYTES);
+            if(segment == null || segment.getInt(0) != MAGIC || segment.getInt(4) != VERSION)
+                throw new IOException("Corrupted segment " + paths.get(i));
+
+            if(i == 0) {
+                segmentRecords = segment.getInt(HEADER_CAPACITY);
+            }
+            final long count = segment.getLong(HEADER_COUNT);
+            if(segment.getInt(HEADER_CAPACITY) != segmentRecords || segment.getLong(HEADER_FIRST_RECORD) != size
+                    || length != segmentBytes(segmentRecords) || count < 0 || count > segmentRecords
+                    || (count < segmentRecords && i < paths.size() - 1))
+                throw new IOException("Corrupted segment " + paths.get(i));
+
+            segments.add(map(paths.get(i), segmentBytes(segmentRecords)));
+            size += count;
+        }
+        return new PositionRecorder(directory, segmentRecords, segments, size);
+    }
+
+    /**
+     * @return the directory of the segments
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * @return the number of records of a segment
+     */
+    public int getSegmentRecords() {
+        return segmentRecords;
+    }
+
+    /**
+     * @return the number of records readable
+     */
+    public long size() {
+        return committed.get();
+    }
+
+    /**
+     * Appends the position of specified entity at specified tick.
+     * Must only be called by the writer thread.
+     *
+     * @param tick Tick, greater than or equal to the last appended one
+     * @param entityId Entity id
+     * @param position Position
+     * @throws IOException if a new segment cannot be created
+     */
+    public void append(long tick, int entityId, Vector3<?> position) throws IOException {
+        append(tick, entityId,
+                position.getX().doubleValue(), position.getY().doubleValue(), position.getZ().doubleValue());
+    }
+
+    /**
+     * Appends the position of specified entity at specified tick.
+     * Must only be called by the writer thread.
+     *
+     * @param tick Tick, greater than or equal to the last appended one
+     * @param entityId Entity id
+     * @param position Position
+     * @throws IOException if a new segment cannot be created
+     */
+    public void append(long tick, int entityId, Vector3d position) throws IOException {
+        append(tick, entityId, position.getX(), position.getY(), position.getZ());
+    }
+
+    /**
+     * Appends the position of specified entity at specified tick.
+     * Must only be called by the writer thread.
+     *
+     * @param tick Tick, greater than or equal to the last appended one
+     * @param entityId Entity id
+     * @param x X-Axis
+     * @param y Y-Axis
+     * @param z Z-Axis
+     * @throws IOException if a new segment cannot be created
+     */
+    public void append(long tick, int entityId, double x, double y, double z) throws IOException {
+        if(closed)
+            throw new IllegalStateException("Recorder is closed");
+
+        if(tick < lastTick)
+            throw new IllegalArgumentException("Tick is lower than the last one (" + tick + " < " + lastTick + ")");
+
+        if(current == null || currentCount == segmentRecords) {
+            rollover();
+        }
+
+        final MappedByteBuffer segment = current;
+        final int offset = offset(currentCount);
+        segment.putLong(offset + TICK_OFFSET, tick);
+        segment.putInt(offset + ENTITY_OFFSET, entityId);
+        segment.putDouble(offset + X_OFFSET, x);
+        segment.putDouble(offset + Y_OFFSET, y);
+        segment.putDouble(offset + Z_OFFSET, z);
+        segment.putLong(HEADER_COUNT, ++currentCount);
+        lastTick = tick;
+
+        // Publishes the record to the readers
+        committed.lazySet(committed.get() + 1);
+    }
+
+    /**
+     * Writes the records appended since the last call to the storage device.
+     * Must only be called by the writer thread.
+     */
+    public void force() {
+        final MappedByteBuffer[] segments = this.segments;
+        for(int i = unforced; i < segments.length; i++) {
+            segments[i].force();
+        }
+        unforced = Math.max(0, segments.length - 1);
+    }
+
+    /**
+     * Writes the appended records to the storage device and refuses any following append.
+     * Segments stay mapped until they are garbage collected, cursors can still read them.
+     */
+    @Override
+    public void close() {
+        if(!closed) {
+            closed = true;
+            force();
+        }
+    }
+
+    /**
+     * Creates a {@link PositionCursor} positioned before the first record.
+     * Cursors are not thread-safe, each reading thread should use its own cursor.
+     *
+     * @return Cursor
+     */
+    public PositionCursor cursor() {
+        return new PositionCursor(this);
+    }
+
+    /**
+     * @return the segments covering every committed record
+     */
+    MappedByteBuffer[] segments() {
+        return segments;
+    }
+
+    /**
+     * @return the offset of specified record in its segment
+     */
+    static int offset(int record) {
+        return HEADER_BYTES + record * RECORD_BYTES;
+    }
+
+    private void rollover() throws IOException {
+        final MappedByteBuffer[] segments = this.segments;
+        final long firstRecord = (long) segments.length * segmentRecords;
+        final Path path = directory.resolve(String.format("%020d%s", firstRecord, SEGMENT_SUFFIX));
+        final MappedByteBuffer segment = map(path, segmentBytes(segmentRecords));
+        segment.putInt(0, MAGIC);
+        segment.putInt(4, VERSION);
+        segment.putInt(HEADER_CAPACITY, segmentRecords);
+        segment.putLong(HEADER_FIRST_RECORD, firstRecord);
+        segment.putLong(HEADER_COUNT, 0);
+
+        final MappedByteBuffer[] grown = new MappedByteBuffer[segments.length + 1];
+        System.arraycopy(segments, 0, grown, 0, segments.length);
+        grown[segments.length] = segment;
+        this.segments = grown;
+        this.current = segment;
+        this.currentCount = 0;
+    }
+
+    private static long segmentBytes(int segmentRecords) {
+        return HEADER_BYTES + (long) segmentRecords * RECORD_BYTES;
+    }
+
+    private static MappedByteBuffer map(Path path, long size) throws IOException {
+        try(FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return buffer;
+        }
+    }
+
+}
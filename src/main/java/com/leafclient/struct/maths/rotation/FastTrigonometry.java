@@ -0,0 +1,49 @@
+package com.leafclient.struct.maths.rotation;
+
+/**
+ * {@link FastTrigonometry} provides polynomial approximations of the trigonometric functions used by the
+ * rotation computations, trading a bounded error for speed.
+ */
+public final class FastTrigonometry {
+
+    /**
+     * Maximum absolute error of {@link FastTrigonometry#atan2(double, double)}, in radians.
+     */
+    public static final double ATAN2_MAX_ERROR = 1.7E-6;
+
+    private static final double HALF_PI = Math.PI / 2.0;
+
+    private FastTrigonometry() {
+    }
+
+    /**
+     * Approximates {@link Math#atan2(double, double)} using a degree 11 odd minimax polynomial,
+     * with an absolute error lower than {@link FastTrigonometry#ATAN2_MAX_ERROR}.
+     * Unlike {@link Math#atan2(double, double)}, signed zeros are not distinguished and {@code atan2(0, 0)}
+     * always returns 0.
+     *
+     * @param y Ordinate
+     * @param x Abscissa
+     * @return Angle in radians, between -PI and PI
+     */
+    public static double atan2(double y, double x) {
+        final double absX = Math.abs(x);
+        final double absY = Math.abs(y);
+        final double max = Math.max(absX, absY);
+        if(max == 0.0)
+            return 0.0;
+
+        final double a = Math.min(absX, absY) / max;
+        final double s = a * a;
+        double angle = (((((-0.01172120 * s + 0.05265332) * s - 0.11643287) * s
+                + 0.19354346) * s - 0.33262347) * s + 0.99997726) * a;
+        if(absY > absX) {
+            angle = HALF_PI - angle;
+        }
+        if(x < 0.0) {
+            angle = Math.PI - angle;
+        }
+        return y < 0.0 ? -angle : angle;
+    }
+
+}
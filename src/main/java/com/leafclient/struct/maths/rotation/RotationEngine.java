@@ -0,0 +1,213 @@
+package com.leafclient.struct.maths.rotation;
+
+import com.leafclient.struct.maths.vector.MutableVector2d;
+import com.leafclient.struct.maths.vector.Vector3;
+import com.leafclient.struct.maths.vector.Vector3Buffer;
+
+import java.util.List;
+
+/**
+ * {@link RotationEngine} computes the rotations between an origin and a whole batch of targets,
+ * writing the yaws and pitches into primitive arrays instead of allocating a {@link com.leafclient.struct.maths.vector.Vector2}
+ * per target.
+ * The rotation of each target is the one returned by {@code origin.getRotation(target)}, computed as
+ * described by its {@link RotationMode}.
+ */
+public final class RotationEngine {
+
+    /**
+     * Maximum difference, in degrees, between an angle computed in {@link RotationMode#FAST} mode and
+     * the same angle computed in {@link RotationMode#EXACT} mode.
+     */
+    public static final double FAST_MAX_ERROR_DEGREES = 2.0E-4;
+
+    private static final RotationEngine EXACT = new RotationEngine(RotationMode.EXACT);
+    private static final RotationEngine FAST = new RotationEngine(RotationMode.FAST);
+
+    private static final double RADIANS_TO_DEGREES = 180.0 / Math.PI;
+
+    private final RotationMode mode;
+
+    /**
+     * Creates a {@link RotationEngine}, see {@link RotationEngine#of(RotationMode)}.
+     *
+     * @param mode Mode
+     */
+    private RotationEngine(RotationMode mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Returns the {@link RotationEngine} computing rotations using specified mode.
+     *
+     * @param mode Mode
+     * @return Engine
+     */
+    public static RotationEngine of(RotationMode mode) {
+        return mode == RotationMode.FAST ? FAST : EXACT;
+    }
+
+    /**
+     * @return the {@link RotationEngine} bit-identical to {@link Vector3#getRotation(Vector3)}
+     */
+    public static RotationEngine exact() {
+        return EXACT;
+    }
+
+    /**
+     * @return the {@link RotationEngine} using approximated trigonometry
+     */
+    public static RotationEngine fast() {
+        return FAST;
+    }
+
+    /**
+     * @return the mode of this {@link RotationEngine}
+     */
+    public RotationMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Computes the rotation between specified origin and target, and writes it into specified destination.
+     *
+     * @param origin Origin
+     * @param target Target
+     * @param dest Destination, X-Axis is the yaw and Y-Axis the pitch
+     * @return Destination
+     */
+    public MutableVector2d compute(Vector3<?> origin, Vector3<?> target, MutableVector2d dest) {
+        final double dX = origin.getX().doubleValue() - target.getX().doubleValue();
+        final double dY = origin.getY().doubleValue() - target.getY().doubleValue();
+        final double dZ = origin.getZ().doubleValue() - target.getZ().doubleValue();
+
+        if(mode == RotationMode.FAST) {
+            return dest.set(fastYaw(dX, dZ), fastPitch(dX, dY, dZ));
+        }
+        return dest.set(exactYaw(dX, dZ), exactPitch(dX, dY, dZ));
+    }
+
+    /**
+     * Computes the rotation between specified origin and every specified target.
+     *
+     * @param origin Origin
+     * @param targets Targets
+     * @param yawOut Yaw output, its length must be at least the number of targets
+     * @param pitchOut Pitch output, its length must be at least the number of targets
+     */
+    public void compute(Vector3<?> origin, List<? extends Vector3<?>> targets, float[] yawOut, float[] pitchOut) {
+        final double oX = origin.getX().doubleValue();
+        final double oY = origin.getY().doubleValue();
+        final double oZ = origin.getZ().doubleValue();
+        final boolean fast = mode == RotationMode.FAST;
+
+        for(int i = 0, size = targets.size(); i < size; i++) {
+            final Vector3<?> target = targets.get(i);
+            final double dX = oX - target.getX().doubleValue();
+            final double dY = oY - target.getY().doubleValue();
+            final double dZ = oZ - target.getZ().doubleValue();
+            yawOut[i] = fast ? fastYaw(dX, dZ) : exactYaw(dX, dZ);
+            pitchOut[i] = fast ? fastPitch(dX, dY, dZ) : exactPitch(dX, dY, dZ);
+        }
+    }
+
+    /**
+     * Computes the rotation between specified origin and every position of specified buffer.
+     *
+     * @param origin Origin
+     * @param targets Targets
+     * @param yawOut Yaw output, its length must be at least {@link Vector3Buffer#size()}
+     * @param pitchOut Pitch output, its length must be at least {@link Vector3Buffer#size()}
+     */
+    public void compute(Vector3<?> origin, Vector3Buffer targets, float[] yawOut, float[] pitchOut) {
+        final double oX = origin.getX().doubleValue();
+        final double oY = origin.getY().doubleValue();
+        final double oZ = origin.getZ().doubleValue();
+
+        if(targets.hasArray()) {
+            compute(
+                    oX, oY, oZ,
+                    targets.arrayX(), targets.arrayY(), targets.arrayZ(), 0, targets.size(),
+                    yawOut, pitchOut
+            );
+            return;
+        }
+
+        final boolean fast = mode == RotationMode.FAST;
+        for(int i = 0, size = targets.size(); i < size; i++) {
+            final double dX = oX - targets.getX(i);
+            final double dY = oY - targets.getY(i);
+            final double dZ = oZ - targets.getZ(i);
+            yawOut[i] = fast ? fastYaw(dX, dZ) : exactYaw(dX, dZ);
+            pitchOut[i] = fast ? fastPitch(dX, dY, dZ) : exactPitch(dX, dY, dZ);
+        }
+    }
+
+    /**
+     * Computes the rotation between specified origin and every target stored in the specified arrays,
+     * from {@code offset} included to {@code offset + length} excluded.
+     * The rotation of the target at index {@code i} is written at the same index of the output arrays.
+     *
+     * @param originX Origin's X-Axis
+     * @param originY Origin's Y-Axis
+     * @param originZ Origin's Z-Axis
+     * @param x Targets X-Axis
+     * @param y Targets Y-Axis
+     * @param z Targets Z-Axis
+     * @param offset First target index
+     * @param length Number of targets
+     * @param yawOut Yaw output
+     * @param pitchOut Pitch output
+     */
+    public void compute(double originX, double originY, double originZ,
+                        double[] x, double[] y, double[] z, int offset, int length,
+                        float[] yawOut, float[] pitchOut) {
+        final int end = offset + length;
+        if(mode == RotationMode.FAST) {
+            for(int i = offset; i < end; i++) {
+                final double dX = originX - x[i];
+                final double dY = originY - y[i];
+                final double dZ = originZ - z[i];
+                yawOut[i] = fastYaw(dX, dZ);
+                pitchOut[i] = fastPitch(dX, dY, dZ);
+            }
+        } else {
+            for(int i = offset; i < end; i++) {
+                final double dX = originX - x[i];
+                final double dY = originY - y[i];
+                final double dZ = originZ - z[i];
+                yawOut[i] = exactYaw(dX, dZ);
+                pitchOut[i] = exactPitch(dX, dY, dZ);
+            }
+        }
+    }
+
+    /*
+     * Exact formulas, kept identical to Vector3#getRotation so the results match bit for bit.
+     */
+
+    private static float exactYaw(double dX, double dZ) {
+        return (float)(Math.toDegrees(Math.atan2(dZ, dX)) + 90F);
+    }
+
+    private static float exactPitch(double dX, double dY, double dZ) {
+        double dH = Math.sqrt(Math.pow(dX, 2) + Math.pow(dZ, 2));
+
+        return (float)(90F - Math.toDegrees(Math.atan2(dH, dY)));
+    }
+
+    /*
+     * Approximated formulas, the square root is kept as it is a single instruction on every supported platform.
+     */
+
+    private static float fastYaw(double dX, double dZ) {
+        return (float)(FastTrigonometry.atan2(dZ, dX) * RADIANS_TO_DEGREES + 90.0);
+    }
+
+    private static float fastPitch(double dX, double dY, double dZ) {
+        final double dH = Math.sqrt(dX * dX + dZ * dZ);
+
+        return (float)(90.0 - FastTrigonometry.atan2(dH, dY) * RADIANS_TO_DEGREES);
+    }
+
+}
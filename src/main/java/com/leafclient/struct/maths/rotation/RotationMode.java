@@ -0,0 +1,21 @@
+package com.leafclient.struct.maths.rotation;
+
+import com.leafclient.struct.maths.vector.Vector3;
+
+/**
+ * The way a {@link RotationEngine} computes rotations.
+ */
+public enum RotationMode {
+
+    /**
+     * Rotations are bit-identical to the ones returned by {@link Vector3#getRotation(Vector3)}.
+     */
+    EXACT,
+
+    /**
+     * Rotations are computed using {@link FastTrigonometry#atan2(double, double)}, each angle differs
+     * by at most {@link RotationEngine#FAST_MAX_ERROR_DEGREES} degrees from the {@link RotationMode#EXACT} one.
+     */
+    FAST
+
+}
@@ -0,0 +1,262 @@
+package com.leafclient.struct.maths.rotation;
+
+import com.leafclient.struct.maths.vector.Vector2;
+import com.leafclient.struct.maths.vector.Vector3;
+import com.leafclient.struct.maths.vector.Vector3Buffer;
+
+import java.util.List;
+
+/**
+ * {@link ViewCone} tells whether positions are within a maximum angle of a view direction and within
+ * a maximum distance of the view origin, without computing their rotation.
+ *
+ * The view direction is computed once from a yaw and a pitch using the conventions of
+ * {@link Vector3#getRotation(Vector3)}: a target is in the direction {@code (yaw, pitch)} of an origin if
+ * {@code origin.getRotation(target)} returns this yaw and pitch. Each test is then a dot product compared to
+ * the squared distance, with neither trigonometry nor square root, so that the rotations of the positions
+ * passing the filter can be computed afterwards using a {@link RotationEngine}.
+ */
+public final class ViewCone {
+
+    private final double originX;
+    private final double originY;
+    private final double originZ;
+    private final float yaw;
+    private final float pitch;
+    private final double maxAngle;
+    private final double range;
+
+    private final double directionX;
+    private final double directionY;
+    private final double directionZ;
+    private final double cosine;
+    private final double cosineSquared;
+    private final double rangeSquared;
+
+    private ViewCone(double originX, double originY, double originZ, float yaw, float pitch,
+                     double maxAngle, double range) {
+        if(!(maxAngle >= 0.0 && maxAngle <= 180.0))
+            throw new IllegalArgumentException("Angle must be between 0 and 180 degrees (" + maxAngle + ")");
+
+        if(!(range >= 0.0))
+            throw new IllegalArgumentException("Negative range (" + range + ")");
+
+        this.originX = originX;
+        this.originY = originY;
+        this.originZ = originZ;
+        this.yaw = yaw;
+        this.pitch = pitch;
+        this.maxAngle = maxAngle;
+        this.range = range;
+
+        final double yawRadians = Math.toRadians(yaw);
+        final double pitchRadians = Math.toRadians(pitch);
+        final double horizontal = Math.cos(pitchRadians);
+        this.directionX = -Math.sin(yawRadians) * horizontal;
+        this.directionY = -Math.sin(pitchRadians);
+        this.directionZ = Math.cos(yawRadians) * horizontal;
+        this.cosine = Math.cos(Math.toRadians(maxAngle));
+        this.cosineSquared = cosine * cosine;
+        this.rangeSquared = range * range;
+    }
+
+    /**
+     * Creates a {@link ViewCone}.
+     *
+     * @param originX Origin's X-Axis
+     * @param originY Origin's Y-Axis
+     * @param originZ Origin's Z-Axis
+     * @param yaw View yaw in degrees
+     * @param pitch View pitch in degrees
+     * @param maxAngle Maximum angle in degrees between the view direction and a contained position, from 0 to 180
+     * @param range Maximum distance between the origin and a contained position,
+     *              {@link Double#POSITIVE_INFINITY} for none
+     * @return Cone
+     */
+    public static ViewCone of(double originX, double originY, double originZ, float yaw, float pitch,
+                              double maxAngle, double range) {
+        return new ViewCone(originX, originY, originZ, yaw, pitch, maxAngle, range);
+    }
+
+    /**
+     * Creates a {@link ViewCone}.
+     *
+     * @param origin Origin
+     * @param rotation View rotation, X-Axis is the yaw and Y-Axis the pitch
+     * @param maxAngle Maximum angle in degrees between the view direction and a contained position, from 0 to 180
+     * @param range Maximum distance between the origin and a contained position,
+     *              {@link Double#POSITIVE_INFINITY} for none
+     * @return Cone
+     */
+    public static ViewCone of(Vector3<?> origin, Vector2<?> rotation, double maxAngle, double range) {
+        return new ViewCone(
+                origin.getX().doubleValue(), origin.getY().doubleValue(), origin.getZ().doubleValue(),
+                rotation.getX().floatValue(), rotation.getY().floatValue(),
+                maxAngle, range
+        );
+    }
+
+    /**
+     * @return the yaw of this {@link ViewCone}
+     */
+    public float getYaw() {
+        return yaw;
+    }
+
+    /**
+     * @return the pitch of this {@link ViewCone}
+     */
+    public float getPitch() {
+        return pitch;
+    }
+
+    /**
+     * @return the maximum angle in degrees between the view direction and a contained position
+     */
+    public double getMaxAngle() {
+        return maxAngle;
+    }
+
+    /**
+     * @return the maximum distance between the origin and a contained position
+     */
+    public double getRange() {
+        return range;
+    }
+
+    /**
+     * @return the X-Axis of the unit view direction
+     */
+    public double getDirectionX() {
+        return directionX;
+    }
+
+    /**
+     * @return the Y-Axis of the unit view direction
+     */
+    public double getDirectionY() {
+        return directionY;
+    }
+
+    /**
+     * @return the Z-Axis of the unit view direction
+     */
+    public double getDirectionZ() {
+        return directionZ;
+    }
+
+    /**
+     * Returns whether specified position is within this cone. The origin itself is always contained.
+     *
+     * @param position Position
+     * @return `True` if the position is within this cone
+     */
+    public boolean contains(Vector3<?> position) {
+        return contains(position.getX().doubleValue(), position.getY().doubleValue(), position.getZ().doubleValue());
+    }
+
+    /**
+     * Returns whether specified position is within this cone. The origin itself is always contained.
+     *
+     * @param x X-Axis
+     * @param y Y-Axis
+     * @param z Z-Axis
+     * @return `True` if the position is within this cone
+     */
+    public boolean contains(double x, double y, double z) {
+        final double dX = x - originX;
+        final double dY = y - originY;
+        final double dZ = z - originZ;
+        return test(dX * directionX + dY * directionY + dZ * directionZ, dX * dX + dY * dY + dZ * dZ);
+    }
+
+    /**
+     * Writes the index of every position of specified list within this cone into specified array.
+     *
+     * @param positions Positions
+     * @param indicesOut Output, its length must be at least the number of contained positions
+     * @return Number of contained positions
+     */
+    public int filter(List<? extends Vector3<?>> positions, int[] indicesOut) {
+        int count = 0;
+        for(int i = 0, size = positions.size(); i < size; i++) {
+            if(contains(positions.get(i))) {
+                indicesOut[count++] = i;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Writes the index of every position of specified buffer within this cone into specified array.
+     *
+     * @param positions Positions
+     * @param indicesOut Output, its length must be at least the number of contained positions
+     * @return Number of contained positions
+     */
+    public int filter(Vector3Buffer positions, int[] indicesOut) {
+        if(positions.hasArray())
+            return filter(positions.arrayX(), positions.arrayY(), positions.arrayZ(), 0, positions.size(), indicesOut);
+
+        int count = 0;
+        for(int i = 0, size = positions.size(); i < size; i++) {
+            if(contains(positions.getX(i), positions.getY(i), positions.getZ(i))) {
+                indicesOut[count++] = i;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Writes the index of every position stored in the specified arrays within this cone into specified
+     * array, from {@code offset} included to {@code offset + length} excluded.
+     *
+     * @param x X-Axis values
+     * @param y Y-Axis values
+     * @param z Z-Axis values
+     * @param offset First position index
+     * @param length Number of positions
+     * @param indicesOut Output, its length must be at least the number of contained positions
+     * @return Number of contained positions
+     */
+    public int filter(double[] x, double[] y, double[] z, int offset, int length, int[] indicesOut) {
+        int count = 0;
+        for(int i = offset, end = offset + length; i < end; i++) {
+            final double dX = x[i] - originX;
+            final double dY = y[i] - originY;
+            final double dZ = z[i] - originZ;
+            if(test(dX * directionX + dY * directionY + dZ * directionZ, dX * dX + dY * dY + dZ * dZ)) {
+                indicesOut[count++] = i;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Compares the angle between the view direction and a position using the cosine of the maximum angle:
+     * {@code dot >= cos * distance}, both sides being squared to avoid the square root.
+     *
+     * @param dot Dot product of the direction and the offset of the position
+     * @param distanceSquared Squared distance of the position
+     */
+    private boolean test(double dot, double distanceSquared) {
+        if(distanceSquared > rangeSquared)
+            return false;
+
+        if(cosine >= 0.0)
+            return dot >= 0.0 && dot * dot >= cosineSquared * distanceSquared;
+
+        return dot >= 0.0 || dot * dot <= cosineSquared * distanceSquared;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public String toString() {
+        return "ViewCone{origin=" + originX + ", " + originY + ", " + originZ
+                + ", yaw=" + yaw + ", pitch=" + pitch
+                + ", maxAngle=" + maxAngle + ", range=" + range + "}";
+    }
+
+}
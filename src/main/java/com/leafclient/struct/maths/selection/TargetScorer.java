@@ -0,0 +1,92 @@
+package com.leafclient.struct.maths.selection;
+
+import com.leafclient.struct.maths.vector.Vector2;
+
+/**
+ * Scores a candidate of a {@link TargetSelector} using its offset from the origin of the selection,
+ * the lowest scores being the best candidates.
+ * Scorers are called concurrently by parallel selections and must not have side effects.
+ */
+@FunctionalInterface
+public interface TargetScorer {
+
+    /**
+     * Returns the score of the candidate at specified offset from the origin.
+     *
+     * @param dX X-Axis offset, the candidate's minus the origin's
+     * @param dY Y-Axis offset, the candidate's minus the origin's
+     * @param dZ Z-Axis offset, the candidate's minus the origin's
+     * @return Score, lower is better
+     */
+    double score(double dX, double dY, double dZ);
+
+    /**
+     * @return the {@link TargetScorer} preferring the closest candidates, scored by their distance
+     */
+    static TargetScorer distance() {
+        return (dX, dY, dZ) -> Math.sqrt(dX * dX + dY * dY + dZ * dZ);
+    }
+
+    /**
+     * Returns the {@link TargetScorer} preferring the closest candidates, scored by their squared distance.
+     * It selects the same candidates as {@link TargetScorer#distance()} without computing square roots,
+     * but its scores should not be weighted.
+     *
+     * @return Scorer
+     */
+    static TargetScorer distanceSquared() {
+        return (dX, dY, dZ) -> dX * dX + dY * dY + dZ * dZ;
+    }
+
+    /**
+     * Returns the {@link TargetScorer} preferring the candidates the closest to specified view direction,
+     * scored by the angle in degrees between the view direction and the candidate.
+     *
+     * @param yaw View's yaw, as returned by {@link com.leafclient.struct.maths.vector.Vector3#getRotation}
+     * @param pitch View's pitch, as returned by {@link com.leafclient.struct.maths.vector.Vector3#getRotation}
+     * @return Scorer
+     */
+    static TargetScorer angle(float yaw, float pitch) {
+        final double yawRadians = Math.toRadians(yaw);
+        final double pitchRadians = Math.toRadians(pitch);
+        final double horizontal = Math.cos(pitchRadians);
+        final double directionX = -Math.sin(yawRadians) * horizontal;
+        final double directionY = -Math.sin(pitchRadians);
+        final double directionZ = Math.cos(yawRadians) * horizontal;
+
+        return (dX, dY, dZ) -> {
+            final double length = Math.sqrt(dX * dX + dY * dY + dZ * dZ);
+            if(length == 0.0)
+                return 0.0;
+
+            final double cosine = (directionX * dX + directionY * dY + directionZ * dZ) / length;
+            return Math.toDegrees(Math.acos(Math.min(Math.max(cosine, -1.0), 1.0)));
+        };
+    }
+
+    /**
+     * Returns the {@link TargetScorer} preferring the candidates the closest to specified view direction.
+     *
+     * @param rotation View's rotation, X-Axis is the yaw and Y-Axis the pitch
+     * @return Scorer
+     * @see TargetScorer#angle(float, float)
+     */
+    static TargetScorer angle(Vector2<?> rotation) {
+        return angle(rotation.getX().floatValue(), rotation.getY().floatValue());
+    }
+
+    /**
+     * Returns the {@link TargetScorer} mixing the scores of two scorers, such as a distance in blocks and
+     * an angle in degrees.
+     *
+     * @param first First scorer
+     * @param firstWeight Weight of the first score
+     * @param second Second scorer
+     * @param secondWeight Weight of the second score
+     * @return Scorer
+     */
+    static TargetScorer weighted(TargetScorer first, double firstWeight, TargetScorer second, double secondWeight) {
+        return (dX, dY, dZ) -> firstWeight * first.score(dX, dY, dZ) + secondWeight * second.score(dX, dY, dZ);
+    }
+
+}
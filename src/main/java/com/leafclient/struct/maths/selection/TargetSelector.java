@@ -0,0 +1,323 @@
+package com.leafclient.struct.maths.selection;
+
+import com.leafclient.struct.maths.vector.Vector3;
+import com.leafclient.struct.maths.vector.Vector3Buffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * {@link TargetSelector} picks the {@code k} best candidates around an origin, as scored by a {@link TargetScorer},
+ * without sorting the whole candidate set: each candidate is offered to a bounded heap of size {@code k},
+ * which costs {@code O(n log k)}.
+ * Sets containing at least {@link TargetSelector#getParallelThreshold()} candidates are split across the
+ * common {@link ForkJoinPool}, each part keeping its own heap before they are merged.
+ *
+ * Selections are deterministic: candidates with the same score are ordered by index, whether the selection
+ * is parallel or not. Candidates scored NaN are never selected.
+ *
+ * Instances are immutable and can be shared between threads.
+ */
+public final class TargetSelector {
+
+    /**
+     * Default minimum number of candidates of a parallel selection.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 4096;
+
+    private final TargetScorer scorer;
+    private final int parallelThreshold;
+
+    /**
+     * Creates a {@link TargetSelector}, see {@link TargetSelector#of(TargetScorer, int)}.
+     *
+     * @param scorer Scorer
+     * @param parallelThreshold Minimum number of candidates of a parallel selection
+     */
+    private TargetSelector(TargetScorer scorer, int parallelThreshold) {
+        this.scorer = scorer;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Creates a {@link TargetSelector} using specified scorer and the {@link TargetSelector#DEFAULT_PARALLEL_THRESHOLD}.
+     *
+     * @param scorer Scorer
+     * @return Selector
+     */
+    public static TargetSelector of(TargetScorer scorer) {
+        return of(scorer, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@link TargetSelector} using specified scorer.
+     *
+     * @param scorer Scorer
+     * @param parallelThreshold Minimum number of candidates of a parallel selection, {@link Integer#MAX_VALUE}
+     *                          to never run in parallel
+     * @return Selector
+     */
+    public static TargetSelector of(TargetScorer scorer, int parallelThreshold) {
+        if(parallelThreshold < 1)
+            throw new IllegalArgumentException("Parallel threshold must be positive (" + parallelThreshold + ")");
+
+        return new TargetSelector(scorer, parallelThreshold);
+    }
+
+    /**
+     * @return the scorer of this {@link TargetSelector}
+     */
+    public TargetScorer getScorer() {
+        return scorer;
+    }
+
+    /**
+     * @return the minimum number of candidates of a parallel selection
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Selects the {@code k} best positions of specified buffer.
+     *
+     * @param origin Origin
+     * @param candidates Candidates
+     * @param k Maximum number of selected candidates
+     * @param out Output, receives the index of the selected positions from the best to the worst
+     * @return Number of selected candidates
+     */
+    public int select(Vector3<?> origin, Vector3Buffer candidates, int k, int[] out) {
+        return select(origin, candidates, k, out, null);
+    }
+
+    /**
+     * Selects the {@code k} best positions of specified buffer.
+     *
+     * @param origin Origin
+     * @param candidates Candidates
+     * @param k Maximum number of selected candidates
+     * @param out Output, receives the index of the selected positions from the best to the worst
+     * @param scoreOut Output receiving the score of each selected position, can be null
+     * @return Number of selected candidates
+     */
+    public int select(Vector3<?> origin, Vector3Buffer candidates, int k, int[] out, double[] scoreOut) {
+        final double oX = origin.getX().doubleValue();
+        final double oY = origin.getY().doubleValue();
+        final double oZ = origin.getZ().doubleValue();
+        if(candidates.hasArray())
+            return select(
+                    oX, oY, oZ,
+                    candidates.arrayX(), candidates.arrayY(), candidates.arrayZ(), 0, candidates.size(),
+                    k, out, scoreOut
+            );
+
+        return select(new BufferCandidates(oX, oY, oZ, scorer, candidates), 0, candidates.size(), k, out, scoreOut);
+    }
+
+    /**
+     * Selects the {@code k} best positions stored in the specified arrays, from {@code offset} included
+     * to {@code offset + length} excluded.
+     *
+     * @param originX Origin's X-Axis
+     * @param originY Origin's Y-Axis
+     * @param originZ Origin's Z-Axis
+     * @param x Candidates X-Axis
+     * @param y Candidates Y-Axis
+     * @param z Candidates Z-Axis
+     * @param offset First candidate index
+     * @param length Number of candidates
+     * @param k Maximum number of selected candidates
+     * @param out Output, receives the index of the selected positions from the best to the worst
+     * @param scoreOut Output receiving the score of each selected position, can be null
+     * @return Number of selected candidates
+     */
+    public int select(double originX, double originY, double originZ,
+                      double[] x, double[] y, double[] z, int offset, int length,
+                      int k, int[] out, double[] scoreOut) {
+        return select(new ArrayCandidates(originX, originY, originZ, scorer, x, y, z), offset, length, k, out, scoreOut);
+    }
+
+    /**
+     * Selects the {@code k} best elements of specified list.
+     * The position function is called concurrently by parallel selections.
+     *
+     * @param origin Origin
+     * @param candidates Candidates
+     * @param position Function returning the position of a candidate
+     * @param k Maximum number of selected candidates
+     * @param out Output, receives the selected elements from the best to the worst
+     * @param <T> Candidate type
+     * @return Number of selected candidates
+     */
+    public <T> int select(Vector3<?> origin, List<? extends T> candidates,
+                          Function<? super T, ? extends Vector3<?>> position, int k, List<? super T> out) {
+        // Linked lists are copied once instead of being walked for every index
+        final List<? extends T> list = candidates instanceof RandomAccess ? candidates : new ArrayList<>(candidates);
+        final int[] indexes = new int[Math.max(0, Math.min(k, list.size()))];
+        final int count = select(
+                new ListCandidates<>(
+                        origin.getX().doubleValue(), origin.getY().doubleValue(), origin.getZ().doubleValue(),
+                        scorer, list, position
+                ),
+                0, list.size(), indexes.length, indexes, null
+        );
+
+        for(int i = 0; i < count; i++) {
+            out.add(list.get(indexes[i]));
+        }
+        return count;
+    }
+
+    /**
+     * Selects the best candidates between {@code from} included and {@code from + length} excluded.
+     */
+    private int select(Candidates candidates, int from, int length, int k, int[] out, double[] scoreOut) {
+        if(k > out.length)
+            throw new IllegalArgumentException("Output is smaller than k (" + out.length + " < " + k + ")");
+
+        if(k <= 0 || length <= 0)
+            return 0;
+
+        final TopK heap;
+        if(length >= parallelThreshold) {
+            heap = ForkJoinPool.commonPool().invoke(new SelectionTask(candidates, from, from + length, k, parallelThreshold));
+        } else {
+            heap = new TopK(Math.min(k, length));
+            candidates.offer(heap, from, from + length);
+        }
+        return heap.drain(out, scoreOut);
+    }
+
+    /**
+     * Fork-join task splitting the candidates in halves until they are smaller than the threshold.
+     */
+    private static final class SelectionTask extends RecursiveTask<TopK> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Candidates candidates;
+        private final int from;
+        private final int to;
+        private final int k;
+        private final int threshold;
+
+        SelectionTask(Candidates candidates, int from, int to, int k, int threshold) {
+            this.candidates = candidates;
+            this.from = from;
+            this.to = to;
+            this.k = k;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected TopK compute() {
+            if(to - from <= threshold) {
+                final TopK heap = new TopK(Math.min(k, to - from));
+                candidates.offer(heap, from, to);
+                return heap;
+            }
+
+            final int middle = (from + to) >>> 1;
+            final SelectionTask right = new SelectionTask(candidates, middle, to, k, threshold);
+            right.fork();
+            final TopK left = new SelectionTask(candidates, from, middle, k, threshold).compute();
+            final TopK other = right.join();
+
+            final TopK merged = new TopK(Math.min(k, to - from));
+            merged.merge(left);
+            merged.merge(other);
+            return merged;
+        }
+
+    }
+
+    /**
+     * Candidate set scoring the candidate of an index.
+     */
+    private static abstract class Candidates {
+
+        final double originX, originY, originZ;
+        final TargetScorer scorer;
+
+        Candidates(double originX, double originY, double originZ, TargetScorer scorer) {
+            this.originX = originX;
+            this.originY = originY;
+            this.originZ = originZ;
+            this.scorer = scorer;
+        }
+
+        abstract void offer(TopK heap, int from, int to);
+
+    }
+
+    private static final class ArrayCandidates extends Candidates {
+
+        private final double[] x, y, z;
+
+        ArrayCandidates(double originX, double originY, double originZ, TargetScorer scorer,
+                        double[] x, double[] y, double[] z) {
+            super(originX, originY, originZ, scorer);
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+        @Override
+        void offer(TopK heap, int from, int to) {
+            for(int i = from; i < to; i++) {
+                heap.offer(i, scorer.score(x[i] - originX, y[i] - originY, z[i] - originZ));
+            }
+        }
+
+    }
+
+    private static final class BufferCandidates extends Candidates {
+
+        private final Vector3Buffer buffer;
+
+        BufferCandidates(double originX, double originY, double originZ, TargetScorer scorer, Vector3Buffer buffer) {
+            super(originX, originY, originZ, scorer);
+            this.buffer = buffer;
+        }
+
+        @Override
+        void offer(TopK heap, int from, int to) {
+            for(int i = from; i < to; i++) {
+                heap.offer(i, scorer.score(buffer.getX(i) - originX, buffer.getY(i) - originY, buffer.getZ(i) - originZ));
+            }
+        }
+
+    }
+
+    private static final class ListCandidates<T> extends Candidates {
+
+        private final List<? extends T> list;
+        private final Function<? super T, ? extends Vector3<?>> position;
+
+        ListCandidates(double originX, double originY, double originZ, TargetScorer scorer,
+                       List<? extends T> list, Function<? super T, ? extends Vector3<?>> position) {
+            super(originX, originY, originZ, scorer);
+            this.list = list;
+            this.position = position;
+        }
+
+        @Override
+        void offer(TopK heap, int from, int to) {
+            for(int i = from; i < to; i++) {
+                final Vector3<?> vector = position.apply(list.get(i));
+                heap.offer(i, scorer.score(
+                        vector.getX().doubleValue() - originX,
+                        vector.getY().doubleValue() - originY,
+                        vector.getZ().doubleValue() - originZ
+                ));
+            }
+        }
+
+    }
+
+}
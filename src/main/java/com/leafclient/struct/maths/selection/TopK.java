@@ -0,0 +1,112 @@
+package com.leafclient.struct.maths.selection;
+
+/**
+ * Bounded max-heap keeping the indexes of the {@code k} lowest scores offered to it.
+ * Equal scores are ordered by index, so that the selection does not depend on how the candidates were split.
+ */
+final class TopK {
+
+    private final int[] indexes;
+    private final double[] scores;
+    private int size;
+
+    TopK(int k) {
+        this.indexes = new int[k];
+        this.scores = new double[k];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Offers specified candidate, ignored if the heap is full of better candidates.
+     * NaN scores are never selected.
+     *
+     * @param index Candidate index
+     * @param score Candidate score
+     */
+    void offer(int index, double score) {
+        if(score != score)
+            return;
+
+        if(size < indexes.length) {
+            int child = size++;
+            while(child > 0) {
+                final int parent = (child - 1) >>> 1;
+                if(!worse(score, index, scores[parent], indexes[parent]))
+                    break;
+
+                indexes[child] = indexes[parent];
+                scores[child] = scores[parent];
+                child = parent;
+            }
+            indexes[child] = index;
+            scores[child] = score;
+        } else if(size > 0 && worse(scores[0], indexes[0], score, index)) {
+            siftDown(index, score, size);
+        }
+    }
+
+    /**
+     * Offers every candidate of specified heap.
+     *
+     * @param other Other heap
+     */
+    void merge(TopK other) {
+        for(int i = 0; i < other.size; i++) {
+            offer(other.indexes[i], other.scores[i]);
+        }
+    }
+
+    /**
+     * Empties this heap into specified arrays, from the best candidate to the worst.
+     *
+     * @param out Index output
+     * @param scoreOut Score output, can be null
+     * @return Number of candidates
+     */
+    int drain(int[] out, double[] scoreOut) {
+        final int count = size;
+        while(size > 0) {
+            final int last = --size;
+            out[last] = indexes[0];
+            if(scoreOut != null) {
+                scoreOut[last] = scores[0];
+            }
+            if(last > 0) {
+                siftDown(indexes[last], scores[last], last);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Moves specified candidate from the root of the heap down to its place.
+     */
+    private void siftDown(int index, double score, int size) {
+        int parent = 0;
+        while(true) {
+            int child = (parent << 1) + 1;
+            if(child >= size)
+                break;
+
+            if(child + 1 < size && worse(scores[child + 1], indexes[child + 1], scores[child], indexes[child])) {
+                child++;
+            }
+            if(!worse(scores[child], indexes[child], score, index))
+                break;
+
+            indexes[parent] = indexes[child];
+            scores[parent] = scores[child];
+            parent = child;
+        }
+        indexes[parent] = index;
+        scores[parent] = score;
+    }
+
+    private static boolean worse(double score, int index, double otherScore, int otherIndex) {
+        return score > otherScore || (score == otherScore && index > otherIndex);
+    }
+
+}
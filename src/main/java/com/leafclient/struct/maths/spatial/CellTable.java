@@ -0,0 +1,174 @@
+package com.leafclient.struct.maths.spatial;
+
+import java.util.Arrays;
+
+/**
+ * An open-addressing hash table mapping packed cell coordinates to the index of the first entry
+ * stored in that cell, used by the {@link SpatialHashGrid}.
+ */
+final class CellTable {
+
+    static final int EMPTY = -1;
+
+    private long[] keys;
+    private int[] heads;
+    private int mask;
+    private int size;
+
+    /**
+     * Creates an empty {@link CellTable}.
+     *
+     * @param expectedCells Expected number of cells
+     */
+    CellTable(int expectedCells) {
+        int capacity = 16;
+        while(capacity * 3 < expectedCells * 4) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    /**
+     * @return the number of cells stored in this table
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of slots of this table, see {@link CellTable#keyAt(int)}
+     */
+    int slots() {
+        return keys.length;
+    }
+
+    /**
+     * @param slot Slot
+     * @return the cell stored at specified slot
+     */
+    long keyAt(int slot) {
+        return keys[slot];
+    }
+
+    /**
+     * @param slot Slot
+     * @return the head stored at specified slot or {@link CellTable#EMPTY}
+     */
+    int headAt(int slot) {
+        return heads[slot];
+    }
+
+    /**
+     * Returns the head of specified cell.
+     *
+     * @param key Cell
+     * @return Head or {@link CellTable#EMPTY}
+     */
+    int get(long key) {
+        int slot = mix(key) & mask;
+        while(heads[slot] != EMPTY) {
+            if(keys[slot] == key)
+                return heads[slot];
+            slot = (slot + 1) & mask;
+        }
+        return EMPTY;
+    }
+
+    /**
+     * Modifies the head of specified cell, adding the cell if needed.
+     *
+     * @param key Cell
+     * @param head Head
+     */
+    void put(long key, int head) {
+        int slot = mix(key) & mask;
+        while(heads[slot] != EMPTY) {
+            if(keys[slot] == key) {
+                heads[slot] = head;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        heads[slot] = head;
+        if(++size * 4 > keys.length * 3) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * Removes specified cell.
+     *
+     * @param key Cell
+     */
+    void remove(long key) {
+        int slot = mix(key) & mask;
+        while(heads[slot] != EMPTY) {
+            if(keys[slot] == key) {
+                shiftFrom(slot);
+                size--;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Removes every cell.
+     */
+    void clear() {
+        Arrays.fill(heads, EMPTY);
+        size = 0;
+    }
+
+    /**
+     * Closes the gap left at specified slot by moving back the following entries of its cluster.
+     *
+     * @param slot Emptied slot
+     */
+    private void shiftFrom(int slot) {
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while(heads[next] != EMPTY) {
+            final int ideal = mix(keys[next]) & mask;
+            if(((next - ideal) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                heads[gap] = heads[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        heads[gap] = EMPTY;
+    }
+
+    private void rehash(int capacity) {
+        final long[] oldKeys = keys;
+        final int[] oldHeads = heads;
+        allocate(capacity);
+        for(int slot = 0; slot < oldKeys.length; slot++) {
+            if(oldHeads[slot] != EMPTY) {
+                int target = mix(oldKeys[slot]) & mask;
+                while(heads[target] != EMPTY) {
+                    target = (target + 1) & mask;
+                }
+                keys[target] = oldKeys[slot];
+                heads[target] = oldHeads[slot];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        heads = new int[capacity];
+        Arrays.fill(heads, EMPTY);
+        mask = capacity - 1;
+    }
+
+    private static int mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+
+}
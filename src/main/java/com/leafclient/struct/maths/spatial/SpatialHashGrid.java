@@ -0,0 +1,578 @@
+package com.leafclient.struct.maths.spatial;
+
+import com.leafclient.struct.maths.vector.MutableVector3d;
+import com.leafclient.struct.maths.vector.Vector3;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link SpatialHashGrid} is a spatial index splitting the space in cubic cells of the same size,
+ * only the occupied cells are stored in a hash table.
+ * It answers radius, k-nearest-neighbours and box queries by visiting the cells around the queried point
+ * instead of every element, and compares squared distances only.
+ * Moving an element within its cell only updates its position, which makes the grid cheap to keep up to date
+ * when most elements move a little every tick.
+ *
+ * Cell coordinates are packed on 21 bits per axis, positions must therefore stay within
+ * {@code 2^20} cells from the origin on each axis.
+ * Queries write their results into a reusable {@link SpatialQueryResult} and do not allocate.
+ *
+ * Instances are not thread-safe.
+ *
+ * @param <E> Element type
+ */
+public final class SpatialHashGrid<E> {
+
+    private static final int NONE = -1;
+    private static final int CELL_BITS = 21;
+    private static final long CELL_MASK = (1L << CELL_BITS) - 1;
+    private static final int CELL_LIMIT = 1 << (CELL_BITS - 1);
+
+    private final double cellSize;
+    private final double inverseCellSize;
+    private final CellTable cells;
+    private final Map<E, Integer> handles = new HashMap<>();
+
+    private Object[] elements;
+    private double[] x;
+    private double[] y;
+    private double[] z;
+    private long[] cellOf;
+    private int[] next;
+    private int[] previous;
+
+    private int used;
+    private int free = NONE;
+    private int size;
+
+    private int minCellX = Integer.MAX_VALUE, minCellY = Integer.MAX_VALUE, minCellZ = Integer.MAX_VALUE;
+    private int maxCellX = Integer.MIN_VALUE, maxCellY = Integer.MIN_VALUE, maxCellZ = Integer.MIN_VALUE;
+
+    /**
+     * Creates an empty {@link SpatialHashGrid}.
+     *
+     * @param cellSize Size of a cell, ideally close to the radius of the most frequent queries
+     */
+    public SpatialHashGrid(double cellSize) {
+        this(cellSize, 64);
+    }
+
+    /**
+     * Creates an empty {@link SpatialHashGrid}.
+     *
+     * @param cellSize Size of a cell, ideally close to the radius of the most frequent queries
+     * @param expectedSize Expected number of elements
+     */
+    public SpatialHashGrid(double cellSize, int expectedSize) {
+        if(!(cellSize > 0.0))
+            throw new IllegalArgumentException("Cell size must be positive (" + cellSize + ")");
+
+        final int capacity = Math.max(16, expectedSize);
+        this.cellSize = cellSize;
+        this.inverseCellSize = 1.0 / cellSize;
+        this.cells = new CellTable(capacity);
+        this.elements = new Object[capacity];
+        this.x = new double[capacity];
+        this.y = new double[capacity];
+        this.z = new double[capacity];
+        this.cellOf = new long[capacity];
+        this.next = new int[capacity];
+        this.previous = new int[capacity];
+    }
+
+    /**
+     * @return the size of the cells of this grid
+     */
+    public double getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * @return the number of elements stored in this grid
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether specified element is stored in this grid.
+     *
+     * @param element Element
+     * @return `True` if the element is stored
+     */
+    public boolean contains(E element) {
+        return handles.containsKey(element);
+    }
+
+    /**
+     * Inserts specified element at specified position, or moves it if it is already stored.
+     *
+     * @param element Element
+     * @param position Position
+     */
+    public void insert(E element, Vector3<?> position) {
+        insert(element, position.getX().doubleValue(), position.getY().doubleValue(), position.getZ().doubleValue());
+    }
+
+    /**
+     * Inserts specified element at specified position, or moves it if it is already stored.
+     *
+     * @param element Element
+     * @param x X-Axis value
+     * @param y Y-Axis value
+     * @param z Z-Axis value
+     */
+    public void insert(E element, double x, double y, double z) {
+        final Integer handle = handles.get(element);
+        if(handle != null) {
+            moveEntry(handle, x, y, z);
+            return;
+        }
+
+        final long key = cellKey(x, y, z);
+        final int entry = allocate();
+        elements[entry] = element;
+        handles.put(element, entry);
+        this.x[entry] = x;
+        this.y[entry] = y;
+        this.z[entry] = z;
+        link(entry, key);
+        size++;
+    }
+
+    /**
+     * Moves specified element to specified position.
+     *
+     * @param element Element
+     * @param position New position
+     * @return `True` if the element is stored in this grid
+     */
+    public boolean move(E element, Vector3<?> position) {
+        return move(element, position.getX().doubleValue(), position.getY().doubleValue(), position.getZ().doubleValue());
+    }
+
+    /**
+     * Moves specified element to specified position.
+     *
+     * @param element Element
+     * @param x X-Axis value
+     * @param y Y-Axis value
+     * @param z Z-Axis value
+     * @return `True` if the element is stored in this grid
+     */
+    public boolean move(E element, double x, double y, double z) {
+        final Integer handle = handles.get(element);
+        if(handle == null)
+            return false;
+
+        moveEntry(handle, x, y, z);
+        return true;
+    }
+
+    /**
+     * Removes specified element.
+     *
+     * @param element Element
+     * @return `True` if the element was stored in this grid
+     */
+    public boolean remove(E element) {
+        final Integer handle = handles.remove(element);
+        if(handle == null)
+            return false;
+
+        final int entry = handle;
+        unlink(entry);
+        elements[entry] = null;
+        next[entry] = free;
+        free = entry;
+        size--;
+        return true;
+    }
+
+    /**
+     * Copies the position of specified element into specified destination.
+     *
+     * @param element Element
+     * @param dest Destination
+     * @return Destination or null if the element is not stored in this grid
+     */
+    public MutableVector3d getPosition(E element, MutableVector3d dest) {
+        final Integer handle = handles.get(element);
+        if(handle == null)
+            return null;
+
+        return dest.set(x[handle], y[handle], z[handle]);
+    }
+
+    /**
+     * Removes every element.
+     */
+    public void clear() {
+        cells.clear();
+        handles.clear();
+        Arrays.fill(elements, 0, used, null);
+        used = 0;
+        free = NONE;
+        size = 0;
+        minCellX = minCellY = minCellZ = Integer.MAX_VALUE;
+        maxCellX = maxCellY = maxCellZ = Integer.MIN_VALUE;
+    }
+
+    /**
+     * Finds every element within specified radius of specified center.
+     *
+     * @param center Center
+     * @param radius Radius
+     * @param result Result, cleared before the query
+     * @return Number of elements found
+     */
+    public int queryRadius(Vector3<?> center, double radius, SpatialQueryResult<? super E> result) {
+        return queryRadius(
+                center.getX().doubleValue(), center.getY().doubleValue(), center.getZ().doubleValue(),
+                radius, result
+        );
+    }
+
+    /**
+     * Finds every element within specified radius of specified center, elements are not sorted,
+     * see {@link SpatialQueryResult#sortByDistance()}.
+     *
+     * @param cX Center's X-Axis
+     * @param cY Center's Y-Axis
+     * @param cZ Center's Z-Axis
+     * @param radius Radius
+     * @param result Result, cleared before the query
+     * @return Number of elements found
+     */
+    public int queryRadius(double cX, double cY, double cZ, double radius, SpatialQueryResult<? super E> result) {
+        result.clear();
+        final double radiusSquared = radius * radius;
+        final int fromX = queryCell(cX - radius), toX = queryCell(cX + radius);
+        final int fromY = queryCell(cY - radius), toY = queryCell(cY + radius);
+        final int fromZ = queryCell(cZ - radius), toZ = queryCell(cZ + radius);
+
+        if(coversMoreThanOccupied(fromX, toX, fromY, toY, fromZ, toZ)) {
+            for(int slot = 0; slot < cells.slots(); slot++) {
+                final int head = cells.headAt(slot);
+                if(head != CellTable.EMPTY && inCells(cells.keyAt(slot), fromX, toX, fromY, toY, fromZ, toZ)) {
+                    collectRadius(head, cX, cY, cZ, radiusSquared, result);
+                }
+            }
+        } else {
+            for(int cellX = fromX; cellX <= toX; cellX++) {
+                for(int cellY = fromY; cellY <= toY; cellY++) {
+                    for(int cellZ = fromZ; cellZ <= toZ; cellZ++) {
+                        collectRadius(cells.get(pack(cellX, cellY, cellZ)), cX, cY, cZ, radiusSquared, result);
+                    }
+                }
+            }
+        }
+        return result.size();
+    }
+
+    /**
+     * Finds every element within specified axis-aligned box, bounds included.
+     *
+     * @param minX Minimum X-Axis
+     * @param minY Minimum Y-Axis
+     * @param minZ Minimum Z-Axis
+     * @param maxX Maximum X-Axis
+     * @param maxY Maximum Y-Axis
+     * @param maxZ Maximum Z-Axis
+     * @param result Result, cleared before the query. Distances are measured from the center of the box
+     * @return Number of elements found
+     */
+    public int queryBox(double minX, double minY, double minZ,
+                        double maxX, double maxY, double maxZ,
+                        SpatialQueryResult<? super E> result) {
+        result.clear();
+        final int fromX = queryCell(minX), toX = queryCell(maxX);
+        final int fromY = queryCell(minY), toY = queryCell(maxY);
+        final int fromZ = queryCell(minZ), toZ = queryCell(maxZ);
+        final double cX = (minX + maxX) * 0.5, cY = (minY + maxY) * 0.5, cZ = (minZ + maxZ) * 0.5;
+
+        if(coversMoreThanOccupied(fromX, toX, fromY, toY, fromZ, toZ)) {
+            for(int slot = 0; slot < cells.slots(); slot++) {
+                final int head = cells.headAt(slot);
+                if(head != CellTable.EMPTY && inCells(cells.keyAt(slot), fromX, toX, fromY, toY, fromZ, toZ)) {
+                    collectBox(head, minX, minY, minZ, maxX, maxY, maxZ, cX, cY, cZ, result);
+                }
+            }
+        } else {
+            for(int cellX = fromX; cellX <= toX; cellX++) {
+                for(int cellY = fromY; cellY <= toY; cellY++) {
+                    for(int cellZ = fromZ; cellZ <= toZ; cellZ++) {
+                        collectBox(
+                                cells.get(pack(cellX, cellY, cellZ)),
+                                minX, minY, minZ, maxX, maxY, maxZ, cX, cY, cZ,
+                                result
+                        );
+                    }
+                }
+            }
+        }
+        return result.size();
+    }
+
+    /**
+     * Finds the specified number of elements closest to specified point.
+     *
+     * @param point Point
+     * @param count Maximum number of elements
+     * @param result Result, cleared before the query
+     * @return Number of elements found
+     */
+    public int nearest(Vector3<?> point, int count, SpatialQueryResult<? super E> result) {
+        return nearest(
+                point.getX().doubleValue(), point.getY().doubleValue(), point.getZ().doubleValue(),
+                count, Double.POSITIVE_INFINITY, result
+        );
+    }
+
+    /**
+     * Finds the specified number of elements closest to specified point and within specified radius,
+     * elements are sorted from the closest to the farthest.
+     * Cells are visited ring by ring around the point until no unvisited cell can contain a closer element.
+     *
+     * @param pX Point's X-Axis
+     * @param pY Point's Y-Axis
+     * @param pZ Point's Z-Axis
+     * @param count Maximum number of elements
+     * @param radius Maximum distance, {@link Double#POSITIVE_INFINITY} for none
+     * @param result Result, cleared before the query
+     * @return Number of elements found
+     */
+    public int nearest(double pX, double pY, double pZ, int count, double radius,
+                       SpatialQueryResult<? super E> result) {
+        result.clear();
+        if(count <= 0 || size == 0)
+            return 0;
+
+        final double radiusSquared = radius * radius;
+        final int centerX = queryCell(pX), centerY = queryCell(pY), centerZ = queryCell(pZ);
+        final int lastRing = Math.max(
+                Math.max(Math.abs(centerX - minCellX), Math.abs(maxCellX - centerX)),
+                Math.max(
+                        Math.max(Math.abs(centerY - minCellY), Math.abs(maxCellY - centerY)),
+                        Math.max(Math.abs(centerZ - minCellZ), Math.abs(maxCellZ - centerZ))
+                )
+        );
+
+        for(int ring = 0; ring <= lastRing; ring++) {
+            // Cells of this ring are at least one ring less than its index away from the point
+            final double reach = ring * cellSize;
+            if(reach - cellSize > radius)
+                break;
+
+            final long side = 2L * ring + 1;
+            if(side * side * side > cells.size() * 2L) {
+                // The ring is larger than the occupied cells, scanning every cell is cheaper
+                for(int slot = 0; slot < cells.slots(); slot++) {
+                    final int head = cells.headAt(slot);
+                    if(head != CellTable.EMPTY && chebyshev(cells.keyAt(slot), centerX, centerY, centerZ) >= ring) {
+                        collectNearest(head, pX, pY, pZ, radiusSquared, count, result);
+                    }
+                }
+                break;
+            }
+
+            // Cells of the ring beyond the packable range would wrap to the opposite side of the grid
+            for(int dX = -ring; dX <= ring; dX++) {
+                if(!inGrid(centerX + dX))
+                    continue;
+
+                for(int dY = -ring; dY <= ring; dY++) {
+                    if(!inGrid(centerY + dY))
+                        continue;
+
+                    final boolean edge = Math.abs(dX) == ring || Math.abs(dY) == ring;
+                    final int step = edge || ring == 0 ? 1 : ring * 2;
+                    for(int dZ = -ring; dZ <= ring; dZ += step) {
+                        if(!inGrid(centerZ + dZ))
+                            continue;
+
+                        collectNearest(
+                                cells.get(pack(centerX + dX, centerY + dY, centerZ + dZ)),
+                                pX, pY, pZ, radiusSquared, count, result
+                        );
+                    }
+                }
+            }
+
+            if(result.size() == count && result.peekFarthest() <= reach * reach)
+                break;
+        }
+        result.sortByDistance();
+        return result.size();
+    }
+
+    private void collectRadius(int entry, double cX, double cY, double cZ, double radiusSquared,
+                               SpatialQueryResult<?> result) {
+        for(; entry != NONE; entry = next[entry]) {
+            final double dX = x[entry] - cX;
+            final double dY = y[entry] - cY;
+            final double dZ = z[entry] - cZ;
+            final double distanceSquared = dX * dX + dY * dY + dZ * dZ;
+            if(distanceSquared <= radiusSquared) {
+                result.add(elements[entry], distanceSquared);
+            }
+        }
+    }
+
+    private void collectBox(int entry, double minX, double minY, double minZ,
+                            double maxX, double maxY, double maxZ,
+                            double cX, double cY, double cZ,
+                            SpatialQueryResult<?> result) {
+        for(; entry != NONE; entry = next[entry]) {
+            final double eX = x[entry], eY = y[entry], eZ = z[entry];
+            if(eX >= minX && eX <= maxX && eY >= minY && eY <= maxY && eZ >= minZ && eZ <= maxZ) {
+                final double dX = eX - cX;
+                final double dY = eY - cY;
+                final double dZ = eZ - cZ;
+                result.add(elements[entry], dX * dX + dY * dY + dZ * dZ);
+            }
+        }
+    }
+
+    private void collectNearest(int entry, double pX, double pY, double pZ, double radiusSquared, int count,
+                                SpatialQueryResult<?> result) {
+        for(; entry != NONE; entry = next[entry]) {
+            final double dX = x[entry] - pX;
+            final double dY = y[entry] - pY;
+            final double dZ = z[entry] - pZ;
+            final double distanceSquared = dX * dX + dY * dY + dZ * dZ;
+            if(distanceSquared <= radiusSquared) {
+                result.offer(elements[entry], distanceSquared, count);
+            }
+        }
+    }
+
+    private void moveEntry(int entry, double x, double y, double z) {
+        final long key = cellKey(x, y, z);
+        this.x[entry] = x;
+        this.y[entry] = y;
+        this.z[entry] = z;
+
+        if(key != cellOf[entry]) {
+            unlink(entry);
+            link(entry, key);
+        }
+    }
+
+    private void link(int entry, long key) {
+        final int head = cells.get(key);
+        cellOf[entry] = key;
+        previous[entry] = NONE;
+        next[entry] = head;
+        if(head != CellTable.EMPTY) {
+            previous[head] = entry;
+        }
+        cells.put(key, entry);
+        expandBounds(key);
+    }
+
+    private void unlink(int entry) {
+        final int before = previous[entry];
+        final int after = next[entry];
+        if(after != NONE) {
+            previous[after] = before;
+        }
+        if(before != NONE) {
+            next[before] = after;
+        } else if(after != NONE) {
+            cells.put(cellOf[entry], after);
+        } else {
+            cells.remove(cellOf[entry]);
+        }
+    }
+
+    private int allocate() {
+        if(free != NONE) {
+            final int entry = free;
+            free = next[entry];
+            return entry;
+        }
+        if(used == elements.length) {
+            final int capacity = used << 1;
+            elements = Arrays.copyOf(elements, capacity);
+            x = Arrays.copyOf(x, capacity);
+            y = Arrays.copyOf(y, capacity);
+            z = Arrays.copyOf(z, capacity);
+            cellOf = Arrays.copyOf(cellOf, capacity);
+            next = Arrays.copyOf(next, capacity);
+            previous = Arrays.copyOf(previous, capacity);
+        }
+        return used++;
+    }
+
+    private void expandBounds(long key) {
+        final int cellX = unpackX(key), cellY = unpackY(key), cellZ = unpackZ(key);
+        minCellX = Math.min(minCellX, cellX);
+        minCellY = Math.min(minCellY, cellY);
+        minCellZ = Math.min(minCellZ, cellZ);
+        maxCellX = Math.max(maxCellX, cellX);
+        maxCellY = Math.max(maxCellY, cellY);
+        maxCellZ = Math.max(maxCellZ, cellZ);
+    }
+
+    private boolean coversMoreThanOccupied(int fromX, int toX, int fromY, int toY, int fromZ, int toZ) {
+        return ((long) toX - fromX + 1) * ((long) toY - fromY + 1) * ((long) toZ - fromZ + 1) > cells.size();
+    }
+
+    private static boolean inCells(long key, int fromX, int toX, int fromY, int toY, int fromZ, int toZ) {
+        final int cellX = unpackX(key), cellY = unpackY(key), cellZ = unpackZ(key);
+        return cellX >= fromX && cellX <= toX
+                && cellY >= fromY && cellY <= toY
+                && cellZ >= fromZ && cellZ <= toZ;
+    }
+
+    private static int chebyshev(long key, int centerX, int centerY, int centerZ) {
+        return Math.max(
+                Math.abs(unpackX(key) - centerX),
+                Math.max(Math.abs(unpackY(key) - centerY), Math.abs(unpackZ(key) - centerZ))
+        );
+    }
+
+    private long cellKey(double x, double y, double z) {
+        return pack(cell(x), cell(y), cell(z));
+    }
+
+    private int cell(double value) {
+        final double cell = Math.floor(value * inverseCellSize);
+        if(cell < -CELL_LIMIT || cell >= CELL_LIMIT)
+            throw new IllegalArgumentException("Position out of the grid bounds (" + value + ")");
+
+        return (int) cell;
+    }
+
+    private int queryCell(double value) {
+        final double cell = Math.floor(value * inverseCellSize);
+        return (int) Math.max(-CELL_LIMIT, Math.min(CELL_LIMIT - 1, cell));
+    }
+
+    /**
+     * @return `True` if specified cell coordinate can be packed without wrapping
+     */
+    private static boolean inGrid(int cell) {
+        return cell >= -CELL_LIMIT && cell < CELL_LIMIT;
+    }
+
+    private static long pack(int cellX, int cellY, int cellZ) {
+        return ((cellX & CELL_MASK) << (CELL_BITS * 2)) | ((cellY & CELL_MASK) << CELL_BITS) | (cellZ & CELL_MASK);
+    }
+
+    private static int unpackX(long key) {
+        return (int) (key << (64 - CELL_BITS * 3) >> (64 - CELL_BITS));
+    }
+
+    private static int unpackY(long key) {
+        return (int) (key << (64 - CELL_BITS * 2) >> (64 - CELL_BITS));
+    }
+
+    private static int unpackZ(long key) {
+        return (int) (key << (64 - CELL_BITS) >> (64 - CELL_BITS));
+    }
+
+}
@@ -0,0 +1,177 @@
+package com.leafclient.struct.maths.spatial;
+
+import java.util.Arrays;
+
+/**
+ * {@link SpatialQueryResult} holds the elements found by a {@link SpatialHashGrid} query along with their
+ * squared distance to the queried point.
+ * A single instance is meant to be reused across queries: each query clears it, and once its arrays
+ * have grown to the needed size, queries do not allocate anything anymore.
+ *
+ * Instances are not thread-safe.
+ *
+ * @param <E> Element type
+ */
+public final class SpatialQueryResult<E> {
+
+    private Object[] elements;
+    private double[] distances;
+    private int size;
+
+    /**
+     * Creates an empty {@link SpatialQueryResult}.
+     */
+    public SpatialQueryResult() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty {@link SpatialQueryResult}.
+     *
+     * @param initialCapacity Initial capacity
+     */
+    public SpatialQueryResult(int initialCapacity) {
+        this.elements = new Object[Math.max(1, initialCapacity)];
+        this.distances = new double[elements.length];
+    }
+
+    /**
+     * @return the number of elements found
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return `True` if no element has been found
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the element found at specified index.
+     *
+     * @param index Index
+     * @return Element
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index);
+        return (E) elements[index];
+    }
+
+    /**
+     * Returns the squared distance between the element found at specified index and the queried point.
+     *
+     * @param index Index
+     * @return Squared distance
+     */
+    public double getDistanceSquared(int index) {
+        checkIndex(index);
+        return distances[index];
+    }
+
+    /**
+     * Sorts the elements found from the closest to the farthest, without allocating.
+     */
+    public void sortByDistance() {
+        for(int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(i, size);
+        }
+        for(int end = size - 1; end > 0; end--) {
+            swap(0, end);
+            siftDown(0, end);
+        }
+    }
+
+    /**
+     * Removes every element.
+     */
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Adds specified element.
+     *
+     * @param element Element
+     * @param distanceSquared Squared distance
+     */
+    void add(Object element, double distanceSquared) {
+        if(size == elements.length) {
+            elements = Arrays.copyOf(elements, size << 1);
+            distances = Arrays.copyOf(distances, size << 1);
+        }
+        elements[size] = element;
+        distances[size++] = distanceSquared;
+    }
+
+    /**
+     * Offers specified element to the first elements of this result, kept as a max-heap
+     * by squared distance.
+     *
+     * @param element Element
+     * @param distanceSquared Squared distance
+     * @param limit Maximum number of elements
+     */
+    void offer(Object element, double distanceSquared, int limit) {
+        if(size < limit) {
+            add(element, distanceSquared);
+            int child = size - 1;
+            while(child > 0) {
+                final int parent = (child - 1) >>> 1;
+                if(distances[parent] >= distances[child])
+                    break;
+                swap(parent, child);
+                child = parent;
+            }
+        } else if(distanceSquared < distances[0]) {
+            elements[0] = element;
+            distances[0] = distanceSquared;
+            siftDown(0, size);
+        }
+    }
+
+    /**
+     * @return the greatest squared distance of the heap built by {@link SpatialQueryResult#offer(Object, double, int)}
+     */
+    double peekFarthest() {
+        return distances[0];
+    }
+
+    private void siftDown(int parent, int end) {
+        while(true) {
+            final int left = parent * 2 + 1;
+            if(left >= end)
+                return;
+
+            int largest = left;
+            if(left + 1 < end && distances[left + 1] > distances[left]) {
+                largest = left + 1;
+            }
+            if(distances[parent] >= distances[largest])
+                return;
+
+            swap(parent, largest);
+            parent = largest;
+        }
+    }
+
+    private void swap(int i, int j) {
+        final Object element = elements[i];
+        elements[i] = elements[j];
+        elements[j] = element;
+
+        final double distance = distances[i];
+        distances[i] = distances[j];
+        distances[j] = distance;
+    }
+
+    private void checkIndex(int index) {
+        if(index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+    }
+
+}
@@ -0,0 +1,289 @@
+package com.leafclient.struct.maths.vector;
+
+/**
+ * A mutable {@link Vector2} storing its 2 axises as primitive doubles.
+ * Every operation writes either into this vector or into a caller-owned destination, so that hot paths
+ * can run without allocating any object. Instances are not thread-safe, see {@link VectorScratch}
+ * to borrow temporary ones.
+ */
+public final class MutableVector2d {
+
+    private double x;
+    private double y;
+
+    /**
+     * Creates a new {@link MutableVector2d} with every axis set to zero.
+     */
+    public MutableVector2d() {
+    }
+
+    /**
+     * Creates a new {@link MutableVector2d} with specified values.
+     *
+     * @param x X-Axis value
+     * @param y Y-Axis value
+     */
+    public MutableVector2d(double x, double y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * @return the X-Axis of this {@link MutableVector2d}
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * Modifies the X-Axis of this {@link MutableVector2d}.
+     *
+     * @param x New X-Axis value
+     * @return This vector
+     */
+    public MutableVector2d setX(double x) {
+        this.x = x;
+        return this;
+    }
+
+    /**
+     * @return the Y-Axis of this {@link MutableVector2d}
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Modifies the Y-Axis of this {@link MutableVector2d}.
+     *
+     * @param y New Y-Axis value
+     * @return This vector
+     */
+    public MutableVector2d setY(double y) {
+        this.y = y;
+        return this;
+    }
+
+    /**
+     * Modifies every axis of this vector.
+     *
+     * @param x X-Axis value
+     * @param y Y-Axis value
+     * @return This vector
+     */
+    public MutableVector2d set(double x, double y) {
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+
+    /**
+     * Copies the axises of specified mutable vector into this one.
+     *
+     * @param other Other
+     * @return This vector
+     */
+    public MutableVector2d set(MutableVector2d other) {
+        return set(
+                other.x,
+                other.y
+        );
+    }
+
+    /**
+     * Copies the axises of specified primitive vector into this one.
+     *
+     * @param other Other
+     * @return This vector
+     */
+    public MutableVector2d set(Vector2d other) {
+        return set(
+                other.getX(),
+                other.getY()
+        );
+    }
+
+    /**
+     * Copies the axises of specified generic vector into this one.
+     *
+     * @param other Other
+     * @return This vector
+     */
+    public MutableVector2d set(Vector2<?> other) {
+        return set(
+                other.getX().doubleValue(),
+                other.getY().doubleValue()
+        );
+    }
+
+    /**
+     * Adds specified vector to this one, in place.
+     *
+     * @param other Other
+     * @return This vector
+     */
+    public MutableVector2d addInPlace(MutableVector2d other) {
+        x += other.x;
+        y += other.y;
+        return this;
+    }
+
+    /**
+     * Adds specified vector to this one, in place.
+     *
+     * @param x X-Axis value
+     * @param y Y-Axis value
+     * @return This vector
+     */
+    public MutableVector2d addInPlace(double x, double y) {
+        this.x += x;
+        this.y += y;
+        return this;
+    }
+
+    /**
+     * Subtracts specified vector to this one, in place.
+     *
+     * @param other Other
+     * @return This vector
+     */
+    public MutableVector2d subtractInPlace(MutableVector2d other) {
+        x -= other.x;
+        y -= other.y;
+        return this;
+    }
+
+    /**
+     * Subtracts specified vector to this one, in place.
+     *
+     * @param x X-Axis value
+     * @param y Y-Axis value
+     * @return This vector
+     */
+    public MutableVector2d subtractInPlace(double x, double y) {
+        this.x -= x;
+        this.y -= y;
+        return this;
+    }
+
+    /**
+     * Multiplies this vector by the specified one, in place.
+     *
+     * @param other Other
+     * @return This vector
+     */
+    public MutableVector2d multiplyInPlace(MutableVector2d other) {
+        x *= other.x;
+        y *= other.y;
+        return this;
+    }
+
+    /**
+     * Multiplies this vector by the specified one, in place.
+     *
+     * @param x X-Axis value
+     * @param y Y-Axis value
+     * @return This vector
+     */
+    public MutableVector2d multiplyInPlace(double x, double y) {
+        this.x *= x;
+        this.y *= y;
+        return this;
+    }
+
+    /**
+     * Multiplies every axis of this vector by specified factor, in place.
+     *
+     * @param factor Factor
+     * @return This vector
+     */
+    public MutableVector2d scaleInPlace(double factor) {
+        x *= factor;
+        y *= factor;
+        return this;
+    }
+
+    /**
+     * Adds specified vector to this one and writes the result into specified destination, which may be this vector.
+     *
+     * @param other Other
+     * @param dest Destination
+     * @return Destination
+     */
+    public MutableVector2d plus(MutableVector2d other, MutableVector2d dest) {
+        return dest.set(
+                x + other.x,
+                y + other.y
+        );
+    }
+
+    /**
+     * Subtracts specified vector to this one and writes the result into specified destination, which may be this vector.
+     *
+     * @param other Other
+     * @param dest Destination
+     * @return Destination
+     */
+    public MutableVector2d minus(MutableVector2d other, MutableVector2d dest) {
+        return dest.set(
+                x - other.x,
+                y - other.y
+        );
+    }
+
+    /**
+     * Multiplies this vector by the specified one and writes the result into specified destination, which may be this vector.
+     *
+     * @param other Other
+     * @param dest Destination
+     * @return Destination
+     */
+    public MutableVector2d multiply(MutableVector2d other, MutableVector2d dest) {
+        return dest.set(
+                x * other.x,
+                y * other.y
+        );
+    }
+
+    /**
+     * Returns the distance between two vectors.
+     *
+     * @param other Other vector
+     * @return Distance
+     */
+    public double getDistance(MutableVector2d other) {
+        return Math.sqrt(getDistanceSquared(other));
+    }
+
+    /**
+     * Returns the squared distance between two vectors.
+     *
+     * @param other Other vector
+     * @return Squared distance
+     */
+    public double getDistanceSquared(MutableVector2d other) {
+        double dX = other.x - x;
+        double dY = other.y - y;
+
+        return dX * dX + dY * dY;
+    }
+
+    /**
+     * Converts this vector to an immutable {@link Vector2d}.
+     *
+     * @return Immutable vector
+     */
+    public Vector2d toVector2d() {
+        return new Vector2d(x, y);
+    }
+
+    /**
+     * Converts this vector to an immutable generic {@link Vector2}.
+     *
+     * @return Generic vector
+     */
+    public Vector2<Double> toVector2() {
+        return new Vector2<>(x, y);
+    }
+
+}
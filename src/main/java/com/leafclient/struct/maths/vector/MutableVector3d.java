@@ -0,0 +1,341 @@
+package com.leafclient.struct.maths.vector;
+
+/**
+ * A mutable {@link Vector3} storing its 3 axises as primitive doubles.
+ * Every operation writes either into this vector or into a caller-owned destination, so that hot paths
+ * can run without allocating any object. Instances are not thread-safe, see {@link VectorScratch}
+ * to borrow temporary ones.
+ */
+public final class MutableVector3d {
+
+    private double x;
+    private double y;
+    private double z;
+
+    /**
+     * Creates a new {@link MutableVector3d} with every axis set to zero.
+     */
+    public MutableVector3d() {
+    }
+
+    /**
+     * Creates a new {@link MutableVector3d} with specified values.
+     *
+     * @param x X-Axis value
+     * @param y Y-Axis value
+     * @param z Z-Axis value
+     */
+    public MutableVector3d(double x, double y, double z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    /**
+     * @return the X-Axis of this {@link MutableVector3d}
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * Modifies the X-Axis of this {@link MutableVector3d}.
+     *
+     * @param x New X-Axis value
+     * @return This vector
+     */
+    public MutableVector3d setX(double x) {
+        this.x = x;
+        return this;
+    }
+
+    /**
+     * @return the Y-Axis of this {@link MutableVector3d}
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Modifies the Y-Axis of this {@link MutableVector3d}.
+     *
+     * @param y New Y-Axis value
+     * @return This vector
+     */
+    public MutableVector3d setY(double y) {
+        this.y = y;
+        return this;
+    }
+
+    /**
+     * @return the Z-Axis of this {@link MutableVector3d}
+     */
+    public double getZ() {
+        return z;
+    }
+
+    /**
+     * Modifies the Z-Axis of this {@link MutableVector3d}.
+     *
+     * @param z New Z-Axis value
+     * @return This vector
+     */
+    public MutableVector3d setZ(double z) {
+        this.z = z;
+        return this;
+    }
+
+    /**
+     * Modifies every axis of this vector.
+     *
+     * @param x X-Axis value
+     * @param y Y-Axis value
+     * @param z Z-Axis value
+     * @return This vector
+     */
+    public MutableVector3d set(double x, double y, double z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        return this;
+    }
+
+    /**
+     * Copies the axises of specified mutable vector into this one.
+     *
+     * @param other Other
+     * @return This vector
+     */
+    public MutableVector3d set(MutableVector3d other) {
+        return set(
+                other.x,
+                other.y,
+                other.z
+        );
+    }
+
+    /**
+     * Copies the axises of specified primitive vector into this one.
+     *
+     * @param other Other
+     * @return This vector
+     */
+    public MutableVector3d set(Vector3d other) {
+        return set(
+                other.getX(),
+                other.getY(),
+                other.getZ()
+        );
+    }
+
+    /**
+     * Copies the axises of specified generic vector into this one.
+     *
+     * @param other Other
+     * @return This vector
+     */
+    public MutableVector3d set(Vector3<?> other) {
+        return set(
+                other.getX().doubleValue(),
+                other.getY().doubleValue(),
+                other.getZ().doubleValue()
+        );
+    }
+
+    /**
+     * Adds specified vector to this one, in place.
+     *
+     * @param other Other
+     * @return This vector
+     */
+    public MutableVector3d addInPlace(MutableVector3d other) {
+        x += other.x;
+        y += other.y;
+        z += other.z;
+        return this;
+    }
+
+    /**
+     * Adds specified vector to this one, in place.
+     *
+     * @param x X-Axis value
+     * @param y Y-Axis value
+     * @param z Z-Axis value
+     * @return This vector
+     */
+    public MutableVector3d addInPlace(double x, double y, double z) {
+        this.x += x;
+        this.y += y;
+        this.z += z;
+        return this;
+    }
+
+    /**
+     * Subtracts specified vector to this one, in place.
+     *
+     * @param other Other
+     * @return This vector
+     */
+    public MutableVector3d subtractInPlace(MutableVector3d other) {
+        x -= other.x;
+        y -= other.y;
+        z -= other.z;
+        return this;
+    }
+
+    /**
+     * Subtracts specified vector to this one, in place.
+     *
+     * @param x X-Axis value
+     * @param y Y-Axis value
+     * @param z Z-Axis value
+     * @return This vector
+     */
+    public MutableVector3d subtractInPlace(double x, double y, double z) {
+        this.x -= x;
+        this.y -= y;
+        this.z -= z;
+        return this;
+    }
+
+    /**
+     * Multiplies this vector by the specified one, in place.
+     *
+     * @param other Other
+     * @return This vector
+     */
+    public MutableVector3d multiplyInPlace(MutableVector3d other) {
+        x *= other.x;
+        y *= other.y;
+        z *= other.z;
+        return this;
+    }
+
+    /**
+     * Multiplies this vector by the specified one, in place.
+     *
+     * @param x X-Axis value
+     * @param y Y-Axis value
+     * @param z Z-Axis value
+     * @return This vector
+     */
+    public MutableVector3d multiplyInPlace(double x, double y, double z) {
+        this.x *= x;
+        this.y *= y;
+        this.z *= z;
+        return this;
+    }
+
+    /**
+     * Multiplies every axis of this vector by specified factor, in place.
+     *
+     * @param factor Factor
+     * @return This vector
+     */
+    public MutableVector3d scaleInPlace(double factor) {
+        x *= factor;
+        y *= factor;
+        z *= factor;
+        return this;
+    }
+
+    /**
+     * Adds specified vector to this one and writes the result into specified destination, which may be this vector.
+     *
+     * @param other Other
+     * @param dest Destination
+     * @return Destination
+     */
+    public MutableVector3d plus(MutableVector3d other, MutableVector3d dest) {
+        return dest.set(
+                x + other.x,
+                y + other.y,
+                z + other.z
+        );
+    }
+
+    /**
+     * Subtracts specified vector to this one and writes the result into specified destination, which may be this vector.
+     *
+     * @param other Other
+     * @param dest Destination
+     * @return Destination
+     */
+    public MutableVector3d minus(MutableVector3d other, MutableVector3d dest) {
+        return dest.set(
+                x - other.x,
+                y - other.y,
+                z - other.z
+        );
+    }
+
+    /**
+     * Multiplies this vector by the specified one and writes the result into specified destination, which may be this vector.
+     *
+     * @param other Other
+     * @param dest Destination
+     * @return Destination
+     */
+    public MutableVector3d multiply(MutableVector3d other, MutableVector3d dest) {
+        return dest.set(
+                x * other.x,
+                y * other.y,
+                z * other.z
+        );
+    }
+
+    /**
+     * Returns the distance between two vectors.
+     *
+     * @param other Other vector
+     * @return Distance
+     */
+    public double getDistance(MutableVector3d other) {
+        return Math.sqrt(getDistanceSquared(other));
+    }
+
+    /**
+     * Returns the squared distance between two vectors.
+     *
+     * @param other Other vector
+     * @return Squared distance
+     */
+    public double getDistanceSquared(MutableVector3d other) {
+        double dX = other.x - x;
+        double dY = other.y - y;
+        double dZ = other.z - z;
+
+        return dX * dX + dY * dY + dZ * dZ;
+    }
+
+    /**
+     * Returns the rotation between specified vector and this one, computed exactly like
+     * {@link Vector3#getRotation(Vector3)}, and writes it into specified destination.
+     *
+     * @param other Specified vector
+     * @param dest Destination, X-Axis is the yaw and Y-Axis the pitch
+     * @return Destination
+     */
+    public MutableVector2d getRotation(MutableVector3d other, MutableVector2d dest) {
+        return Rotations.rotation(x, y, z, other.x, other.y, other.z, dest);
+    }
+
+    /**
+     * Converts this vector to an immutable {@link Vector3d}.
+     *
+     * @return Immutable vector
+     */
+    public Vector3d toVector3d() {
+        return new Vector3d(x, y, z);
+    }
+
+    /**
+     * Converts this vector to an immutable generic {@link Vector3}.
+     *
+     * @return Generic vector
+     */
+    public Vector3<Double> toVector3() {
+        return new Vector3<>(x, y, z);
+    }
+
+}
@@ -0,0 +1,403 @@
+package com.leafclient.struct.maths.vector;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash table keyed by coordinates packed using {@link Vector3i#pack(int, int, int)},
+ * shared by {@link Vector3IntMap} and {@link Vector3IntIntMap} which store the values of each slot.
+ * Collisions are resolved by linear probing, and removals move back the following entries of the cluster
+ * instead of leaving tombstones.
+ *
+ * When bounded, the entries are also linked from the least to the most recently used, and the least recently
+ * used one is evicted once the maximum size is exceeded.
+ */
+abstract class PackedVector3Table {
+
+    private static final int NONE = -1;
+
+    private final int maximumSize;
+
+    private long[] keys;
+    private boolean[] used;
+    private int mask;
+    private int size;
+
+    // Recency links by slot, only allocated when bounded
+    private int[] older;
+    private int[] newer;
+    private int eldest = NONE;
+    private int youngest = NONE;
+
+    /**
+     * Creates an empty table.
+     *
+     * @param expectedSize Expected number of entries
+     * @param maximumSize Maximum number of entries or 0 if unbounded
+     */
+    PackedVector3Table(int expectedSize, int maximumSize) {
+        if(maximumSize < 0)
+            throw new IllegalArgumentException("Maximum size must be positive (" + maximumSize + ")");
+
+        this.maximumSize = maximumSize;
+        allocate(capacityFor(maximumSize > 0 ? maximumSize + 1 : expectedSize));
+    }
+
+    /**
+     * Allocates the values of specified number of slots.
+     *
+     * @param capacity Number of slots
+     */
+    abstract void allocateValues(int capacity);
+
+    /**
+     * @return the current values array, given back to {@link PackedVector3Table#copyValue(Object, int, int)}
+     * after a rehash
+     */
+    abstract Object values();
+
+    /**
+     * Copies the value of a slot of a previous values array into a slot of the current one.
+     */
+    abstract void copyValue(Object oldValues, int oldSlot, int slot);
+
+    /**
+     * Moves the value of a slot into another one of the current values array.
+     */
+    abstract void moveValue(int from, int to);
+
+    /**
+     * Clears the value of specified slot.
+     */
+    abstract void clearValue(int slot);
+
+    /**
+     * Clears every value.
+     */
+    abstract void clearValues();
+
+    /**
+     * @return the number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return `True` if there is no entry
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the maximum number of entries, or 0 if unbounded
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns whether an entry exists at specified coordinates, without updating its recency.
+     *
+     * @param x X-Axis
+     * @param y Y-Axis
+     * @param z Z-Axis
+     * @return `True` if an entry exists
+     */
+    public boolean containsKey(int x, int y, int z) {
+        return isPackable(x, y, z) && find(Vector3i.pack(x, y, z)) != NONE;
+    }
+
+    /**
+     * Removes the entries whose coordinates are inside specified box, bounds included.
+     *
+     * @param minX Minimum X-Axis
+     * @param minY Minimum Y-Axis
+     * @param minZ Minimum Z-Axis
+     * @param maxX Maximum X-Axis
+     * @param maxY Maximum Y-Axis
+     * @param maxZ Maximum Z-Axis
+     * @return Number of removed entries
+     */
+    public int removeRegion(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        minX = Math.max(minX, Vector3i.PACKED_HORIZONTAL_MIN);
+        minY = Math.max(minY, Vector3i.PACKED_VERTICAL_MIN);
+        minZ = Math.max(minZ, Vector3i.PACKED_HORIZONTAL_MIN);
+        maxX = Math.min(maxX, Vector3i.PACKED_HORIZONTAL_MAX);
+        maxY = Math.min(maxY, Vector3i.PACKED_VERTICAL_MAX);
+        maxZ = Math.min(maxZ, Vector3i.PACKED_HORIZONTAL_MAX);
+        if(minX > maxX || minY > maxY || minZ > maxZ || size == 0)
+            return 0;
+
+        int removed = 0;
+        final double volume = (maxX - (double) minX + 1) * (maxY - (double) minY + 1) * (maxZ - (double) minZ + 1);
+        if(volume <= size) {
+            // Small regions are cheaper to look up coordinate by coordinate
+            for(int x = minX; x <= maxX; x++) {
+                for(int z = minZ; z <= maxZ; z++) {
+                    for(int y = minY; y <= maxY; y++) {
+                        final int slot = find(Vector3i.pack(x, y, z));
+                        if(slot != NONE) {
+                            removeSlot(slot);
+                            removed++;
+                        }
+                    }
+                }
+            }
+            return removed;
+        }
+
+        for(int slot = 0; slot < keys.length; slot++) {
+            // Removing an entry can move the next one of its cluster into this slot, which is then checked again
+            while(used[slot] && inside(keys[slot], minX, minY, minZ, maxX, maxY, maxZ)) {
+                removeSlot(slot);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void clear() {
+        Arrays.fill(used, false);
+        clearValues();
+        size = 0;
+        eldest = youngest = NONE;
+    }
+
+    /**
+     * @return the number of slots, see {@link PackedVector3Table#isUsed(int)}
+     */
+    final int slots() {
+        return keys.length;
+    }
+
+    /**
+     * @param slot Slot
+     * @return `True` if specified slot contains an entry
+     */
+    final boolean isUsed(int slot) {
+        return used[slot];
+    }
+
+    /**
+     * @param slot Slot
+     * @return the packed coordinates stored at specified slot
+     */
+    final long keyAt(int slot) {
+        return keys[slot];
+    }
+
+    /**
+     * Returns the slot of specified packed coordinates.
+     *
+     * @param key Packed coordinates
+     * @return Slot or -1 if there is no such entry
+     */
+    final int find(long key) {
+        int slot = mix(key) & mask;
+        while(used[slot]) {
+            if(keys[slot] == key)
+                return slot;
+            slot = (slot + 1) & mask;
+        }
+        return NONE;
+    }
+
+    /**
+     * Returns the slot of specified packed coordinates, adding the key if needed. A new entry must receive its
+     * value before {@link PackedVector3Table#afterInsertion()} is called.
+     *
+     * @param key Packed coordinates
+     * @return Slot of the existing entry, or the bitwise complement of the slot of the new entry
+     */
+    final int insert(long key) {
+        int slot = mix(key) & mask;
+        while(used[slot]) {
+            if(keys[slot] == key)
+                return slot;
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        used[slot] = true;
+        size++;
+        linkYoungest(slot);
+        return ~slot;
+    }
+
+    /**
+     * Evicts the least recently used entry if the maximum size is exceeded, or grows the table if needed.
+     * Slots are not valid anymore after this call.
+     */
+    final void afterInsertion() {
+        if(maximumSize > 0 && size > maximumSize) {
+            removeSlot(eldest);
+        } else if(size * 4 > keys.length * 3) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * Marks the entry of specified slot as the most recently used one.
+     *
+     * @param slot Slot
+     */
+    final void touch(int slot) {
+        if(older == null || slot == youngest)
+            return;
+
+        unlink(slot);
+        linkYoungest(slot);
+    }
+
+    /**
+     * Removes the entry of specified slot.
+     *
+     * @param slot Slot
+     */
+    final void removeSlot(int slot) {
+        unlink(slot);
+        clearValue(slot);
+        size--;
+
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while(used[next]) {
+            final int ideal = mix(keys[next]) & mask;
+            if(((next - ideal) & mask) >= ((next - gap) & mask)) {
+                move(next, gap);
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        used[gap] = false;
+    }
+
+    /**
+     * @return `True` if specified coordinates can be packed
+     */
+    static boolean isPackable(int x, int y, int z) {
+        return x >= Vector3i.PACKED_HORIZONTAL_MIN && x <= Vector3i.PACKED_HORIZONTAL_MAX
+                && y >= Vector3i.PACKED_VERTICAL_MIN && y <= Vector3i.PACKED_VERTICAL_MAX
+                && z >= Vector3i.PACKED_HORIZONTAL_MIN && z <= Vector3i.PACKED_HORIZONTAL_MAX;
+    }
+
+    private void move(int from, int to) {
+        keys[to] = keys[from];
+        moveValue(from, to);
+        clearValue(from);
+        if(older == null)
+            return;
+
+        older[to] = older[from];
+        newer[to] = newer[from];
+        if(older[to] == NONE) {
+            eldest = to;
+        } else {
+            newer[older[to]] = to;
+        }
+        if(newer[to] == NONE) {
+            youngest = to;
+        } else {
+            older[newer[to]] = to;
+        }
+    }
+
+    private void linkYoungest(int slot) {
+        if(older == null)
+            return;
+
+        older[slot] = youngest;
+        newer[slot] = NONE;
+        if(youngest == NONE) {
+            eldest = slot;
+        } else {
+            newer[youngest] = slot;
+        }
+        youngest = slot;
+    }
+
+    private void unlink(int slot) {
+        if(older == null)
+            return;
+
+        if(older[slot] == NONE) {
+            eldest = newer[slot];
+        } else {
+            newer[older[slot]] = newer[slot];
+        }
+        if(newer[slot] == NONE) {
+            youngest = older[slot];
+        } else {
+            older[newer[slot]] = older[slot];
+        }
+    }
+
+    private void rehash(int capacity) {
+        final long[] oldKeys = keys;
+        final boolean[] oldUsed = used;
+        final int[] oldNewer = newer;
+        final int oldEldest = eldest;
+        final Object oldValues = values();
+        allocate(capacity);
+        eldest = youngest = NONE;
+
+        if(oldNewer != null) {
+            // Reinserted from the least recently used so that the recency order is kept
+            for(int slot = oldEldest; slot != NONE; slot = oldNewer[slot]) {
+                copyValue(oldValues, slot, place(oldKeys[slot]));
+            }
+        } else {
+            for(int slot = 0; slot < oldKeys.length; slot++) {
+                if(oldUsed[slot]) {
+                    copyValue(oldValues, slot, place(oldKeys[slot]));
+                }
+            }
+        }
+    }
+
+    private int place(long key) {
+        int slot = mix(key) & mask;
+        while(used[slot]) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        used[slot] = true;
+        linkYoungest(slot);
+        return slot;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+        if(maximumSize > 0) {
+            older = new int[capacity];
+            newer = new int[capacity];
+        }
+        allocateValues(capacity);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = 16;
+        while(capacity * 3 < expectedSize * 4) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static boolean inside(long key, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        final int x = Vector3i.unpackX(key), y = Vector3i.unpackY(key), z = Vector3i.unpackZ(key);
+        return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+    }
+
+    private static int mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.leafclient.struct.maths.vector;
+
+/**
+ * Holds the rotation formula shared by every vector implementation so their results stay identical
+ * to {@link Vector3#getRotation(Vector3)}.
+ */
+final class Rotations {
+
+    private Rotations() {
+    }
+
+    /**
+     * Computes the rotation between the two specified positions and writes it into specified destination.
+     *
+     * @param x X-Axis of the first position
+     * @param y Y-Axis of the first position
+     * @param z Z-Axis of the first position
+     * @param otherX X-Axis of the second position
+     * @param otherY Y-Axis of the second position
+     * @param otherZ Z-Axis of the second position
+     * @param dest Destination, X-Axis is the yaw and Y-Axis the pitch
+     * @return Destination
+     */
+    static MutableVector2d rotation(double x, double y, double z,
+                                    double otherX, double otherY, double otherZ,
+                                    MutableVector2d dest) {
+        return dest.set(
+                yaw(x - otherX, z - otherZ),
+                pitch(x - otherX, y - otherY, z - otherZ)
+        );
+    }
+
+    /**
+     * @param dX X-Axis difference
+     * @param dZ Z-Axis difference
+     * @return The yaw, as computed by {@link Vector3#getRotation(Vector3)}
+     */
+    static float yaw(double dX, double dZ) {
+        return (float)(Math.toDegrees(Math.atan2(dZ, dX)) + 90F);
+    }
+
+    /**
+     * @param dX X-Axis difference
+     * @param dY Y-Axis difference
+     * @param dZ Z-Axis difference
+     * @return The pitch, as computed by {@link Vector3#getRotation(Vector3)}
+     */
+    static float pitch(double dX, double dY, double dZ) {
+        double dH = Math.sqrt(Math.pow(dX, 2) + Math.pow(dZ, 2));
+
+        return (float)(90F - Math.toDegrees(Math.atan2(dH, dY)));
+    }
+
+}
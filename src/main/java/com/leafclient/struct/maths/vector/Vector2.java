@@ -1,10 +1,11 @@
 package com.leafclient.struct.maths.vector;
 
+import com.leafclient.struct.maths.metrics.MathMetrics;
+import com.leafclient.struct.maths.metrics.MathOperation;
+
 import java.util.Objects;
 
-import static com.leafclient.struct.maths.MathOperationsHelper.add;
-import static com.leafclient.struct.maths.MathOperationsHelper.subtract;
-import static com.leafclient.struct.maths.MathOperationsHelper.multiplication;
+import static com.leafclient.struct.maths.MathOperationsHelper.unmeteredArithmetic;
 
 /**
  * A simple class utility that contains information about a {@link Vector2} based on 2 axises.
@@ -48,9 +49,12 @@ public final class Vector2<T extends Number> {
      * @return Addition vector
      */
     public Vector2<T> plus(Vector2<T> other) {
+        if(MathMetrics.ENABLED) {
+            MathMetrics.count(MathOperation.VECTOR_PLUS, x.getClass());
+        }
         return new Vector2<>(
-                add(x, other.x),
-                add(y, other.y)
+                unmeteredArithmetic(x).add(x, other.x),
+                unmeteredArithmetic(y).add(y, other.y)
         );
     }
 
@@ -61,9 +65,12 @@ public final class Vector2<T extends Number> {
      * @return Addition vector
      */
     public Vector2<T> minus(Vector2<T> other) {
+        if(MathMetrics.ENABLED) {
+            MathMetrics.count(MathOperation.VECTOR_MINUS, x.getClass());
+        }
         return new Vector2<>(
-                subtract(x, other.x),
-                subtract(y, other.y)
+                unmeteredArithmetic(x).subtract(x, other.x),
+                unmeteredArithmetic(y).subtract(y, other.y)
         );
     }
 
@@ -74,9 +81,12 @@ public final class Vector2<T extends Number> {
      * @return Addition vector
      */
     public Vector2<T> multiply(Vector2<T> other) {
+        if(MathMetrics.ENABLED) {
+            MathMetrics.count(MathOperation.VECTOR_MULTIPLY, x.getClass());
+        }
         return new Vector2<>(
-                multiplication(x, other.x),
-                multiplication(y, other.y)
+                unmeteredArithmetic(x).multiplication(x, other.x),
+                unmeteredArithmetic(y).multiplication(y, other.y)
         );
     }
 
@@ -87,12 +97,84 @@ public final class Vector2<T extends Number> {
      * @return Distance
      */
     public double getDistance(Vector3<?> other) {
+        if(MathMetrics.ENABLED) {
+            MathMetrics.count(MathOperation.VECTOR_DISTANCE, x.getClass());
+        }
         double diffX = other.getX().doubleValue() - x.doubleValue();
         double diffY = other.getY().doubleValue() - y.doubleValue();
 
         return Math.sqrt(diffX * diffX + diffY * diffY);
     }
 
+    /**
+     * Adds specified vector to this one and writes the result into specified destination without allocating.
+     *
+     * @param other Other
+     * @param dest Destination
+     * @return Destination
+     */
+    public MutableVector2d plus(Vector2<?> other, MutableVector2d dest) {
+        return dest.set(
+                x.doubleValue() + other.getX().doubleValue(),
+                y.doubleValue() + other.getY().doubleValue()
+        );
+    }
+
+    /**
+     * Subtracts specified vector to this one and writes the result into specified destination without allocating.
+     *
+     * @param other Other
+     * @param dest Destination
+     * @return Destination
+     */
+    public MutableVector2d minus(Vector2<?> other, MutableVector2d dest) {
+        return dest.set(
+                x.doubleValue() - other.getX().doubleValue(),
+                y.doubleValue() - other.getY().doubleValue()
+        );
+    }
+
+    /**
+     * Multiplies this vector by the specified one and writes the result into specified destination without allocating.
+     *
+     * @param other Other
+     * @param dest Destination
+     * @return Destination
+     */
+    public MutableVector2d multiply(Vector2<?> other, MutableVector2d dest) {
+        return dest.set(
+                x.doubleValue() * other.getX().doubleValue(),
+                y.doubleValue() * other.getY().doubleValue()
+        );
+    }
+
+    /**
+     * Converts this vector to a {@link Vector2d}, each axis is converted using {@link Number#doubleValue()}.
+     *
+     * @return Primitive vector
+     */
+    public Vector2d toVector2d() {
+        return Vector2d.from(this);
+    }
+
+    /**
+     * Converts this vector to a {@link Vector2f}, each axis is converted using {@link Number#floatValue()}.
+     *
+     * @return Primitive vector
+     */
+    public Vector2f toVector2f() {
+        return Vector2f.from(this);
+    }
+
+    /**
+     * Converts this vector to a {@link Vector2i}, each axis is converted using {@link Number#intValue()}.
+     *
+     * @return Primitive vector
+     */
+    public Vector2i toVector2i() {
+        return Vector2i.from(this);
+    }
+
     /**
      * @inheritDoc
      */
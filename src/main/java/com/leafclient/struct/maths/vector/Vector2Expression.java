@@ -0,0 +1,227 @@
+package com.leafclient.struct.maths.vector;
+
+import com.leafclient.struct.maths.NumberArithmetic;
+import com.leafclient.struct.maths.VectorKernels;
+
+import java.util.Arrays;
+
+import static com.leafclient.struct.maths.MathOperationsHelper.arithmetic;
+
+/**
+ * {@link Vector2Expression} records a chain of operations over {@link Vector2} and applies it later to any number
+ * of input vectors, see {@link Vector3Expression}.
+ *
+ * Instances are not thread-safe while recording, but can be shared once every operation has been recorded.
+ */
+public final class Vector2Expression {
+
+    private static final byte ADD = 0;
+    private static final byte MULTIPLY = 1;
+
+    /**
+     * Number of positions evaluated at once by the bulk operations.
+     */
+    private static final int BLOCK = 512;
+
+    private byte[] operations = new byte[4];
+    private double[] operands = new double[8];
+    private int size;
+
+    /**
+     * @return the number of recorded operations
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes every recorded operation.
+     *
+     * @return This expression
+     */
+    public Vector2Expression clear() {
+        size = 0;
+        return this;
+    }
+
+    /**
+     * @return a copy of this {@link Vector2Expression}
+     */
+    public Vector2Expression copy() {
+        final Vector2Expression copy = new Vector2Expression();
+        copy.operations = Arrays.copyOf(operations, operations.length);
+        copy.operands = Arrays.copyOf(operands, operands.length);
+        copy.size = size;
+        return copy;
+    }
+
+    /**
+     * Records the addition of specified vector.
+     *
+     * @param other Other
+     * @return This expression
+     */
+    public Vector2Expression plus(Vector2<?> other) {
+        return plus(other.getX().doubleValue(), other.getY().doubleValue());
+    }
+
+    /**
+     * Records the addition of specified values.
+     *
+     * @param x X-Axis value
+     * @param y Y-Axis value
+     * @return This expression
+     */
+    public Vector2Expression plus(double x, double y) {
+        return record(ADD, x, y);
+    }
+
+    /**
+     * Records the subtraction of specified vector.
+     *
+     * @param other Other
+     * @return This expression
+     */
+    public Vector2Expression minus(Vector2<?> other) {
+        return minus(other.getX().doubleValue(), other.getY().doubleValue());
+    }
+
+    /**
+     * Records the subtraction of specified values.
+     *
+     * @param x X-Axis value
+     * @param y Y-Axis value
+     * @return This expression
+     */
+    public Vector2Expression minus(double x, double y) {
+        return record(ADD, -x, -y);
+    }
+
+    /**
+     * Records the multiplication by specified vector.
+     *
+     * @param other Other
+     * @return This expression
+     */
+    public Vector2Expression multiply(Vector2<?> other) {
+        return multiply(other.getX().doubleValue(), other.getY().doubleValue());
+    }
+
+    /**
+     * Records the multiplication by specified values.
+     *
+     * @param x X-Axis value
+     * @param y Y-Axis value
+     * @return This expression
+     */
+    public Vector2Expression multiply(double x, double y) {
+        return record(MULTIPLY, x, y);
+    }
+
+    /**
+     * Records the multiplication of every axis by specified factor.
+     *
+     * @param factor Factor
+     * @return This expression
+     */
+    public Vector2Expression scale(double factor) {
+        return record(MULTIPLY, factor, factor);
+    }
+
+    /**
+     * Applies this expression to specified vector.
+     *
+     * @param input Input vector
+     * @param <T> Number type
+     * @return Result, of the same number type as the input
+     */
+    public <T extends Number> Vector2<T> apply(Vector2<T> input) {
+        final double x = applyAxis(input.getX().doubleValue(), 0);
+        final double y = applyAxis(input.getY().doubleValue(), 1);
+        final NumberArithmetic<T> arithmetic = arithmetic(input.getX());
+        return new Vector2<>(arithmetic.cast(x), arithmetic.cast(y));
+    }
+
+    /**
+     * Applies this expression to specified vector and writes the result into specified destination.
+     *
+     * @param input Input vector
+     * @param dest Destination
+     * @return Destination
+     */
+    public MutableVector2d apply(Vector2<?> input, MutableVector2d dest) {
+        return apply(input.getX().doubleValue(), input.getY().doubleValue(), dest);
+    }
+
+    /**
+     * Applies this expression to specified values and writes the result into specified destination.
+     *
+     * @param x X-Axis value
+     * @param y Y-Axis value
+     * @param dest Destination, can hold the input
+     * @return Destination
+     */
+    public MutableVector2d apply(double x, double y, MutableVector2d dest) {
+        return dest.set(applyAxis(x, 0), applyAxis(y, 1));
+    }
+
+    /**
+     * Applies this expression to specified vector, in place.
+     *
+     * @param vector Vector
+     * @return Vector
+     */
+    public MutableVector2d applyInPlace(MutableVector2d vector) {
+        return apply(vector.getX(), vector.getY(), vector);
+    }
+
+    /**
+     * Applies this expression to the vectors stored in the specified arrays, in place, from {@code offset}
+     * included to {@code offset + length} excluded.
+     *
+     * @param x X-Axis values
+     * @param y Y-Axis values
+     * @param offset First vector index
+     * @param length Number of vectors
+     */
+    public void applyInPlace(double[] x, double[] y, int offset, int length) {
+        final int end = offset + length;
+        for(int from = offset; from < end; from += BLOCK) {
+            final int count = Math.min(BLOCK, end - from);
+            for(int operation = 0; operation < size; operation++) {
+                final int operand = operation << 1;
+                if(operations[operation] == ADD) {
+                    VectorKernels.add(x, operands[operand], from, count);
+                    VectorKernels.add(y, operands[operand + 1], from, count);
+                } else {
+                    VectorKernels.scale(x, operands[operand], from, count);
+                    VectorKernels.scale(y, operands[operand + 1], from, count);
+                }
+            }
+        }
+    }
+
+    private double applyAxis(double value, int axis) {
+        for(int operation = 0, operand = axis; operation < size; operation++, operand += 2) {
+            if(operations[operation] == ADD) {
+                value += operands[operand];
+            } else {
+                value *= operands[operand];
+            }
+        }
+        return value;
+    }
+
+    private Vector2Expression record(byte operation, double x, double y) {
+        if(size == operations.length) {
+            operations = Arrays.copyOf(operations, size << 1);
+            operands = Arrays.copyOf(operands, size << 2);
+        }
+        operations[size] = operation;
+        operands[size << 1] = x;
+        operands[(size << 1) + 1] = y;
+        size++;
+        return this;
+    }
+
+}
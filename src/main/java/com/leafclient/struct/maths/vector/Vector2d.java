@@ -0,0 +1,193 @@
+package com.leafclient.struct.maths.vector;
+
+/**
+ * A {@link Vector2} specialization storing its 2 axises as primitive doubles.
+ * Unlike {@link Vector2}, its operations never box their values nor go through the
+ * {@link com.leafclient.struct.maths.MathOperationsHelper}.
+ */
+public final class Vector2d {
+
+    private final double x;
+    private final double y;
+
+    /**
+     * Creates a new {@link Vector2d} with specified values.
+     *
+     * @param x X-Axis value
+     * @param y Y-Axis value
+     */
+    public Vector2d(double x, double y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * @return the X-Axis of this {@link Vector2d}
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * @return the Y-Axis of this {@link Vector2d}
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Adds specified vector to this one
+     *
+     * @param other Other
+     * @return Addition vector
+     */
+    public Vector2d plus(Vector2d other) {
+        return new Vector2d(
+                x + other.x,
+                y + other.y
+        );
+    }
+
+    /**
+     * Subtracts specified vector to this one
+     *
+     * @param other Other
+     * @return Subtraction vector
+     */
+    public Vector2d minus(Vector2d other) {
+        return new Vector2d(
+                x - other.x,
+                y - other.y
+        );
+    }
+
+    /**
+     * Multiplies this vector by the specified one
+     *
+     * @param other Other
+     * @return Multiplication vector
+     */
+    public Vector2d multiply(Vector2d other) {
+        return new Vector2d(
+                x * other.x,
+                y * other.y
+        );
+    }
+
+    /**
+     * Returns the distance between two vectors.
+     *
+     * @param other Other vector
+     * @return Distance
+     */
+    public double getDistance(Vector2d other) {
+        return Math.sqrt(getDistanceSquared(other));
+    }
+
+    /**
+     * Returns the squared distance between two vectors, cheaper than {@link Vector2d#getDistance(Vector2d)}
+     * when only comparing distances.
+     *
+     * @param other Other vector
+     * @return Squared distance
+     */
+    public double getDistanceSquared(Vector2d other) {
+        double dX = other.x - x;
+        double dY = other.y - y;
+
+        return dX * dX + dY * dY;
+    }
+
+    /**
+     * Adds specified vector to this one and writes the result into specified destination without allocating.
+     *
+     * @param other Other
+     * @param dest Destination
+     * @return Destination
+     */
+    public MutableVector2d plus(Vector2d other, MutableVector2d dest) {
+        return dest.set(
+                x + other.x,
+                y + other.y
+        );
+    }
+
+    /**
+     * Subtracts specified vector to this one and writes the result into specified destination without allocating.
+     *
+     * @param other Other
+     * @param dest Destination
+     * @return Destination
+     */
+    public MutableVector2d minus(Vector2d other, MutableVector2d dest) {
+        return dest.set(
+                x - other.x,
+                y - other.y
+        );
+    }
+
+    /**
+     * Multiplies this vector by the specified one and writes the result into specified destination without allocating.
+     *
+     * @param other Other
+     * @param dest Destination
+     * @return Destination
+     */
+    public MutableVector2d multiply(Vector2d other, MutableVector2d dest) {
+        return dest.set(
+                x * other.x,
+                y * other.y
+        );
+    }
+
+    /**
+     * Converts this vector to a {@link MutableVector2d}.
+     *
+     * @return Mutable copy
+     */
+    public MutableVector2d toMutable() {
+        return new MutableVector2d(x, y);
+    }
+
+    /**
+     * Converts this vector to its generic {@link Vector2} counterpart.
+     *
+     * @return Generic vector
+     */
+    public Vector2<Double> toVector2() {
+        return new Vector2<>(x, y);
+    }
+
+    /**
+     * Creates a {@link Vector2d} from specified generic {@link Vector2}.
+     *
+     * @param vector Generic vector
+     * @return Primitive vector
+     */
+    public static Vector2d from(Vector2<?> vector) {
+        return new Vector2d(
+                vector.getX().doubleValue(),
+                vector.getY().doubleValue()
+        );
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        Vector2d vector2 = (Vector2d) o;
+        return Double.compare(x, vector2.x) == 0 &&
+                Double.compare(y, vector2.y) == 0;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(x) + Double.hashCode(y);
+    }
+
+}
@@ -0,0 +1,142 @@
+package com.leafclient.struct.maths.vector;
+
+/**
+ * A {@link Vector2} specialization storing its 2 axises as primitive floats.
+ * Unlike {@link Vector2}, its operations never box their values nor go through the
+ * {@link com.leafclient.struct.maths.MathOperationsHelper}.
+ */
+public final class Vector2f {
+
+    private final float x;
+    private final float y;
+
+    /**
+     * Creates a new {@link Vector2f} with specified values.
+     *
+     * @param x X-Axis value
+     * @param y Y-Axis value
+     */
+    public Vector2f(float x, float y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * @return the X-Axis of this {@link Vector2f}
+     */
+    public float getX() {
+        return x;
+    }
+
+    /**
+     * @return the Y-Axis of this {@link Vector2f}
+     */
+    public float getY() {
+        return y;
+    }
+
+    /**
+     * Adds specified vector to this one
+     *
+     * @param other Other
+     * @return Addition vector
+     */
+    public Vector2f plus(Vector2f other) {
+        return new Vector2f(
+                x + other.x,
+                y + other.y
+        );
+    }
+
+    /**
+     * Subtracts specified vector to this one
+     *
+     * @param other Other
+     * @return Subtraction vector
+     */
+    public Vector2f minus(Vector2f other) {
+        return new Vector2f(
+                x - other.x,
+                y - other.y
+        );
+    }
+
+    /**
+     * Multiplies this vector by the specified one
+     *
+     * @param other Other
+     * @return Multiplication vector
+     */
+    public Vector2f multiply(Vector2f other) {
+        return new Vector2f(
+                x * other.x,
+                y * other.y
+        );
+    }
+
+    /**
+     * Returns the distance between two vectors.
+     *
+     * @param other Other vector
+     * @return Distance
+     */
+    public double getDistance(Vector2f other) {
+        return Math.sqrt(getDistanceSquared(other));
+    }
+
+    /**
+     * Returns the squared distance between two vectors, cheaper than {@link Vector2f#getDistance(Vector2f)}
+     * when only comparing distances.
+     *
+     * @param other Other vector
+     * @return Squared distance
+     */
+    public double getDistanceSquared(Vector2f other) {
+        double dX = (double) other.x - x;
+        double dY = (double) other.y - y;
+
+        return dX * dX + dY * dY;
+    }
+
+    /**
+     * Converts this vector to its generic {@link Vector2} counterpart.
+     *
+     * @return Generic vector
+     */
+    public Vector2<Float> toVector2() {
+        return new Vector2<>(x, y);
+    }
+
+    /**
+     * Creates a {@link Vector2f} from specified generic {@link Vector2}.
+     *
+     * @param vector Generic vector
+     * @return Primitive vector
+     */
+    public static Vector2f from(Vector2<?> vector) {
+        return new Vector2f(
+                vector.getX().floatValue(),
+                vector.getY().floatValue()
+        );
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        Vector2f vector2 = (Vector2f) o;
+        return Float.compare(x, vector2.x) == 0 &&
+                Float.compare(y, vector2.y) == 0;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Float.hashCode(x) + Float.hashCode(y);
+    }
+
+}
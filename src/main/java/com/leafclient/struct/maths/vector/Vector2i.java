@@ -0,0 +1,142 @@
+package com.leafclient.struct.maths.vector;
+
+/**
+ * A {@link Vector2} specialization storing its 2 axises as primitive ints.
+ * Unlike {@link Vector2}, its operations never box their values nor go through the
+ * {@link com.leafclient.struct.maths.MathOperationsHelper}.
+ */
+public final class Vector2i {
+
+    private final int x;
+    private final int y;
+
+    /**
+     * Creates a new {@link Vector2i} with specified values.
+     *
+     * @param x X-Axis value
+     * @param y Y-Axis value
+     */
+    public Vector2i(int x, int y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * @return the X-Axis of this {@link Vector2i}
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * @return the Y-Axis of this {@link Vector2i}
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Adds specified vector to this one
+     *
+     * @param other Other
+     * @return Addition vector
+     */
+    public Vector2i plus(Vector2i other) {
+        return new Vector2i(
+                x + other.x,
+                y + other.y
+        );
+    }
+
+    /**
+     * Subtracts specified vector to this one
+     *
+     * @param other Other
+     * @return Subtraction vector
+     */
+    public Vector2i minus(Vector2i other) {
+        return new Vector2i(
+                x - other.x,
+                y - other.y
+        );
+    }
+
+    /**
+     * Multiplies this vector by the specified one
+     *
+     * @param other Other
+     * @return Multiplication vector
+     */
+    public Vector2i multiply(Vector2i other) {
+        return new Vector2i(
+                x * other.x,
+                y * other.y
+        );
+    }
+
+    /**
+     * Returns the distance between two vectors.
+     *
+     * @param other Other vector
+     * @return Distance
+     */
+    public double getDistance(Vector2i other) {
+        return Math.sqrt(getDistanceSquared(other));
+    }
+
+    /**
+     * Returns the squared distance between two vectors, cheaper than {@link Vector2i#getDistance(Vector2i)}
+     * when only comparing distances.
+     *
+     * @param other Other vector
+     * @return Squared distance
+     */
+    public double getDistanceSquared(Vector2i other) {
+        double dX = (double) other.x - x;
+        double dY = (double) other.y - y;
+
+        return dX * dX + dY * dY;
+    }
+
+    /**
+     * Converts this vector to its generic {@link Vector2} counterpart.
+     *
+     * @return Generic vector
+     */
+    public Vector2<Integer> toVector2() {
+        return new Vector2<>(x, y);
+    }
+
+    /**
+     * Creates a {@link Vector2i} from specified generic {@link Vector2}.
+     *
+     * @param vector Generic vector
+     * @return Primitive vector
+     */
+    public static Vector2i from(Vector2<?> vector) {
+        return new Vector2i(
+                vector.getX().intValue(),
+                vector.getY().intValue()
+        );
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        Vector2i vector2 = (Vector2i) o;
+        return x == vector2.x &&
+                y == vector2.y;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Integer.hashCode(x) + Integer.hashCode(y);
+    }
+
+}
@@ -1,10 +1,11 @@
 package com.leafclient.struct.maths.vector;
 
+import com.leafclient.struct.maths.metrics.MathMetrics;
+import com.leafclient.struct.maths.metrics.MathOperation;
+
 import java.util.Objects;
 
-import static com.leafclient.struct.maths.MathOperationsHelper.add;
-import static com.leafclient.struct.maths.MathOperationsHelper.subtract;
-import static com.leafclient.struct.maths.MathOperationsHelper.multiplication;
+import static com.leafclient.struct.maths.MathOperationsHelper.unmeteredArithmetic;
 
 /**
  * A simple class utility that contains information about a {@link Vector3} based on 3 axises.
@@ -58,10 +59,13 @@ public final class Vector3<T extends Number> {
      * @return Addition vector
      */
     public Vector3<T> plus(Vector3<T> other) {
+        if(MathMetrics.ENABLED) {
+            MathMetrics.count(MathOperation.VECTOR_PLUS, x.getClass());
+        }
         return new Vector3<>(
-                add(x, other.x),
-                add(y, other.y),
-                add(z, other.z)
+                unmeteredArithmetic(x).add(x, other.x),
+                unmeteredArithmetic(y).add(y, other.y),
+                unmeteredArithmetic(z).add(z, other.z)
         );
     }
 
@@ -72,10 +76,13 @@ public final class Vector3<T extends Number> {
      * @return Addition vector
      */
     public Vector3<T> minus(Vector3<T> other) {
+        if(MathMetrics.ENABLED) {
+            MathMetrics.count(MathOperation.VECTOR_MINUS, x.getClass());
+        }
         return new Vector3<>(
-                subtract(x, other.x),
-                subtract(y, other.y),
-                subtract(z, other.z)
+                unmeteredArithmetic(x).subtract(x, other.x),
+                unmeteredArithmetic(y).subtract(y, other.y),
+                unmeteredArithmetic(z).subtract(z, other.z)
         );
     }
 
@@ -86,10 +93,13 @@ public final class Vector3<T extends Number> {
      * @return Addition vector
      */
     public Vector3<T> multiply(Vector3<T> other) {
+        if(MathMetrics.ENABLED) {
+            MathMetrics.count(MathOperation.VECTOR_MULTIPLY, x.getClass());
+        }
         return new Vector3<>(
-                multiplication(x, other.x),
-                multiplication(y, other.y),
-                multiplication(z, other.z)
+                unmeteredArithmetic(x).multiplication(x, other.x),
+                unmeteredArithmetic(y).multiplication(y, other.y),
+                unmeteredArithmetic(z).multiplication(z, other.z)
         );
     }
 
@@ -100,6 +110,9 @@ public final class Vector3<T extends Number> {
      * @return Distance
      */
     public double getDistance(Vector3<?> other) {
+        if(MathMetrics.ENABLED) {
+            MathMetrics.count(MathOperation.VECTOR_DISTANCE, x.getClass());
+        }
         double dX = other.getX().doubleValue() - x.doubleValue();
         double dY = other.getY().doubleValue() - y.doubleValue();
         double dZ = other.getZ().doubleValue() - z.doubleValue();
@@ -114,6 +127,9 @@ public final class Vector3<T extends Number> {
      * @return Rotation
      */
     public Vector2<Float> getRotation(Vector3<?> other) {
+        if(MathMetrics.ENABLED) {
+            MathMetrics.count(MathOperation.VECTOR_ROTATION, x.getClass());
+        }
         double dX = x.doubleValue() - other.x.doubleValue();
         double dY = y.doubleValue() - other.y.doubleValue();
         double dZ = z.doubleValue() - other.z.doubleValue();
@@ -126,6 +142,94 @@ public final class Vector3<T extends Number> {
         return new Vector2<>(yaw, pitch);
     }
 
+    /**
+     * Adds specified vector to this one and writes the result into specified destination without allocating.
+     *
+     * @param other Other
+     * @param dest Destination
+     * @return Destination
+     */
+    public MutableVector3d plus(Vector3<?> other, MutableVector3d dest) {
+        return dest.set(
+                x.doubleValue() + other.getX().doubleValue(),
+                y.doubleValue() + other.getY().doubleValue(),
+                z.doubleValue() + other.getZ().doubleValue()
+        );
+    }
+
+    /**
+     * Subtracts specified vector to this one and writes the result into specified destination without allocating.
+     *
+     * @param other Other
+     * @param dest Destination
+     * @return Destination
+     */
+    public MutableVector3d minus(Vector3<?> other, MutableVector3d dest) {
+        return dest.set(
+                x.doubleValue() - other.getX().doubleValue(),
+                y.doubleValue() - other.getY().doubleValue(),
+                z.doubleValue() - other.getZ().doubleValue()
+        );
+    }
+
+    /**
+     * Multiplies this vector by the specified one and writes the result into specified destination without allocating.
+     *
+     * @param other Other
+     * @param dest Destination
+     * @return Destination
+     */
+    public MutableVector3d multiply(Vector3<?> other, MutableVector3d dest) {
+        return dest.set(
+                x.doubleValue() * other.getX().doubleValue(),
+                y.doubleValue() * other.getY().doubleValue(),
+                z.doubleValue() * other.getZ().doubleValue()
+        );
+    }
+
+    /**
+     * Returns the rotation between specified vector and this one, like {@link Vector3#getRotation(Vector3)},
+     * but writes it into specified destination without allocating.
+     *
+     * @param other Specified vector
+     * @param dest Destination, X-Axis is the yaw and Y-Axis the pitch
+     * @return Destination
+     */
+    public MutableVector2d getRotation(Vector3<?> other, MutableVector2d dest) {
+        return Rotations.rotation(
+                x.doubleValue(), y.doubleValue(), z.doubleValue(),
+                other.getX().doubleValue(), other.getY().doubleValue(), other.getZ().doubleValue(),
+                dest
+        );
+    }
+
+    /**
+     * Converts this vector to a {@link Vector3d}, each axis is converted using {@link Number#doubleValue()}.
+     *
+     * @return Primitive vector
+     */
+    public Vector3d toVector3d() {
+        return Vector3d.from(this);
+    }
+
+    /**
+     * Converts this vector to a {@link Vector3f}, each axis is converted using {@link Number#floatValue()}.
+     *
+     * @return Primitive vector
+     */
+    public Vector3f toVector3f() {
+        return Vector3f.from(this);
+    }
+
+    /**
+     * Converts this vector to a {@link Vector3i}, each axis is converted using {@link Number#intValue()}.
+     *
+     * @return Primitive vector
+     */
+    public Vector3i toVector3i() {
+        return Vector3i.from(this);
+    }
+
     /**
      * @inheritDoc
      */
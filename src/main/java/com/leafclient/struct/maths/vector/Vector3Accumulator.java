@@ -0,0 +1,314 @@
+package com.leafclient.struct.maths.vector;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * {@link Vector3Accumulator} sums vectors added concurrently by many threads, in the style of
+ * {@link java.util.concurrent.atomic.DoubleAdder}: without contention every addition goes to a single cell,
+ * and once threads collide they are spread over a table of cells, each thread updating its own with
+ * compare-and-set operations. Cells are padded so that two of them never share a cache line.
+ *
+ * {@link Vector3Accumulator#sum()} adds up every cell and is not an atomic snapshot: additions happening
+ * concurrently may or may not be included, and the axes of a single concurrent addition may be partially
+ * included. Since floating point additions are not associative, the sum can also differ slightly from the one
+ * of a sequential accumulation.
+ *
+ * Instances are thread-safe.
+ */
+public final class Vector3Accumulator {
+
+    private static final int MAXIMUM_CELLS;
+
+    static {
+        int cells = 1;
+        while(cells < Runtime.getRuntime().availableProcessors()) {
+            cells <<= 1;
+        }
+        MAXIMUM_CELLS = cells;
+    }
+
+    private static final AtomicIntegerFieldUpdater<Vector3Accumulator> BUSY =
+            AtomicIntegerFieldUpdater.newUpdater(Vector3Accumulator.class, "busy");
+
+    /**
+     * Per-thread hash selecting a cell, modified when the thread collides with another one.
+     */
+    private static final ThreadLocal<int[]> PROBE = ThreadLocal.withInitial(() -> new int[] {
+            (int) Thread.currentThread().getId() * 0x9E3779B9 | 1
+    });
+
+    private final Cell base = new Cell();
+    private volatile Cell[] cells;
+    private volatile int busy;
+
+    /**
+     * Adds specified vector.
+     *
+     * @param vector Vector
+     */
+    public void add(Vector3<?> vector) {
+        add(vector.getX().doubleValue(), vector.getY().doubleValue(), vector.getZ().doubleValue());
+    }
+
+    /**
+     * Adds specified vector.
+     *
+     * @param vector Vector
+     */
+    public void add(Vector3d vector) {
+        add(vector.getX(), vector.getY(), vector.getZ());
+    }
+
+    /**
+     * Adds specified vector.
+     *
+     * @param vector Vector
+     */
+    public void add(MutableVector3d vector) {
+        add(vector.getX(), vector.getY(), vector.getZ());
+    }
+
+    /**
+     * Adds specified values.
+     *
+     * @param x X-Axis value
+     * @param y Y-Axis value
+     * @param z Z-Axis value
+     */
+    public void add(double x, double y, double z) {
+        final Cell[] cells = this.cells;
+        if(cells == null) {
+            if(!base.add(x, y, z))
+                return;
+
+            // The base cell is contended, threads are spread over a table from now on
+            expand(null);
+            return;
+        }
+
+        final int[] probe = PROBE.get();
+        final Cell cell = cells[probe[0] & (cells.length - 1)];
+        if(cell.add(x, y, z)) {
+            probe[0] = next(probe[0]);
+            expand(cells);
+        }
+    }
+
+    /**
+     * @return the sum of every added vector
+     */
+    public Vector3<Double> sum() {
+        return new Vector3<>(sumX(), sumY(), sumZ());
+    }
+
+    /**
+     * Writes the sum of every added vector into specified destination.
+     *
+     * @param dest Destination
+     * @return Destination
+     */
+    public MutableVector3d sum(MutableVector3d dest) {
+        return dest.set(sumX(), sumY(), sumZ());
+    }
+
+    /**
+     * @return the sum of the X-Axis of every added vector
+     */
+    public double sumX() {
+        double sum = Double.longBitsToDouble(base.x);
+        final Cell[] cells = this.cells;
+        if(cells != null) {
+            for(Cell cell: cells) {
+                sum += Double.longBitsToDouble(cell.x);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * @return the sum of the Y-Axis of every added vector
+     */
+    public double sumY() {
+        double sum = Double.longBitsToDouble(base.y);
+        final Cell[] cells = this.cells;
+        if(cells != null) {
+            for(Cell cell: cells) {
+                sum += Double.longBitsToDouble(cell.y);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * @return the sum of the Z-Axis of every added vector
+     */
+    public double sumZ() {
+        double sum = Double.longBitsToDouble(base.z);
+        final Cell[] cells = this.cells;
+        if(cells != null) {
+            for(Cell cell: cells) {
+                sum += Double.longBitsToDouble(cell.z);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Resets the sum to zero, additions happening concurrently may be lost.
+     */
+    public void reset() {
+        base.reset();
+        final Cell[] cells = this.cells;
+        if(cells != null) {
+            for(Cell cell: cells) {
+                cell.reset();
+            }
+        }
+    }
+
+    /**
+     * Returns the sum of every added vector and resets it to zero. Each cell is emptied atomically, so
+     * that a concurrent addition is either part of the returned sum or of the next one.
+     *
+     * @return Sum
+     */
+    public Vector3<Double> sumThenReset() {
+        return sumThenReset(new MutableVector3d()).toVector3();
+    }
+
+    /**
+     * Writes the sum of every added vector into specified destination and resets it to zero.
+     *
+     * @param dest Destination
+     * @return Destination
+     * @see Vector3Accumulator#sumThenReset()
+     */
+    public MutableVector3d sumThenReset(MutableVector3d dest) {
+        double x = base.takeX(), y = base.takeY(), z = base.takeZ();
+        final Cell[] cells = this.cells;
+        if(cells != null) {
+            for(Cell cell: cells) {
+                x += cell.takeX();
+                y += cell.takeY();
+                z += cell.takeZ();
+            }
+        }
+        return dest.set(x, y, z);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public String toString() {
+        return "Vector3Accumulator{" + sumX() + ", " + sumY() + ", " + sumZ() + "}";
+    }
+
+    /**
+     * Creates the table of cells or doubles its size after a collision, unless another thread already did it
+     * or the table is as large as the number of processors.
+     *
+     * @param current Table in which the collision happened
+     */
+    private void expand(Cell[] current) {
+        if(current != null && current.length >= MAXIMUM_CELLS)
+            return;
+
+        if(busy != 0 || !BUSY.compareAndSet(this, 0, 1))
+            return;
+
+        try {
+            if(cells != current)
+                return;
+
+            final int length = current == null ? 2 : current.length << 1;
+            final Cell[] grown = new Cell[length];
+            int i = 0;
+            if(current != null) {
+                System.arraycopy(current, 0, grown, 0, current.length);
+                i = current.length;
+            }
+            for(; i < length; i++) {
+                grown[i] = new Cell();
+            }
+            cells = grown;
+        } finally {
+            busy = 0;
+        }
+    }
+
+    private static int next(int probe) {
+        probe ^= probe << 13;
+        probe ^= probe >>> 17;
+        return probe ^ (probe << 5);
+    }
+
+    /*
+     * Padding is split across the class hierarchy since fields of a single class can be reordered.
+     */
+
+    @SuppressWarnings("unused")
+    private static class CellLeftPadding {
+        long p0, p1, p2, p3, p4, p5, p6, p7;
+    }
+
+    private static class CellValues extends CellLeftPadding {
+        volatile long x, y, z;
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Cell extends CellValues {
+
+        private static final AtomicLongFieldUpdater<CellValues> X =
+                AtomicLongFieldUpdater.newUpdater(CellValues.class, "x");
+        private static final AtomicLongFieldUpdater<CellValues> Y =
+                AtomicLongFieldUpdater.newUpdater(CellValues.class, "y");
+        private static final AtomicLongFieldUpdater<CellValues> Z =
+                AtomicLongFieldUpdater.newUpdater(CellValues.class, "z");
+
+        long q0, q1, q2, q3, q4, q5, q6, q7;
+
+        /**
+         * Adds specified values, retrying each axis until its compare-and-set succeeds.
+         *
+         * @return `True` if another thread was updating this cell at the same time
+         */
+        boolean add(double x, double y, double z) {
+            return add(X, x) | add(Y, y) | add(Z, z);
+        }
+
+        private boolean add(AtomicLongFieldUpdater<CellValues> axis, double value) {
+            if(value == 0.0)
+                return false;
+
+            boolean contended = false;
+            long current;
+            while(!axis.compareAndSet(this, current = axis.get(this),
+                    Double.doubleToRawLongBits(Double.longBitsToDouble(current) + value))) {
+                contended = true;
+            }
+            return contended;
+        }
+
+        double takeX() {
+            return Double.longBitsToDouble(X.getAndSet(this, 0L));
+        }
+
+        double takeY() {
+            return Double.longBitsToDouble(Y.getAndSet(this, 0L));
+        }
+
+        double takeZ() {
+            return Double.longBitsToDouble(Z.getAndSet(this, 0L));
+        }
+
+        void reset() {
+            x = 0L;
+            y = 0L;
+            z = 0L;
+        }
+
+    }
+
+}
@@ -0,0 +1,683 @@
+package com.leafclient.struct.maths.vector;
+
+import com.leafclient.struct.maths.VectorKernels;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * {@link Vector3Buffer} stores many 3 axises positions as a structure of arrays: every X-Axis is stored
+ * in a first array, every Y-Axis in a second one and every Z-Axis in a third one.
+ * Unlike a list of {@link Vector3}, the values are neither boxed nor scattered in the heap, and the bulk
+ * operations over heap buffers are {@link VectorKernels}, vectorized on runtimes supporting it.
+ *
+ * Buffers created with {@link Vector3Buffer#allocate(int)} are backed by {@code double[]} and grow as needed,
+ * those created with {@link Vector3Buffer#allocateDirect(int)} are backed by an off-heap {@link DoubleBuffer}
+ * and have a fixed capacity.
+ *
+ * Instances are not thread-safe.
+ */
+public final class Vector3Buffer {
+
+    private double[] x;
+    private double[] y;
+    private double[] z;
+
+    private final DoubleBuffer directX;
+    private final DoubleBuffer directY;
+    private final DoubleBuffer directZ;
+
+    private int size;
+
+    /**
+     * Creates a heap {@link Vector3Buffer}.
+     *
+     * @param capacity Initial capacity
+     */
+    private Vector3Buffer(int capacity) {
+        this.x = new double[capacity];
+        this.y = new double[capacity];
+        this.z = new double[capacity];
+        this.directX = null;
+        this.directY = null;
+        this.directZ = null;
+    }
+
+    /**
+     * Creates a direct {@link Vector3Buffer}.
+     *
+     * @param directX X-Axis storage
+     * @param directY Y-Axis storage
+     * @param directZ Z-Axis storage
+     */
+    private Vector3Buffer(DoubleBuffer directX, DoubleBuffer directY, DoubleBuffer directZ) {
+        this.directX = directX;
+        this.directY = directY;
+        this.directZ = directZ;
+    }
+
+    /**
+     * Creates an empty {@link Vector3Buffer} backed by arrays, growing when its capacity is reached.
+     *
+     * @param initialCapacity Initial capacity
+     * @return Empty buffer
+     */
+    public static Vector3Buffer allocate(int initialCapacity) {
+        if(initialCapacity < 0)
+            throw new IllegalArgumentException("Negative capacity (" + initialCapacity + ")");
+
+        return new Vector3Buffer(initialCapacity);
+    }
+
+    /**
+     * Creates an empty {@link Vector3Buffer} backed by an off-heap {@link DoubleBuffer}.
+     * Its capacity is fixed, appending more positions than its capacity throws a {@link BufferOverflowException}.
+     *
+     * @param capacity Capacity
+     * @return Empty buffer
+     * @throws IllegalArgumentException if the capacity is negative or its three axes exceed the maximum size
+     * of a {@link ByteBuffer}
+     */
+    public static Vector3Buffer allocateDirect(int capacity) {
+        if(capacity < 0)
+            throw new IllegalArgumentException("Negative capacity (" + capacity + ")");
+
+        final long bytes = (long) capacity * 3 * Double.BYTES;
+        if(bytes > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Capacity too large for a direct buffer (" + capacity + " positions, "
+                    + bytes + " bytes)");
+
+        final DoubleBuffer storage = ByteBuffer.allocateDirect((int) bytes)
+                .order(ByteOrder.nativeOrder())
+                .asDoubleBuffer();
+        return new Vector3Buffer(
+                slice(storage, 0, capacity),
+                slice(storage, capacity, capacity),
+                slice(storage, capacity * 2, capacity)
+        );
+    }
+
+    /**
+     * Creates a {@link Vector3Buffer} backed by arrays containing specified vectors.
+     *
+     * @param vectors Vectors
+     * @return Buffer
+     */
+    public static Vector3Buffer of(Collection<? extends Vector3<?>> vectors) {
+        final Vector3Buffer buffer = allocate(vectors.size());
+        for(Vector3<?> vector: vectors) {
+            buffer.append(vector);
+        }
+        return buffer;
+    }
+
+    private static DoubleBuffer slice(DoubleBuffer storage, int offset, int length) {
+        final DoubleBuffer duplicate = storage.duplicate();
+        duplicate.position(offset);
+        duplicate.limit(offset + length);
+        return duplicate.slice();
+    }
+
+    /**
+     * @return the number of positions stored in this {@link Vector3Buffer}
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of positions this {@link Vector3Buffer} can store before growing
+     */
+    public int capacity() {
+        return directX == null ? x.length : directX.capacity();
+    }
+
+    /**
+     * @return `True` if this {@link Vector3Buffer} is stored off-heap
+     */
+    public boolean isDirect() {
+        return directX != null;
+    }
+
+    /**
+     * Returns whether this {@link Vector3Buffer} is backed by accessible arrays, see {@link Vector3Buffer#arrayX()}.
+     *
+     * @return `True` if this buffer is backed by arrays
+     */
+    public boolean hasArray() {
+        return directX == null;
+    }
+
+    /**
+     * Returns the array backing the X-Axis of this buffer, only the first {@link Vector3Buffer#size()}
+     * values are meaningful. The array is replaced when the buffer grows.
+     *
+     * @return X-Axis array
+     * @throws UnsupportedOperationException if this buffer is direct
+     */
+    public double[] arrayX() {
+        ensureArray();
+        return x;
+    }
+
+    /**
+     * Returns the array backing the Y-Axis of this buffer, see {@link Vector3Buffer#arrayX()}.
+     *
+     * @return Y-Axis array
+     * @throws UnsupportedOperationException if this buffer is direct
+     */
+    public double[] arrayY() {
+        ensureArray();
+        return y;
+    }
+
+    /**
+     * Returns the array backing the Z-Axis of this buffer, see {@link Vector3Buffer#arrayX()}.
+     *
+     * @return Z-Axis array
+     * @throws UnsupportedOperationException if this buffer is direct
+     */
+    public double[] arrayZ() {
+        ensureArray();
+        return z;
+    }
+
+    /**
+     * Removes every position from this buffer.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Appends specified position at the end of this buffer.
+     *
+     * @param x X-Axis value
+     * @param y Y-Axis value
+     * @param z Z-Axis value
+     * @return Index of the position
+     */
+    public int append(double x, double y, double z) {
+        if(size == capacity()) {
+            grow();
+        }
+        final int index = size++;
+        set(index, x, y, z);
+        return index;
+    }
+
+    /**
+     * Appends specified vector at the end of this buffer.
+     *
+     * @param vector Vector
+     * @return Index of the position
+     */
+    public int append(Vector3<?> vector) {
+        return append(vector.getX().doubleValue(), vector.getY().doubleValue(), vector.getZ().doubleValue());
+    }
+
+    /**
+     * Removes the position at specified index by moving the last position in its place.
+     *
+     * @param index Index
+     */
+    public void removeSwap(int index) {
+        checkIndex(index);
+        final int last = size - 1;
+        if(index != last) {
+            set(index, getX(last), getY(last), getZ(last));
+        }
+        size = last;
+    }
+
+    /**
+     * Modifies the position at specified index.
+     *
+     * @param index Index
+     * @param x X-Axis value
+     * @param y Y-Axis value
+     * @param z Z-Axis value
+     */
+    public void set(int index, double x, double y, double z) {
+        checkIndex(index);
+        if(directX == null) {
+            this.x[index] = x;
+            this.y[index] = y;
+            this.z[index] = z;
+        } else {
+            directX.put(index, x);
+            directY.put(index, y);
+            directZ.put(index, z);
+        }
+    }
+
+    /**
+     * Modifies the position at specified index.
+     *
+     * @param index Index
+     * @param vector New position
+     */
+    public void set(int index, Vector3<?> vector) {
+        set(index, vector.getX().doubleValue(), vector.getY().doubleValue(), vector.getZ().doubleValue());
+    }
+
+    /**
+     * @param index Index
+     * @return the X-Axis of the position at specified index
+     */
+    public double getX(int index) {
+        checkIndex(index);
+        return directX == null ? x[index] : directX.get(index);
+    }
+
+    /**
+     * @param index Index
+     * @return the Y-Axis of the position at specified index
+     */
+    public double getY(int index) {
+        checkIndex(index);
+        return directY == null ? y[index] : directY.get(index);
+    }
+
+    /**
+     * @param index Index
+     * @return the Z-Axis of the position at specified index
+     */
+    public double getZ(int index) {
+        checkIndex(index);
+        return directZ == null ? z[index] : directZ.get(index);
+    }
+
+    /**
+     * Returns the position at specified index as a generic {@link Vector3}.
+     *
+     * @param index Index
+     * @return Position
+     */
+    public Vector3<Double> get(int index) {
+        return new Vector3<>(getX(index), getY(index), getZ(index));
+    }
+
+    /**
+     * Copies the position at specified index into specified destination.
+     *
+     * @param index Index
+     * @param dest Destination
+     * @return Destination
+     */
+    public MutableVector3d get(int index, MutableVector3d dest) {
+        return dest.set(getX(index), getY(index), getZ(index));
+    }
+
+    /**
+     * Returns a view over the position at specified index, the view can be moved to other indexes
+     * using {@link Element#moveTo(int)} to iterate without allocating.
+     *
+     * @param index Index
+     * @return View
+     */
+    public Element element(int index) {
+        checkIndex(index);
+        return new Element(this, index);
+    }
+
+    /**
+     * Adds specified vector to every position of this buffer.
+     *
+     * @param dX X-Axis value
+     * @param dY Y-Axis value
+     * @param dZ Z-Axis value
+     */
+    public void add(double dX, double dY, double dZ) {
+        final int size = this.size;
+        if(directX == null) {
+            VectorKernels.add(x, dX, 0, size);
+            VectorKernels.add(y, dY, 0, size);
+            VectorKernels.add(z, dZ, 0, size);
+        } else {
+            for(int i = 0; i < size; i++) {
+                directX.put(i, directX.get(i) + dX);
+                directY.put(i, directY.get(i) + dY);
+                directZ.put(i, directZ.get(i) + dZ);
+            }
+        }
+    }
+
+    /**
+     * Adds each position of specified buffer to the position at the same index in this buffer.
+     *
+     * @param other Other buffer, containing at least as many positions as this buffer
+     */
+    public void add(Vector3Buffer other) {
+        combine(other, 1.0);
+    }
+
+    /**
+     * Subtracts specified vector to every position of this buffer.
+     *
+     * @param dX X-Axis value
+     * @param dY Y-Axis value
+     * @param dZ Z-Axis value
+     */
+    public void subtract(double dX, double dY, double dZ) {
+        add(-dX, -dY, -dZ);
+    }
+
+    /**
+     * Subtracts each position of specified buffer to the position at the same index in this buffer.
+     *
+     * @param other Other buffer, containing at least as many positions as this buffer
+     */
+    public void subtract(Vector3Buffer other) {
+        combine(other, -1.0);
+    }
+
+    /**
+     * Multiplies every axis of every position of this buffer by specified factor.
+     *
+     * @param factor Factor
+     */
+    public void scale(double factor) {
+        final int size = this.size;
+        if(directX == null) {
+            VectorKernels.scale(x, factor, 0, size);
+            VectorKernels.scale(y, factor, 0, size);
+            VectorKernels.scale(z, factor, 0, size);
+        } else {
+            for(int i = 0; i < size; i++) {
+                directX.put(i, directX.get(i) * factor);
+                directY.put(i, directY.get(i) * factor);
+                directZ.put(i, directZ.get(i) * factor);
+            }
+        }
+    }
+
+    /**
+     * Writes the distance between every position of this buffer and specified point into specified array.
+     *
+     * @param point Point
+     * @param out Output, its length must be at least {@link Vector3Buffer#size()}
+     */
+    public void distanceTo(Vector3<?> point, double[] out) {
+        distanceTo(point.getX().doubleValue(), point.getY().doubleValue(), point.getZ().doubleValue(), out);
+    }
+
+    /**
+     * Writes the distance between every position of this buffer and specified point into specified array.
+     *
+     * @param pX Point's X-Axis
+     * @param pY Point's Y-Axis
+     * @param pZ Point's Z-Axis
+     * @param out Output, its length must be at least {@link Vector3Buffer#size()}
+     */
+    public void distanceTo(double pX, double pY, double pZ, double[] out) {
+        if(directX == null) {
+            checkOutput(out.length);
+            VectorKernels.distance(pX, pY, pZ, x, y, z, 0, size, out);
+            return;
+        }
+
+        distanceSquaredTo(pX, pY, pZ, out);
+        final int size = this.size;
+        for(int i = 0; i < size; i++) {
+            out[i] = Math.sqrt(out[i]);
+        }
+    }
+
+    /**
+     * Writes the squared distance between every position of this buffer and specified point into specified array,
+     * cheaper than {@link Vector3Buffer#distanceTo(double, double, double, double[])} when only comparing distances.
+     *
+     * @param pX Point's X-Axis
+     * @param pY Point's Y-Axis
+     * @param pZ Point's Z-Axis
+     * @param out Output, its length must be at least {@link Vector3Buffer#size()}
+     */
+    public void distanceSquaredTo(double pX, double pY, double pZ, double[] out) {
+        final int size = this.size;
+        checkOutput(out.length);
+        if(directX == null) {
+            VectorKernels.distanceSquared(pX, pY, pZ, x, y, z, 0, size, out);
+        } else {
+            for(int i = 0; i < size; i++) {
+                final double dX = pX - directX.get(i);
+                final double dY = pY - directY.get(i);
+                final double dZ = pZ - directZ.get(i);
+                out[i] = dX * dX + dY * dY + dZ * dZ;
+            }
+        }
+    }
+
+    /**
+     * Writes the rotation between every position of this buffer and specified point into specified arrays,
+     * each rotation is identical to {@code get(i).getRotation(point)}.
+     *
+     * @param point Point
+     * @param yawOut Yaw output, its length must be at least {@link Vector3Buffer#size()}
+     * @param pitchOut Pitch output, its length must be at least {@link Vector3Buffer#size()}
+     */
+    public void rotationTo(Vector3<?> point, float[] yawOut, float[] pitchOut) {
+        rotationTo(
+                point.getX().doubleValue(), point.getY().doubleValue(), point.getZ().doubleValue(),
+                yawOut, pitchOut
+        );
+    }
+
+    /**
+     * Writes the rotation between every position of this buffer and specified point into specified arrays,
+     * see {@link Vector3Buffer#rotationTo(Vector3, float[], float[])}.
+     *
+     * @param pX Point's X-Axis
+     * @param pY Point's Y-Axis
+     * @param pZ Point's Z-Axis
+     * @param yawOut Yaw output, its length must be at least {@link Vector3Buffer#size()}
+     * @param pitchOut Pitch output, its length must be at least {@link Vector3Buffer#size()}
+     */
+    public void rotationTo(double pX, double pY, double pZ, float[] yawOut, float[] pitchOut) {
+        final int size = this.size;
+        checkOutput(yawOut.length);
+        checkOutput(pitchOut.length);
+        if(directX == null) {
+            final double[] x = this.x, y = this.y, z = this.z;
+            for(int i = 0; i < size; i++) {
+                final double dX = x[i] - pX;
+                final double dY = y[i] - pY;
+                final double dZ = z[i] - pZ;
+                yawOut[i] = Rotations.yaw(dX, dZ);
+                pitchOut[i] = Rotations.pitch(dX, dY, dZ);
+            }
+        } else {
+            for(int i = 0; i < size; i++) {
+                final double dX = directX.get(i) - pX;
+                final double dY = directY.get(i) - pY;
+                final double dZ = directZ.get(i) - pZ;
+                yawOut[i] = Rotations.yaw(dX, dZ);
+                pitchOut[i] = Rotations.pitch(dX, dY, dZ);
+            }
+        }
+    }
+
+    private void combine(Vector3Buffer other, double sign) {
+        final int size = this.size;
+        if(other.size < size)
+            throw new IllegalArgumentException("Buffer contains less positions (" + other.size + " < " + size + ")");
+
+        if(directX == null && other.directX == null) {
+            VectorKernels.add(x, other.x, sign, 0, size);
+            VectorKernels.add(y, other.y, sign, 0, size);
+            VectorKernels.add(z, other.z, sign, 0, size);
+        } else {
+            for(int i = 0; i < size; i++) {
+                set(
+                        i,
+                        getX(i) + sign * other.getX(i),
+                        getY(i) + sign * other.getY(i),
+                        getZ(i) + sign * other.getZ(i)
+                );
+            }
+        }
+    }
+
+    private void grow() {
+        if(directX != null)
+            throw new BufferOverflowException();
+
+        final int capacity = Math.max(8, x.length + (x.length >> 1));
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        z = Arrays.copyOf(z, capacity);
+    }
+
+    private void ensureArray() {
+        if(directX != null)
+            throw new UnsupportedOperationException("Direct buffers are not backed by arrays");
+    }
+
+    private void checkIndex(int index) {
+        if(index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+    }
+
+    private void checkOutput(int length) {
+        if(length < size)
+            throw new IllegalArgumentException("Output is too small (" + length + " < " + size + ")");
+    }
+
+    /**
+     * A view over a single position of a {@link Vector3Buffer}, reading and writing through the buffer.
+     */
+    public static final class Element {
+
+        private final Vector3Buffer buffer;
+        private int index;
+
+        /**
+         * Creates a view over the position at specified index.
+         *
+         * @param buffer Buffer
+         * @param index Index
+         */
+        Element(Vector3Buffer buffer, int index) {
+            this.buffer = buffer;
+            this.index = index;
+        }
+
+        /**
+         * @return the index of the position viewed by this {@link Element}
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * Moves this view to the position at specified index.
+         *
+         * @param index Index
+         * @return This view
+         */
+        public Element moveTo(int index) {
+            buffer.checkIndex(index);
+            this.index = index;
+            return this;
+        }
+
+        /**
+         * @return the X-Axis of the viewed position
+         */
+        public double getX() {
+            return buffer.getX(index);
+        }
+
+        /**
+         * @return the Y-Axis of the viewed position
+         */
+        public double getY() {
+            return buffer.getY(index);
+        }
+
+        /**
+         * @return the Z-Axis of the viewed position
+         */
+        public double getZ() {
+            return buffer.getZ(index);
+        }
+
+        /**
+         * Modifies the viewed position.
+         *
+         * @param x X-Axis value
+         * @param y Y-Axis value
+         * @param z Z-Axis value
+         * @return This view
+         */
+        public Element set(double x, double y, double z) {
+            buffer.set(index, x, y, z);
+            return this;
+        }
+
+        /**
+         * Modifies the viewed position.
+         *
+         * @param vector New position
+         * @return This view
+         */
+        public Element set(Vector3<?> vector) {
+            buffer.set(index, vector);
+            return this;
+        }
+
+        /**
+         * Returns the distance between the viewed position and specified vector.
+         *
+         * @param other Other vector
+         * @return Distance
+         */
+        public double getDistance(Vector3<?> other) {
+            double dX = other.getX().doubleValue() - getX();
+            double dY = other.getY().doubleValue() - getY();
+            double dZ = other.getZ().doubleValue() - getZ();
+
+            return Math.sqrt(dX * dX + dY * dY + dZ * dZ);
+        }
+
+        /**
+         * Returns the rotation between specified vector and the viewed position, like
+         * {@link Vector3#getRotation(Vector3)}, and writes it into specified destination.
+         *
+         * @param other Specified vector
+         * @param dest Destination, X-Axis is the yaw and Y-Axis the pitch
+         * @return Destination
+         */
+        public MutableVector2d getRotation(Vector3<?> other, MutableVector2d dest) {
+            return Rotations.rotation(
+                    getX(), getY(), getZ(),
+                    other.getX().doubleValue(), other.getY().doubleValue(), other.getZ().doubleValue(),
+                    dest
+            );
+        }
+
+        /**
+         * Converts the viewed position to a generic {@link Vector3}.
+         *
+         * @return Generic vector
+         */
+        public Vector3<Double> toVector3() {
+            return buffer.get(index);
+        }
+
+        /**
+         * Converts the viewed position to a {@link Vector3d}.
+         *
+         * @return Primitive vector
+         */
+        public Vector3d toVector3d() {
+            return new Vector3d(getX(), getY(), getZ());
+        }
+
+    }
+
+}
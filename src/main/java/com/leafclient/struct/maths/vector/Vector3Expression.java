@@ -0,0 +1,294 @@
+package com.leafclient.struct.maths.vector;
+
+import com.leafclient.struct.maths.NumberArithmetic;
+import com.leafclient.struct.maths.VectorKernels;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.leafclient.struct.maths.MathOperationsHelper.arithmetic;
+
+/**
+ * {@link Vector3Expression} records a chain of operations, such as {@code plus(b).minus(c).multiply(d)}, and applies
+ * it later to any number of input vectors: each input is evaluated in a single pass on primitive doubles,
+ * without the intermediate vectors and boxed numbers of the {@link Vector3} operations.
+ * <pre>
+ * final Vector3Expression expression = new Vector3Expression().plus(b).minus(c).multiply(d);
+ * final Vector3&lt;Double&gt; result = expression.apply(a);
+ * expression.applyInPlace(buffer);
+ * </pre>
+ * Operations are applied in the order they were recorded and are not reassociated, so the results are identical
+ * to the same chain of {@link Vector3} operations on doubles; other number types are evaluated as doubles and cast
+ * back. Operands are read when recorded.
+ *
+ * Instances are not thread-safe while recording, but can be shared once every operation has been recorded.
+ */
+public final class Vector3Expression {
+
+    private static final byte ADD = 0;
+    private static final byte MULTIPLY = 1;
+
+    /**
+     * Number of positions evaluated at once by the bulk operations, small enough to stay in the cache between
+     * two operations.
+     */
+    private static final int BLOCK = 512;
+
+    private byte[] operations = new byte[4];
+    private double[] operands = new double[12];
+    private int size;
+
+    /**
+     * @return the number of recorded operations
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes every recorded operation.
+     *
+     * @return This expression
+     */
+    public Vector3Expression clear() {
+        size = 0;
+        return this;
+    }
+
+    /**
+     * @return a copy of this {@link Vector3Expression}
+     */
+    public Vector3Expression copy() {
+        final Vector3Expression copy = new Vector3Expression();
+        copy.operations = Arrays.copyOf(operations, operations.length);
+        copy.operands = Arrays.copyOf(operands, operands.length);
+        copy.size = size;
+        return copy;
+    }
+
+    /**
+     * Records the addition of specified vector.
+     *
+     * @param other Other
+     * @return This expression
+     */
+    public Vector3Expression plus(Vector3<?> other) {
+        return plus(other.getX().doubleValue(), other.getY().doubleValue(), other.getZ().doubleValue());
+    }
+
+    /**
+     * Records the addition of specified values.
+     *
+     * @param x X-Axis value
+     * @param y Y-Axis value
+     * @param z Z-Axis value
+     * @return This expression
+     */
+    public Vector3Expression plus(double x, double y, double z) {
+        return record(ADD, x, y, z);
+    }
+
+    /**
+     * Records the subtraction of specified vector.
+     *
+     * @param other Other
+     * @return This expression
+     */
+    public Vector3Expression minus(Vector3<?> other) {
+        return minus(other.getX().doubleValue(), other.getY().doubleValue(), other.getZ().doubleValue());
+    }
+
+    /**
+     * Records the subtraction of specified values.
+     *
+     * @param x X-Axis value
+     * @param y Y-Axis value
+     * @param z Z-Axis value
+     * @return This expression
+     */
+    public Vector3Expression minus(double x, double y, double z) {
+        // Subtracting a double is exactly adding its opposite
+        return record(ADD, -x, -y, -z);
+    }
+
+    /**
+     * Records the multiplication by specified vector.
+     *
+     * @param other Other
+     * @return This expression
+     */
+    public Vector3Expression multiply(Vector3<?> other) {
+        return multiply(other.getX().doubleValue(), other.getY().doubleValue(), other.getZ().doubleValue());
+    }
+
+    /**
+     * Records the multiplication by specified values.
+     *
+     * @param x X-Axis value
+     * @param y Y-Axis value
+     * @param z Z-Axis value
+     * @return This expression
+     */
+    public Vector3Expression multiply(double x, double y, double z) {
+        return record(MULTIPLY, x, y, z);
+    }
+
+    /**
+     * Records the multiplication of every axis by specified factor.
+     *
+     * @param factor Factor
+     * @return This expression
+     */
+    public Vector3Expression scale(double factor) {
+        return record(MULTIPLY, factor, factor, factor);
+    }
+
+    /**
+     * Applies this expression to specified vector.
+     *
+     * @param input Input vector
+     * @param <T> Number type
+     * @return Result, of the same number type as the input
+     */
+    public <T extends Number> Vector3<T> apply(Vector3<T> input) {
+        final double x = applyX(input.getX().doubleValue());
+        final double y = applyY(input.getY().doubleValue());
+        final double z = applyZ(input.getZ().doubleValue());
+        final NumberArithmetic<T> arithmetic = arithmetic(input.getX());
+        return new Vector3<>(arithmetic.cast(x), arithmetic.cast(y), arithmetic.cast(z));
+    }
+
+    /**
+     * Applies this expression to specified vector and writes the result into specified destination.
+     *
+     * @param input Input vector
+     * @param dest Destination
+     * @return Destination
+     */
+    public MutableVector3d apply(Vector3<?> input, MutableVector3d dest) {
+        return apply(input.getX().doubleValue(), input.getY().doubleValue(), input.getZ().doubleValue(), dest);
+    }
+
+    /**
+     * Applies this expression to specified values and writes the result into specified destination.
+     *
+     * @param x X-Axis value
+     * @param y Y-Axis value
+     * @param z Z-Axis value
+     * @param dest Destination, can hold the input
+     * @return Destination
+     */
+    public MutableVector3d apply(double x, double y, double z, MutableVector3d dest) {
+        return dest.set(applyX(x), applyY(y), applyZ(z));
+    }
+
+    /**
+     * Applies this expression to specified vector, in place.
+     *
+     * @param vector Vector
+     * @return Vector
+     */
+    public MutableVector3d applyInPlace(MutableVector3d vector) {
+        return apply(vector.getX(), vector.getY(), vector.getZ(), vector);
+    }
+
+    /**
+     * Applies this expression to every position of specified buffer, in place.
+     *
+     * @param buffer Buffer
+     */
+    public void applyInPlace(Vector3Buffer buffer) {
+        if(buffer.hasArray()) {
+            applyInPlace(buffer.arrayX(), buffer.arrayY(), buffer.arrayZ(), 0, buffer.size());
+            return;
+        }
+
+        for(int i = 0, size = buffer.size(); i < size; i++) {
+            buffer.set(i, applyX(buffer.getX(i)), applyY(buffer.getY(i)), applyZ(buffer.getZ(i)));
+        }
+    }
+
+    /**
+     * Applies this expression to every specified vector and appends the results to specified buffer.
+     *
+     * @param inputs Input vectors
+     * @param dest Destination buffer
+     */
+    public void apply(List<? extends Vector3<?>> inputs, Vector3Buffer dest) {
+        for(int i = 0, size = inputs.size(); i < size; i++) {
+            final Vector3<?> input = inputs.get(i);
+            dest.append(
+                    applyX(input.getX().doubleValue()),
+                    applyY(input.getY().doubleValue()),
+                    applyZ(input.getZ().doubleValue())
+            );
+        }
+    }
+
+    /**
+     * Applies this expression to the positions stored in the specified arrays, in place, from {@code offset}
+     * included to {@code offset + length} excluded.
+     * Positions are processed by blocks, each operation being a {@link VectorKernels} pass over the block.
+     *
+     * @param x X-Axis values
+     * @param y Y-Axis values
+     * @param z Z-Axis values
+     * @param offset First position index
+     * @param length Number of positions
+     */
+    public void applyInPlace(double[] x, double[] y, double[] z, int offset, int length) {
+        final int end = offset + length;
+        for(int from = offset; from < end; from += BLOCK) {
+            final int count = Math.min(BLOCK, end - from);
+            for(int operation = 0; operation < size; operation++) {
+                final int operand = operation * 3;
+                if(operations[operation] == ADD) {
+                    VectorKernels.add(x, operands[operand], from, count);
+                    VectorKernels.add(y, operands[operand + 1], from, count);
+                    VectorKernels.add(z, operands[operand + 2], from, count);
+                } else {
+                    VectorKernels.scale(x, operands[operand], from, count);
+                    VectorKernels.scale(y, operands[operand + 1], from, count);
+                    VectorKernels.scale(z, operands[operand + 2], from, count);
+                }
+            }
+        }
+    }
+
+    private double applyX(double value) {
+        return applyAxis(value, 0);
+    }
+
+    private double applyY(double value) {
+        return applyAxis(value, 1);
+    }
+
+    private double applyZ(double value) {
+        return applyAxis(value, 2);
+    }
+
+    private double applyAxis(double value, int axis) {
+        for(int operation = 0, operand = axis; operation < size; operation++, operand += 3) {
+            if(operations[operation] == ADD) {
+                value += operands[operand];
+            } else {
+                value *= operands[operand];
+            }
+        }
+        return value;
+    }
+
+    private Vector3Expression record(byte operation, double x, double y, double z) {
+        if(size == operations.length) {
+            operations = Arrays.copyOf(operations, size << 1);
+            operands = Arrays.copyOf(operands, size * 6);
+        }
+        operations[size] = operation;
+        operands[size * 3] = x;
+        operands[size * 3 + 1] = y;
+        operands[size * 3 + 2] = z;
+        size++;
+        return this;
+    }
+
+}
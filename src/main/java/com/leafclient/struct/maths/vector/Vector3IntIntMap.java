@@ -0,0 +1,242 @@
+package com.leafclient.struct.maths.vector;
+
+/**
+ * {@link Vector3IntIntMap} maps integer coordinates, such as block positions, to primitive int values,
+ * like {@link Vector3IntMap} does for objects: neither the coordinates nor the values are boxed.
+ * Absent entries are reported using the missing value given at creation.
+ *
+ * Maps created using {@link Vector3IntIntMap#bounded(int, int)} act as caches: {@link Vector3IntIntMap#get(int, int, int)}
+ * and {@link Vector3IntIntMap#put(int, int, int, int)} mark their entry as recently used, and the least recently
+ * used entry is evicted once the maximum size is exceeded.
+ *
+ * Instances are not thread-safe.
+ */
+public final class Vector3IntIntMap extends PackedVector3Table {
+
+    private final int missingValue;
+    private int[] values;
+
+    /**
+     * Creates an empty unbounded {@link Vector3IntIntMap}.
+     *
+     * @param missingValue Value returned for absent entries
+     */
+    public Vector3IntIntMap(int missingValue) {
+        this(missingValue, 16);
+    }
+
+    /**
+     * Creates an empty unbounded {@link Vector3IntIntMap}.
+     *
+     * @param missingValue Value returned for absent entries
+     * @param expectedSize Expected number of entries
+     */
+    public Vector3IntIntMap(int missingValue, int expectedSize) {
+        this(missingValue, expectedSize, 0);
+    }
+
+    private Vector3IntIntMap(int missingValue, int expectedSize, int maximumSize) {
+        super(expectedSize, maximumSize);
+        this.missingValue = missingValue;
+    }
+
+    /**
+     * Creates an empty {@link Vector3IntIntMap} evicting its least recently used entry once it contains more than
+     * specified number of entries.
+     *
+     * @param missingValue Value returned for absent entries
+     * @param maximumSize Maximum number of entries
+     * @return Map
+     */
+    public static Vector3IntIntMap bounded(int missingValue, int maximumSize) {
+        if(maximumSize < 1)
+            throw new IllegalArgumentException("Maximum size must be positive (" + maximumSize + ")");
+
+        return new Vector3IntIntMap(missingValue, maximumSize, maximumSize);
+    }
+
+    /**
+     * @return the value returned for absent entries
+     */
+    public int getMissingValue() {
+        return missingValue;
+    }
+
+    /**
+     * Returns the value mapped to specified coordinates.
+     *
+     * @param x X-Axis
+     * @param y Y-Axis
+     * @param z Z-Axis
+     * @return Value or the missing value if there is none
+     */
+    public int get(int x, int y, int z) {
+        if(!isPackable(x, y, z))
+            return missingValue;
+
+        final int slot = find(Vector3i.pack(x, y, z));
+        if(slot < 0)
+            return missingValue;
+
+        touch(slot);
+        return values[slot];
+    }
+
+    /**
+     * Returns the value mapped to specified coordinates.
+     *
+     * @param position Coordinates
+     * @return Value or the missing value if there is none
+     */
+    public int get(Vector3i position) {
+        return get(position.getX(), position.getY(), position.getZ());
+    }
+
+    /**
+     * Maps specified value to specified coordinates.
+     *
+     * @param x X-Axis
+     * @param y Y-Axis
+     * @param z Z-Axis
+     * @param value Value
+     * @return Previous value or the missing value if there was none
+     */
+    public int put(int x, int y, int z, int value) {
+        final int slot = insert(Vector3i.pack(x, y, z));
+        if(slot < 0) {
+            values[~slot] = value;
+            afterInsertion();
+            return missingValue;
+        }
+
+        final int previous = values[slot];
+        values[slot] = value;
+        touch(slot);
+        return previous;
+    }
+
+    /**
+     * Maps specified value to specified coordinates.
+     *
+     * @param position Coordinates
+     * @param value Value
+     * @return Previous value or the missing value if there was none
+     */
+    public int put(Vector3i position, int value) {
+        return put(position.getX(), position.getY(), position.getZ(), value);
+    }
+
+    /**
+     * Adds specified amount to the value mapped to specified coordinates, absent entries starting at 0.
+     *
+     * @param x X-Axis
+     * @param y Y-Axis
+     * @param z Z-Axis
+     * @param amount Amount
+     * @return New value
+     */
+    public int add(int x, int y, int z, int amount) {
+        final int slot = insert(Vector3i.pack(x, y, z));
+        if(slot < 0) {
+            values[~slot] = amount;
+            afterInsertion();
+            return amount;
+        }
+
+        touch(slot);
+        return values[slot] += amount;
+    }
+
+    /**
+     * Removes the value mapped to specified coordinates.
+     *
+     * @param x X-Axis
+     * @param y Y-Axis
+     * @param z Z-Axis
+     * @return Removed value or the missing value if there was none
+     */
+    public int remove(int x, int y, int z) {
+        if(!isPackable(x, y, z))
+            return missingValue;
+
+        final int slot = find(Vector3i.pack(x, y, z));
+        if(slot < 0)
+            return missingValue;
+
+        final int previous = values[slot];
+        removeSlot(slot);
+        return previous;
+    }
+
+    /**
+     * Removes the value mapped to specified coordinates.
+     *
+     * @param position Coordinates
+     * @return Removed value or the missing value if there was none
+     */
+    public int remove(Vector3i position) {
+        return remove(position.getX(), position.getY(), position.getZ());
+    }
+
+    /**
+     * Performs specified action on each entry, in no particular order.
+     * The map must not be modified by the action.
+     *
+     * @param visitor Action
+     */
+    public void forEach(Visitor visitor) {
+        for(int slot = 0, slots = slots(); slot < slots; slot++) {
+            if(isUsed(slot)) {
+                final long key = keyAt(slot);
+                visitor.visit(Vector3i.unpackX(key), Vector3i.unpackY(key), Vector3i.unpackZ(key), values[slot]);
+            }
+        }
+    }
+
+    @Override
+    void allocateValues(int capacity) {
+        values = new int[capacity];
+    }
+
+    @Override
+    Object values() {
+        return values;
+    }
+
+    @Override
+    void copyValue(Object oldValues, int oldSlot, int slot) {
+        values[slot] = ((int[]) oldValues)[oldSlot];
+    }
+
+    @Override
+    void moveValue(int from, int to) {
+        values[to] = values[from];
+    }
+
+    @Override
+    void clearValue(int slot) {
+    }
+
+    @Override
+    void clearValues() {
+    }
+
+    /**
+     * Action performed on each entry of a {@link Vector3IntIntMap}.
+     */
+    @FunctionalInterface
+    public interface Visitor {
+
+        /**
+         * Visits specified entry.
+         *
+         * @param x X-Axis
+         * @param y Y-Axis
+         * @param z Z-Axis
+         * @param value Value
+         */
+        void visit(int x, int y, int z, int value);
+
+    }
+
+}
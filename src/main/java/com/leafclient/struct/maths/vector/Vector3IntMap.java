@@ -0,0 +1,222 @@
+package com.leafclient.struct.maths.vector;
+
+import java.util.Arrays;
+
+/**
+ * {@link Vector3IntMap} maps integer coordinates, such as block positions, to values without boxing
+ * the coordinates: each key is packed into a long using {@link Vector3i#pack(int, int, int)} and stored
+ * with its value in flat arrays, probed linearly.
+ * Coordinates that cannot be packed are rejected with an {@link IllegalArgumentException}.
+ *
+ * Maps created using {@link Vector3IntMap#bounded(int)} act as caches: {@link Vector3IntMap#get(int, int, int)}
+ * and {@link Vector3IntMap#put(int, int, int, Object)} mark their entry as recently used, and the least recently
+ * used entry is evicted once the maximum size is exceeded.
+ *
+ * Instances are not thread-safe.
+ *
+ * @param <V> Value type
+ */
+public final class Vector3IntMap<V> extends PackedVector3Table {
+
+    private Object[] values;
+
+    /**
+     * Creates an empty unbounded {@link Vector3IntMap}.
+     */
+    public Vector3IntMap() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty unbounded {@link Vector3IntMap}.
+     *
+     * @param expectedSize Expected number of entries
+     */
+    public Vector3IntMap(int expectedSize) {
+        super(expectedSize, 0);
+    }
+
+    private Vector3IntMap(int expectedSize, int maximumSize) {
+        super(expectedSize, maximumSize);
+    }
+
+    /**
+     * Creates an empty {@link Vector3IntMap} evicting its least recently used entry once it contains more than
+     * specified number of entries.
+     *
+     * @param maximumSize Maximum number of entries
+     * @param <V> Value type
+     * @return Map
+     */
+    public static <V> Vector3IntMap<V> bounded(int maximumSize) {
+        if(maximumSize < 1)
+            throw new IllegalArgumentException("Maximum size must be positive (" + maximumSize + ")");
+
+        return new Vector3IntMap<>(maximumSize, maximumSize);
+    }
+
+    /**
+     * Returns the value mapped to specified coordinates.
+     *
+     * @param x X-Axis
+     * @param y Y-Axis
+     * @param z Z-Axis
+     * @return Value or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int x, int y, int z) {
+        if(!isPackable(x, y, z))
+            return null;
+
+        final int slot = find(Vector3i.pack(x, y, z));
+        if(slot < 0)
+            return null;
+
+        touch(slot);
+        return (V) values[slot];
+    }
+
+    /**
+     * Returns the value mapped to specified coordinates.
+     *
+     * @param position Coordinates
+     * @return Value or null if there is none
+     */
+    public V get(Vector3i position) {
+        return get(position.getX(), position.getY(), position.getZ());
+    }
+
+    /**
+     * Maps specified value to specified coordinates.
+     *
+     * @param x X-Axis
+     * @param y Y-Axis
+     * @param z Z-Axis
+     * @param value Value
+     * @return Previous value or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int x, int y, int z, V value) {
+        final int slot = insert(Vector3i.pack(x, y, z));
+        if(slot < 0) {
+            values[~slot] = value;
+            afterInsertion();
+            return null;
+        }
+
+        final V previous = (V) values[slot];
+        values[slot] = value;
+        touch(slot);
+        return previous;
+    }
+
+    /**
+     * Maps specified value to specified coordinates.
+     *
+     * @param position Coordinates
+     * @param value Value
+     * @return Previous value or null if there was none
+     */
+    public V put(Vector3i position, V value) {
+        return put(position.getX(), position.getY(), position.getZ(), value);
+    }
+
+    /**
+     * Removes the value mapped to specified coordinates.
+     *
+     * @param x X-Axis
+     * @param y Y-Axis
+     * @param z Z-Axis
+     * @return Removed value or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int x, int y, int z) {
+        if(!isPackable(x, y, z))
+            return null;
+
+        final int slot = find(Vector3i.pack(x, y, z));
+        if(slot < 0)
+            return null;
+
+        final V previous = (V) values[slot];
+        removeSlot(slot);
+        return previous;
+    }
+
+    /**
+     * Removes the value mapped to specified coordinates.
+     *
+     * @param position Coordinates
+     * @return Removed value or null if there was none
+     */
+    public V remove(Vector3i position) {
+        return remove(position.getX(), position.getY(), position.getZ());
+    }
+
+    /**
+     * Performs specified action on each entry, in no particular order.
+     * The map must not be modified by the action.
+     *
+     * @param visitor Action
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Visitor<? super V> visitor) {
+        for(int slot = 0, slots = slots(); slot < slots; slot++) {
+            if(isUsed(slot)) {
+                final long key = keyAt(slot);
+                visitor.visit(Vector3i.unpackX(key), Vector3i.unpackY(key), Vector3i.unpackZ(key), (V) values[slot]);
+            }
+        }
+    }
+
+    @Override
+    void allocateValues(int capacity) {
+        values = new Object[capacity];
+    }
+
+    @Override
+    Object values() {
+        return values;
+    }
+
+    @Override
+    void copyValue(Object oldValues, int oldSlot, int slot) {
+        values[slot] = ((Object[]) oldValues)[oldSlot];
+    }
+
+    @Override
+    void moveValue(int from, int to) {
+        values[to] = values[from];
+    }
+
+    @Override
+    void clearValue(int slot) {
+        values[slot] = null;
+    }
+
+    @Override
+    void clearValues() {
+        Arrays.fill(values, null);
+    }
+
+    /**
+     * Action performed on each entry of a {@link Vector3IntMap}.
+     *
+     * @param <V> Value type
+     */
+    @FunctionalInterface
+    public interface Visitor<V> {
+
+        /**
+         * Visits specified entry.
+         *
+         * @param x X-Axis
+         * @param y Y-Axis
+         * @param z Z-Axis
+         * @param value Value
+         */
+        void visit(int x, int y, int z, V value);
+
+    }
+
+}
@@ -0,0 +1,248 @@
+package com.leafclient.struct.maths.vector;
+
+/**
+ * A {@link Vector3} specialization storing its 3 axises as primitive doubles.
+ * Unlike {@link Vector3}, its operations never box their values nor go through the
+ * {@link com.leafclient.struct.maths.MathOperationsHelper}.
+ */
+public final class Vector3d {
+
+    private final double x;
+    private final double y;
+    private final double z;
+
+    /**
+     * Creates a new {@link Vector3d} with specified values.
+     *
+     * @param x X-Axis value
+     * @param y Y-Axis value
+     * @param z Z-Axis value
+     */
+    public Vector3d(double x, double y, double z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    /**
+     * @return the X-Axis of this {@link Vector3d}
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * @return the Y-Axis of this {@link Vector3d}
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * @return the Z-Axis of this {@link Vector3d}
+     */
+    public double getZ() {
+        return z;
+    }
+
+    /**
+     * Adds specified vector to this one
+     *
+     * @param other Other
+     * @return Addition vector
+     */
+    public Vector3d plus(Vector3d other) {
+        return new Vector3d(
+                x + other.x,
+                y + other.y,
+                z + other.z
+        );
+    }
+
+    /**
+     * Subtracts specified vector to this one
+     *
+     * @param other Other
+     * @return Subtraction vector
+     */
+    public Vector3d minus(Vector3d other) {
+        return new Vector3d(
+                x - other.x,
+                y - other.y,
+                z - other.z
+        );
+    }
+
+    /**
+     * Multiplies this vector by the specified one
+     *
+     * @param other Other
+     * @return Multiplication vector
+     */
+    public Vector3d multiply(Vector3d other) {
+        return new Vector3d(
+                x * other.x,
+                y * other.y,
+                z * other.z
+        );
+    }
+
+    /**
+     * Returns the distance between two vectors.
+     *
+     * @param other Other vector
+     * @return Distance
+     */
+    public double getDistance(Vector3d other) {
+        return Math.sqrt(getDistanceSquared(other));
+    }
+
+    /**
+     * Returns the squared distance between two vectors, cheaper than {@link Vector3d#getDistance(Vector3d)}
+     * when only comparing distances.
+     *
+     * @param other Other vector
+     * @return Squared distance
+     */
+    public double getDistanceSquared(Vector3d other) {
+        double dX = other.x - x;
+        double dY = other.y - y;
+        double dZ = other.z - z;
+
+        return dX * dX + dY * dY + dZ * dZ;
+    }
+
+    /**
+     * Returns the rotation between specified vector and this one, computed exactly like
+     * {@link Vector3#getRotation(Vector3)}.
+     *
+     * @param other Specified vector
+     * @return Rotation
+     */
+    public Vector2f getRotation(Vector3d other) {
+        double dX = x - other.x;
+        double dY = y - other.y;
+        double dZ = z - other.z;
+
+        return new Vector2f(
+                Rotations.yaw(dX, dZ),
+                Rotations.pitch(dX, dY, dZ)
+        );
+    }
+
+    /**
+     * Adds specified vector to this one and writes the result into specified destination without allocating.
+     *
+     * @param other Other
+     * @param dest Destination
+     * @return Destination
+     */
+    public MutableVector3d plus(Vector3d other, MutableVector3d dest) {
+        return dest.set(
+                x + other.x,
+                y + other.y,
+                z + other.z
+        );
+    }
+
+    /**
+     * Subtracts specified vector to this one and writes the result into specified destination without allocating.
+     *
+     * @param other Other
+     * @param dest Destination
+     * @return Destination
+     */
+    public MutableVector3d minus(Vector3d other, MutableVector3d dest) {
+        return dest.set(
+                x - other.x,
+                y - other.y,
+                z - other.z
+        );
+    }
+
+    /**
+     * Multiplies this vector by the specified one and writes the result into specified destination without allocating.
+     *
+     * @param other Other
+     * @param dest Destination
+     * @return Destination
+     */
+    public MutableVector3d multiply(Vector3d other, MutableVector3d dest) {
+        return dest.set(
+                x * other.x,
+                y * other.y,
+                z * other.z
+        );
+    }
+
+    /**
+     * Returns the rotation between specified vector and this one, like {@link Vector3d#getRotation(Vector3d)},
+     * but writes it into specified destination without allocating.
+     *
+     * @param other Specified vector
+     * @param dest Destination, X-Axis is the yaw and Y-Axis the pitch
+     * @return Destination
+     */
+    public MutableVector2d getRotation(Vector3d other, MutableVector2d dest) {
+        return Rotations.rotation(
+                x, y, z,
+                other.x, other.y, other.z,
+                dest
+        );
+    }
+
+    /**
+     * Converts this vector to a {@link MutableVector3d}.
+     *
+     * @return Mutable copy
+     */
+    public MutableVector3d toMutable() {
+        return new MutableVector3d(x, y, z);
+    }
+
+    /**
+     * Converts this vector to its generic {@link Vector3} counterpart.
+     *
+     * @return Generic vector
+     */
+    public Vector3<Double> toVector3() {
+        return new Vector3<>(x, y, z);
+    }
+
+    /**
+     * Creates a {@link Vector3d} from specified generic {@link Vector3}.
+     *
+     * @param vector Generic vector
+     * @return Primitive vector
+     */
+    public static Vector3d from(Vector3<?> vector) {
+        return new Vector3d(
+                vector.getX().doubleValue(),
+                vector.getY().doubleValue(),
+                vector.getZ().doubleValue()
+        );
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        Vector3d vector3 = (Vector3d) o;
+        return Double.compare(x, vector3.x) == 0 &&
+                Double.compare(y, vector3.y) == 0 &&
+                Double.compare(z, vector3.z) == 0;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public int hashCode() {
+        int result = Double.hashCode(x);
+        result = 31 * result + Double.hashCode(y);
+        return 31 * result + Double.hashCode(z);
+    }
+
+}
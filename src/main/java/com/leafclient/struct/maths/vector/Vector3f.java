@@ -0,0 +1,178 @@
+package com.leafclient.struct.maths.vector;
+
+/**
+ * A {@link Vector3} specialization storing its 3 axises as primitive floats.
+ * Unlike {@link Vector3}, its operations never box their values nor go through the
+ * {@link com.leafclient.struct.maths.MathOperationsHelper}.
+ */
+public final class Vector3f {
+
+    private final float x;
+    private final float y;
+    private final float z;
+
+    /**
+     * Creates a new {@link Vector3f} with specified values.
+     *
+     * @param x X-Axis value
+     * @param y Y-Axis value
+     * @param z Z-Axis value
+     */
+    public Vector3f(float x, float y, float z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    /**
+     * @return the X-Axis of this {@link Vector3f}
+     */
+    public float getX() {
+        return x;
+    }
+
+    /**
+     * @return the Y-Axis of this {@link Vector3f}
+     */
+    public float getY() {
+        return y;
+    }
+
+    /**
+     * @return the Z-Axis of this {@link Vector3f}
+     */
+    public float getZ() {
+        return z;
+    }
+
+    /**
+     * Adds specified vector to this one
+     *
+     * @param other Other
+     * @return Addition vector
+     */
+    public Vector3f plus(Vector3f other) {
+        return new Vector3f(
+                x + other.x,
+                y + other.y,
+                z + other.z
+        );
+    }
+
+    /**
+     * Subtracts specified vector to this one
+     *
+     * @param other Other
+     * @return Subtraction vector
+     */
+    public Vector3f minus(Vector3f other) {
+        return new Vector3f(
+                x - other.x,
+                y - other.y,
+                z - other.z
+        );
+    }
+
+    /**
+     * Multiplies this vector by the specified one
+     *
+     * @param other Other
+     * @return Multiplication vector
+     */
+    public Vector3f multiply(Vector3f other) {
+        return new Vector3f(
+                x * other.x,
+                y * other.y,
+                z * other.z
+        );
+    }
+
+    /**
+     * Returns the distance between two vectors.
+     *
+     * @param other Other vector
+     * @return Distance
+     */
+    public double getDistance(Vector3f other) {
+        return Math.sqrt(getDistanceSquared(other));
+    }
+
+    /**
+     * Returns the squared distance between two vectors, cheaper than {@link Vector3f#getDistance(Vector3f)}
+     * when only comparing distances.
+     *
+     * @param other Other vector
+     * @return Squared distance
+     */
+    public double getDistanceSquared(Vector3f other) {
+        double dX = (double) other.x - x;
+        double dY = (double) other.y - y;
+        double dZ = (double) other.z - z;
+
+        return dX * dX + dY * dY + dZ * dZ;
+    }
+
+    /**
+     * Returns the rotation between specified vector and this one, computed exactly like
+     * {@link Vector3#getRotation(Vector3)}.
+     *
+     * @param other Specified vector
+     * @return Rotation
+     */
+    public Vector2f getRotation(Vector3f other) {
+        double dX = (double) x - other.x;
+        double dY = (double) y - other.y;
+        double dZ = (double) z - other.z;
+
+        return new Vector2f(
+                Rotations.yaw(dX, dZ),
+                Rotations.pitch(dX, dY, dZ)
+        );
+    }
+
+    /**
+     * Converts this vector to its generic {@link Vector3} counterpart.
+     *
+     * @return Generic vector
+     */
+    public Vector3<Float> toVector3() {
+        return new Vector3<>(x, y, z);
+    }
+
+    /**
+     * Creates a {@link Vector3f} from specified generic {@link Vector3}.
+     *
+     * @param vector Generic vector
+     * @return Primitive vector
+     */
+    public static Vector3f from(Vector3<?> vector) {
+        return new Vector3f(
+                vector.getX().floatValue(),
+                vector.getY().floatValue(),
+                vector.getZ().floatValue()
+        );
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        Vector3f vector3 = (Vector3f) o;
+        return Float.compare(x, vector3.x) == 0 &&
+                Float.compare(y, vector3.y) == 0 &&
+                Float.compare(z, vector3.z) == 0;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public int hashCode() {
+        int result = Float.hashCode(x);
+        result = 31 * result + Float.hashCode(y);
+        return 31 * result + Float.hashCode(z);
+    }
+
+}
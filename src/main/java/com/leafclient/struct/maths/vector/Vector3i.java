@@ -0,0 +1,249 @@
+package com.leafclient.struct.maths.vector;
+
+/**
+ * A {@link Vector3} specialization storing its 3 axises as primitive ints.
+ * Unlike {@link Vector3}, its operations never box their values nor go through the
+ * {@link com.leafclient.struct.maths.MathOperationsHelper}.
+ */
+public final class Vector3i {
+
+    /**
+     * Range of the X-Axis and Z-Axis that can be packed by {@link Vector3i#pack(int, int, int)}, stored on 26 bits.
+     */
+    public static final int PACKED_HORIZONTAL_MIN = -(1 << 25), PACKED_HORIZONTAL_MAX = (1 << 25) - 1;
+
+    /**
+     * Range of the Y-Axis that can be packed by {@link Vector3i#pack(int, int, int)}, stored on 12 bits.
+     */
+    public static final int PACKED_VERTICAL_MIN = -(1 << 11), PACKED_VERTICAL_MAX = (1 << 11) - 1;
+
+    private final int x;
+    private final int y;
+    private final int z;
+
+    /**
+     * Creates a new {@link Vector3i} with specified values.
+     *
+     * @param x X-Axis value
+     * @param y Y-Axis value
+     * @param z Z-Axis value
+     */
+    public Vector3i(int x, int y, int z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    /**
+     * @return the X-Axis of this {@link Vector3i}
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * @return the Y-Axis of this {@link Vector3i}
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * @return the Z-Axis of this {@link Vector3i}
+     */
+    public int getZ() {
+        return z;
+    }
+
+    /**
+     * Adds specified vector to this one
+     *
+     * @param other Other
+     * @return Addition vector
+     */
+    public Vector3i plus(Vector3i other) {
+        return new Vector3i(
+                x + other.x,
+                y + other.y,
+                z + other.z
+        );
+    }
+
+    /**
+     * Subtracts specified vector to this one
+     *
+     * @param other Other
+     * @return Subtraction vector
+     */
+    public Vector3i minus(Vector3i other) {
+        return new Vector3i(
+                x - other.x,
+                y - other.y,
+                z - other.z
+        );
+    }
+
+    /**
+     * Multiplies this vector by the specified one
+     *
+     * @param other Other
+     * @return Multiplication vector
+     */
+    public Vector3i multiply(Vector3i other) {
+        return new Vector3i(
+                x * other.x,
+                y * other.y,
+                z * other.z
+        );
+    }
+
+    /**
+     * Returns the distance between two vectors.
+     *
+     * @param other Other vector
+     * @return Distance
+     */
+    public double getDistance(Vector3i other) {
+        return Math.sqrt(getDistanceSquared(other));
+    }
+
+    /**
+     * Returns the squared distance between two vectors, cheaper than {@link Vector3i#getDistance(Vector3i)}
+     * when only comparing distances.
+     *
+     * @param other Other vector
+     * @return Squared distance
+     */
+    public double getDistanceSquared(Vector3i other) {
+        double dX = (double) other.x - x;
+        double dY = (double) other.y - y;
+        double dZ = (double) other.z - z;
+
+        return dX * dX + dY * dY + dZ * dZ;
+    }
+
+    /**
+     * Returns the rotation between specified vector and this one, computed exactly like
+     * {@link Vector3#getRotation(Vector3)}.
+     *
+     * @param other Specified vector
+     * @return Rotation
+     */
+    public Vector2f getRotation(Vector3i other) {
+        double dX = (double) x - other.x;
+        double dY = (double) y - other.y;
+        double dZ = (double) z - other.z;
+
+        return new Vector2f(
+                Rotations.yaw(dX, dZ),
+                Rotations.pitch(dX, dY, dZ)
+        );
+    }
+
+    /**
+     * Packs this vector into a long, see {@link Vector3i#pack(int, int, int)}.
+     *
+     * @return Packed vector
+     */
+    public long pack() {
+        return pack(x, y, z);
+    }
+
+    /**
+     * Packs specified coordinates into a long: the X-Axis is stored on the 26 highest bits, the Z-Axis on the
+     * 26 following ones and the Y-Axis on the 12 lowest bits.
+     *
+     * @param x X-Axis value, between {@link Vector3i#PACKED_HORIZONTAL_MIN} and {@link Vector3i#PACKED_HORIZONTAL_MAX}
+     * @param y Y-Axis value, between {@link Vector3i#PACKED_VERTICAL_MIN} and {@link Vector3i#PACKED_VERTICAL_MAX}
+     * @param z Z-Axis value, between {@link Vector3i#PACKED_HORIZONTAL_MIN} and {@link Vector3i#PACKED_HORIZONTAL_MAX}
+     * @return Packed coordinates
+     */
+    public static long pack(int x, int y, int z) {
+        if(x < PACKED_HORIZONTAL_MIN || x > PACKED_HORIZONTAL_MAX
+                || y < PACKED_VERTICAL_MIN || y > PACKED_VERTICAL_MAX
+                || z < PACKED_HORIZONTAL_MIN || z > PACKED_HORIZONTAL_MAX)
+            throw new IllegalArgumentException("Coordinates cannot be packed (" + x + ", " + y + ", " + z + ")");
+
+        return ((long) x & 0x3FFFFFFL) << 38 | ((long) z & 0x3FFFFFFL) << 12 | (y & 0xFFFL);
+    }
+
+    /**
+     * @param packed Packed coordinates
+     * @return the X-Axis of specified packed coordinates
+     */
+    public static int unpackX(long packed) {
+        return (int) (packed >> 38);
+    }
+
+    /**
+     * @param packed Packed coordinates
+     * @return the Y-Axis of specified packed coordinates
+     */
+    public static int unpackY(long packed) {
+        return (int) (packed << 52 >> 52);
+    }
+
+    /**
+     * @param packed Packed coordinates
+     * @return the Z-Axis of specified packed coordinates
+     */
+    public static int unpackZ(long packed) {
+        return (int) (packed << 26 >> 38);
+    }
+
+    /**
+     * Creates a {@link Vector3i} from specified packed coordinates.
+     *
+     * @param packed Packed coordinates
+     * @return Vector
+     */
+    public static Vector3i unpack(long packed) {
+        return new Vector3i(unpackX(packed), unpackY(packed), unpackZ(packed));
+    }
+
+    /**
+     * Converts this vector to its generic {@link Vector3} counterpart.
+     *
+     * @return Generic vector
+     */
+    public Vector3<Integer> toVector3() {
+        return new Vector3<>(x, y, z);
+    }
+
+    /**
+     * Creates a {@link Vector3i} from specified generic {@link Vector3}.
+     *
+     * @param vector Generic vector
+     * @return Primitive vector
+     */
+    public static Vector3i from(Vector3<?> vector) {
+        return new Vector3i(
+                vector.getX().intValue(),
+                vector.getY().intValue(),
+                vector.getZ().intValue()
+        );
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        Vector3i vector3 = (Vector3i) o;
+        return x == vector3.x &&
+                y == vector3.y &&
+                z == vector3.z;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public int hashCode() {
+        int result = Integer.hashCode(x);
+        result = 31 * result + Integer.hashCode(y);
+        return 31 * result + Integer.hashCode(z);
+    }
+
+}
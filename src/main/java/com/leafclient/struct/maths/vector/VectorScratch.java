@@ -0,0 +1,98 @@
+package com.leafclient.struct.maths.vector;
+
+import java.util.Arrays;
+
+/**
+ * {@link VectorScratch} is a per-thread pool of temporary mutable vectors.
+ * Vectors are borrowed in a stack-like fashion and given back all at once by releasing a mark,
+ * once the pool has grown to the needed size, borrowing vectors does not allocate anything anymore:
+ * <pre>
+ * VectorScratch scratch = VectorScratch.get();
+ * long mark = scratch.mark();
+ * try {
+ *     MutableVector3d delta = scratch.vector3();
+ *     ...
+ * } finally {
+ *     scratch.release(mark);
+ * }
+ * </pre>
+ * Borrowed vectors must not escape the scope of their mark.
+ */
+public final class VectorScratch {
+
+    private static final ThreadLocal<VectorScratch> CURRENT = ThreadLocal.withInitial(VectorScratch::new);
+
+    private MutableVector2d[] vectors2 = new MutableVector2d[16];
+    private MutableVector3d[] vectors3 = new MutableVector3d[16];
+    private int used2;
+    private int used3;
+
+    /**
+     * Creates an empty {@link VectorScratch}, see {@link VectorScratch#get()}.
+     */
+    VectorScratch() {
+    }
+
+    /**
+     * Returns the {@link VectorScratch} of the current thread.
+     *
+     * @return Current thread's scratch
+     */
+    public static VectorScratch get() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Borrows a {@link MutableVector2d} with every axis set to zero.
+     *
+     * @return Temporary vector
+     */
+    public MutableVector2d vector2() {
+        if(used2 == vectors2.length) {
+            vectors2 = Arrays.copyOf(vectors2, used2 << 1);
+        }
+        MutableVector2d vector = vectors2[used2];
+        if(vector == null) {
+            vector = vectors2[used2] = new MutableVector2d();
+        }
+        used2++;
+        return vector.set(0.0, 0.0);
+    }
+
+    /**
+     * Borrows a {@link MutableVector3d} with every axis set to zero.
+     *
+     * @return Temporary vector
+     */
+    public MutableVector3d vector3() {
+        if(used3 == vectors3.length) {
+            vectors3 = Arrays.copyOf(vectors3, used3 << 1);
+        }
+        MutableVector3d vector = vectors3[used3];
+        if(vector == null) {
+            vector = vectors3[used3] = new MutableVector3d();
+        }
+        used3++;
+        return vector.set(0.0, 0.0, 0.0);
+    }
+
+    /**
+     * Returns a mark representing the vectors currently borrowed.
+     *
+     * @return Mark to give to {@link VectorScratch#release(long)}
+     */
+    public long mark() {
+        return ((long) used3 << 32) | used2;
+    }
+
+    /**
+     * Gives back every vector borrowed since specified mark was taken.
+     *
+     * @param mark Mark returned by {@link VectorScratch#mark()}
+     */
+    public void release(long mark) {
+        used3 = (int) (mark >>> 32);
+        used2 = (int) mark;
+    }
+
+}
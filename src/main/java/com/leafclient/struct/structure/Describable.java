@@ -7,9 +7,9 @@ package com.leafclient.struct.structure;
 public interface Describable {
 
     /**
-     * Returns the current description of this {@link Labelable} object.
+     * Returns the current description of this {@link Describable} object.
      *
-     * @return Object's label
+     * @return Object's description
      */
     String getDescription();
 
@@ -17,12 +17,12 @@ public interface Describable {
      * Tries to get the {@link Describable#getDescription()} if specified object implements the {@link Describable} interface,
      * otherwise returns an empty String.
      *
-     * @param object Potentially labeled object
-     * @return {@link Describable#getDescription()} if the object is labeled, otherwise an empty String.
+     * @param object Potentially described object
+     * @return {@link Describable#getDescription()} if the object is described, otherwise an empty String.
      */
     static String getDescriptionOrEmpty(Object object) {
-        if(object instanceof Labelable) {
-            return ((Labelable)object).getLabel();
+        if(object instanceof Describable) {
+            return ((Describable)object).getDescription();
         }
         return "";
     }
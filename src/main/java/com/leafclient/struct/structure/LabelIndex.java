@@ -0,0 +1,383 @@
+package com.leafclient.struct.structure;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@link LabelIndex} indexes {@link Labelable} objects by their {@link Labelable#getLabel()} to resolve commands
+ * and complete names without scanning every object.
+ * <ul>
+ *     <li>{@link LabelIndex#get(CharSequence)} finds an object by its exact label, ignoring the case,
+ *     through a hash table and without allocating.</li>
+ *     <li>{@link LabelIndex#complete(CharSequence, int, List)} finds the objects whose label starts with
+ *     a prefix through a binary search over the sorted labels, the shortest labels first.</li>
+ *     <li>{@link LabelIndex#search(CharSequence, int, List)} also looks at the words of each
+ *     {@link Describable#getDescription()} if the index was created with descriptions.</li>
+ * </ul>
+ * Labels and descriptions are read when an object is added and must not change while it is indexed.
+ *
+ * Instances are not thread-safe.
+ *
+ * @param <T> Indexed type
+ */
+public final class LabelIndex<T extends Labelable> {
+
+    private final boolean indexDescriptions;
+
+    private String[] tableKeys = new String[16];
+    private Object[] tableEntries = new Object[16];
+    private int tableSize;
+
+    private String[] labelKeys = new String[16];
+    private Object[] labelEntries = new Object[16];
+    private int labelCount;
+
+    private String[] wordKeys = new String[0];
+    private Object[] wordEntries = new Object[0];
+    private int wordCount;
+
+    private int[] ranks = new int[16];
+
+    /**
+     * Creates an empty {@link LabelIndex} that does not index descriptions.
+     */
+    public LabelIndex() {
+        this(false);
+    }
+
+    /**
+     * Creates an empty {@link LabelIndex}.
+     *
+     * @param indexDescriptions `True` to index the words of {@link Describable#getDescription()}
+     */
+    public LabelIndex(boolean indexDescriptions) {
+        this.indexDescriptions = indexDescriptions;
+    }
+
+    /**
+     * Creates a {@link LabelIndex} containing specified objects.
+     *
+     * @param objects Objects
+     * @param indexDescriptions `True` to index the words of {@link Describable#getDescription()}
+     * @param <T> Indexed type
+     * @return Index
+     */
+    public static <T extends Labelable> LabelIndex<T> of(Collection<? extends T> objects, boolean indexDescriptions) {
+        final LabelIndex<T> index = new LabelIndex<>(indexDescriptions);
+        for(T object: objects) {
+            index.add(object);
+        }
+        return index;
+    }
+
+    /**
+     * @return the number of indexed objects
+     */
+    public int size() {
+        return labelCount;
+    }
+
+    /**
+     * Adds specified object to this index.
+     *
+     * @param object Object
+     */
+    public void add(T object) {
+        final String key = fold(object.getLabel());
+
+        tableInsert(key, object);
+        final int position = insertionPoint(labelKeys, labelCount, key);
+        labelKeys = insert(labelKeys, labelCount, position, key);
+        labelEntries = insert(labelEntries, labelCount, position, object);
+        labelCount++;
+
+        if(indexDescriptions) {
+            final String description = fold(Describable.getDescriptionOrEmpty(object));
+            int start = -1;
+            for(int i = 0; i <= description.length(); i++) {
+                final boolean letter = i < description.length() && Character.isLetterOrDigit(description.charAt(i));
+                if(letter && start < 0) {
+                    start = i;
+                } else if(!letter && start >= 0) {
+                    addWord(description.substring(start, i), object);
+                    start = -1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes specified object from this index.
+     *
+     * @param object Object
+     * @return `True` if the object was indexed
+     */
+    public boolean remove(T object) {
+        final int removed = removeEntries(labelKeys, labelEntries, labelCount, object);
+        if(removed == 0)
+            return false;
+
+        labelCount -= removed;
+        wordCount -= removeEntries(wordKeys, wordEntries, wordCount, object);
+        tableRemove(object);
+        return true;
+    }
+
+    /**
+     * Returns the object whose label is equal to specified name, ignoring the case.
+     *
+     * @param name Name
+     * @return Object or null if no label matches
+     */
+    @SuppressWarnings("unchecked")
+    public T get(CharSequence name) {
+        final int mask = tableKeys.length - 1;
+        for(int slot = hash(name) & mask; tableKeys[slot] != null; slot = (slot + 1) & mask) {
+            if(foldedEquals(tableKeys[slot], name))
+                return (T) tableEntries[slot];
+        }
+        return null;
+    }
+
+    /**
+     * Adds to specified list the objects whose label starts with specified prefix, ignoring the case.
+     * The exact match comes first, followed by the other labels from the shortest to the longest,
+     * then in alphabetical order.
+     *
+     * @param prefix Prefix
+     * @param limit Maximum number of objects
+     * @param out Output
+     * @return Number of objects added
+     */
+    public int complete(CharSequence prefix, int limit, List<? super T> out) {
+        return collect(labelKeys, labelEntries, labelCount, prefix, limit, out, out.size());
+    }
+
+    /**
+     * Adds to specified list the objects whose label starts with specified query, ranked like
+     * {@link LabelIndex#complete(CharSequence, int, List)}, followed by the objects whose description
+     * contains a word starting with the query.
+     *
+     * @param query Query
+     * @param limit Maximum number of objects
+     * @param out Output
+     * @return Number of objects added
+     */
+    public int search(CharSequence query, int limit, List<? super T> out) {
+        final int start = out.size();
+        final int labels = collect(labelKeys, labelEntries, labelCount, query, limit, out, start);
+        return labels + collect(wordKeys, wordEntries, wordCount, query, limit - labels, out, start);
+    }
+
+    /**
+     * Adds the entries whose key starts with specified prefix, ranked by key length.
+     * Lengths of the added entries are tracked in {@link LabelIndex#ranks}.
+     *
+     * @param start Index of the first result in the output, used to ignore duplicates
+     */
+    @SuppressWarnings("unchecked")
+    private int collect(String[] keys, Object[] entries, int count, CharSequence prefix, int limit,
+                        List<? super T> out, int start) {
+        if(limit <= 0)
+            return 0;
+
+        final int first = lowerBound(keys, count, prefix);
+        final int offset = out.size();
+        int added = 0;
+        for(int i = first; i < count && startsWith(keys[i], prefix); i++) {
+            final T entry = (T) entries[i];
+            if(contains(out, start, entry))
+                continue;
+
+            // Insertion by key length, keeping the alphabetical order of equal lengths
+            final int length = keys[i].length();
+            int position = added;
+            while(position > 0 && ranks[position - 1] > length) {
+                position--;
+            }
+            if(added == limit) {
+                if(position == added)
+                    continue;
+
+                out.remove(offset + --added);
+            }
+            if(added == ranks.length) {
+                ranks = Arrays.copyOf(ranks, added << 1);
+            }
+            System.arraycopy(ranks, position, ranks, position + 1, added - position);
+            ranks[position] = length;
+            out.add(offset + position, entry);
+            added++;
+        }
+        return added;
+    }
+
+    private void addWord(String word, T object) {
+        final int position = insertionPoint(wordKeys, wordCount, word);
+        wordKeys = insert(wordKeys, wordCount, position, word);
+        wordEntries = insert(wordEntries, wordCount, position, object);
+        wordCount++;
+    }
+
+    private void tableInsert(String key, Object entry) {
+        if((tableSize + 1) * 4 > tableKeys.length * 3) {
+            final String[] oldKeys = tableKeys;
+            final Object[] oldEntries = tableEntries;
+            tableKeys = new String[oldKeys.length << 1];
+            tableEntries = new Object[oldKeys.length << 1];
+            for(int slot = 0; slot < oldKeys.length; slot++) {
+                if(oldKeys[slot] != null) {
+                    place(oldKeys[slot], oldEntries[slot]);
+                }
+            }
+        }
+        place(key, entry);
+        tableSize++;
+    }
+
+    private void place(String key, Object entry) {
+        final int mask = tableKeys.length - 1;
+        int slot = hash(key) & mask;
+        while(tableKeys[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        tableKeys[slot] = key;
+        tableEntries[slot] = entry;
+    }
+
+    private void tableRemove(Object entry) {
+        final int mask = tableKeys.length - 1;
+        for(int slot = 0; slot < tableKeys.length; slot++) {
+            if(tableKeys[slot] != null && tableEntries[slot] == entry) {
+                // Moves back the following entries of the cluster
+                int gap = slot;
+                int next = (gap + 1) & mask;
+                while(tableKeys[next] != null) {
+                    final int ideal = hash(tableKeys[next]) & mask;
+                    if(((next - ideal) & mask) >= ((next - gap) & mask)) {
+                        tableKeys[gap] = tableKeys[next];
+                        tableEntries[gap] = tableEntries[next];
+                        gap = next;
+                    }
+                    next = (next + 1) & mask;
+                }
+                tableKeys[gap] = null;
+                tableEntries[gap] = null;
+                tableSize--;
+                return;
+            }
+        }
+    }
+
+    private static boolean contains(List<?> out, int start, Object entry) {
+        for(int i = start; i < out.size(); i++) {
+            if(out.get(i) == entry)
+                return true;
+        }
+        return false;
+    }
+
+    private static int removeEntries(String[] keys, Object[] entries, int count, Object entry) {
+        int kept = 0;
+        for(int i = 0; i < count; i++) {
+            if(entries[i] != entry) {
+                keys[kept] = keys[i];
+                entries[kept++] = entries[i];
+            }
+        }
+        Arrays.fill(keys, kept, count, null);
+        Arrays.fill(entries, kept, count, null);
+        return count - kept;
+    }
+
+    private static <E> E[] insert(E[] array, int count, int position, E element) {
+        if(count == array.length) {
+            array = Arrays.copyOf(array, Math.max(16, count << 1));
+        }
+        System.arraycopy(array, position, array, position + 1, count - position);
+        array[position] = element;
+        return array;
+    }
+
+    /**
+     * @return the index after every key lower than or equal to specified key
+     */
+    private static int insertionPoint(String[] keys, int count, String key) {
+        int low = 0, high = count;
+        while(low < high) {
+            final int middle = (low + high) >>> 1;
+            if(keys[middle].compareTo(key) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return the index of the first key greater than or equal to specified prefix
+     */
+    private static int lowerBound(String[] keys, int count, CharSequence prefix) {
+        int low = 0, high = count;
+        while(low < high) {
+            final int middle = (low + high) >>> 1;
+            if(compareFolded(keys[middle], prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static int compareFolded(String key, CharSequence other) {
+        final int length = Math.min(key.length(), other.length());
+        for(int i = 0; i < length; i++) {
+            final int difference = key.charAt(i) - fold(other.charAt(i));
+            if(difference != 0)
+                return difference;
+        }
+        return key.length() - other.length();
+    }
+
+    private static boolean startsWith(String key, CharSequence prefix) {
+        if(key.length() < prefix.length())
+            return false;
+
+        for(int i = 0; i < prefix.length(); i++) {
+            if(key.charAt(i) != fold(prefix.charAt(i)))
+                return false;
+        }
+        return true;
+    }
+
+    private static boolean foldedEquals(String key, CharSequence other) {
+        return key.length() == other.length() && startsWith(key, other);
+    }
+
+    private static int hash(CharSequence value) {
+        int hash = 0;
+        for(int i = 0; i < value.length(); i++) {
+            hash = 31 * hash + fold(value.charAt(i));
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static String fold(String value) {
+        final char[] characters = value.toCharArray();
+        for(int i = 0; i < characters.length; i++) {
+            characters[i] = fold(characters[i]);
+        }
+        return new String(characters);
+    }
+
+    /**
+     * Folds specified character the same way {@link String#equalsIgnoreCase(String)} compares them.
+     */
+    private static char fold(char character) {
+        return Character.toLowerCase(Character.toUpperCase(character));
+    }
+
+}
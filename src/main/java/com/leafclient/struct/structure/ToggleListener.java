@@ -0,0 +1,18 @@
+package com.leafclient.struct.structure;
+
+/**
+ * Listens to the transitions of the {@link Toggleable} registered in a {@link ToggleableRegistry}.
+ */
+@FunctionalInterface
+public interface ToggleListener {
+
+    /**
+     * Called once the running state of specified {@link Toggleable} changed.
+     *
+     * @param index Index of the toggleable in the registry
+     * @param toggleable Toggleable
+     * @param running New running state
+     */
+    void onToggle(int index, Toggleable toggleable, boolean running);
+
+}
@@ -0,0 +1,460 @@
+package com.leafclient.struct.structure;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * {@link ToggleableRegistry} gives each registered {@link Toggleable} a dense index and mirrors its running state
+ * in an atomic bitset, so that the running objects can be iterated without calling {@link Toggleable#isRunning()}
+ * on every registered one:
+ * <pre>
+ * for(int i = registry.nextRunning(0); i >= 0; i = registry.nextRunning(i + 1)) {
+ *     registry.get(i)...
+ * }
+ * </pre>
+ * The state must be modified through {@link ToggleableRegistry#setRunning(Toggleable, boolean)} or
+ * {@link ToggleableRegistry#toggle(Toggleable)}, which can be called from any thread without locking: each
+ * transition is applied to the bitset first, and then to the {@link Toggleable}. Only one thread at a time applies
+ * the bit of a toggleable to it, the transitions requested meanwhile by other threads or by its listeners are
+ * applied by that thread once it is done, so that the toggleable always ends in the state of its bit.
+ * Objects toggled directly can be synchronized back using {@link ToggleableRegistry#refresh()}.
+ *
+ * {@link ToggleListener}s are notified of the transitions either synchronously, by the thread applying them
+ * to the toggleable, or in batches when {@link ToggleableRegistry#flush()} is called, typically once per tick.
+ * Batches are coalesced: a listener only receives the toggleables whose state differs from the one of the previous batch, so that
+ * a toggleable enabled and then disabled between two flushes is not reported.
+ * Listeners are stored in copy-on-write arrays and nothing is allocated when they are notified.
+ *
+ * Registration is expected to be rare and is synchronized.
+ */
+public final class ToggleableRegistry {
+
+    /**
+     * Bits are stored in segments of 64 words that are never copied, so that growing the registry
+     * cannot lose a concurrent transition.
+     */
+    private static final int SEGMENT_SHIFT = 12;
+    private static final int SEGMENT_WORDS = 64;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+
+    private static final ToggleListener[] NO_LISTENERS = new ToggleListener[0];
+
+    private final Object lock = new Object();
+    private volatile Toggleable[] entries = new Toggleable[0];
+    private volatile AtomicLongArray[] segments = new AtomicLongArray[0];
+    // Per index, the number of transitions waiting to be applied to the toggleable and the last state applied,
+    // which is only accessed by the thread applying the transitions of the index
+    private volatile AtomicIntegerArray[] requests = new AtomicIntegerArray[0];
+    private volatile boolean[][] applied = new boolean[0][];
+    private volatile Map<Toggleable, Integer> indexes = new IdentityHashMap<>();
+
+    private volatile ToggleListener[] listeners = NO_LISTENERS;
+    private volatile ToggleListener[] coalescedListeners = NO_LISTENERS;
+
+    // Running states reported by the last flush, only accessed while holding the flush lock
+    private final Object flushLock = new Object();
+    private long[] delivered = new long[0];
+    private int deliveredCount;
+
+    /**
+     * Registers specified {@link Toggleable}, its current state is read using {@link Toggleable#isRunning()}.
+     *
+     * @param toggleable Toggleable
+     * @return Index of the toggleable, the same one if it was already registered
+     */
+    public int register(Toggleable toggleable) {
+        synchronized (lock) {
+            final Integer existing = indexes.get(toggleable);
+            if(existing != null)
+                return existing;
+
+            final int index = entries.length;
+            if((index >> SEGMENT_SHIFT) == segments.length) {
+                final AtomicLongArray[] grown = Arrays.copyOf(segments, segments.length + 1);
+                grown[segments.length] = new AtomicLongArray(SEGMENT_WORDS);
+                final AtomicIntegerArray[] grownRequests = Arrays.copyOf(requests, requests.length + 1);
+                grownRequests[requests.length] = new AtomicIntegerArray(SEGMENT_SIZE);
+                final boolean[][] grownApplied = Arrays.copyOf(applied, applied.length + 1);
+                grownApplied[applied.length] = new boolean[SEGMENT_SIZE];
+                requests = grownRequests;
+                applied = grownApplied;
+                segments = grown;
+            }
+            if(toggleable.isRunning()) {
+                update(index, true);
+                applied[index >> SEGMENT_SHIFT][index & (SEGMENT_SIZE - 1)] = true;
+            }
+
+            final Map<Toggleable, Integer> grownIndexes = new IdentityHashMap<>(indexes);
+            grownIndexes.put(toggleable, index);
+            final Toggleable[] grownEntries = Arrays.copyOf(entries, index + 1);
+            grownEntries[index] = toggleable;
+
+            indexes = grownIndexes;
+            entries = grownEntries;
+            return index;
+        }
+    }
+
+    /**
+     * @return the number of registered {@link Toggleable}
+     */
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * Returns the index of specified {@link Toggleable}.
+     *
+     * @param toggleable Toggleable
+     * @return Index or -1 if it is not registered
+     */
+    public int indexOf(Toggleable toggleable) {
+        final Integer index = indexes.get(toggleable);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the {@link Toggleable} registered at specified index.
+     *
+     * @param index Index
+     * @return Toggleable
+     */
+    public Toggleable get(int index) {
+        return entries[index];
+    }
+
+    /**
+     * Returns the running state of the {@link Toggleable} registered at specified index, as mirrored by this registry.
+     *
+     * @param index Index
+     * @return `True` if the toggleable is running
+     */
+    public boolean isRunning(int index) {
+        checkIndex(index);
+        return (word(index) & bit(index)) != 0;
+    }
+
+    /**
+     * Modifies the running state of specified {@link Toggleable}.
+     *
+     * @param toggleable Registered toggleable
+     * @param value New running state
+     * @return `True` if the running state changed
+     */
+    public boolean setRunning(Toggleable toggleable, boolean value) {
+        return setRunning(requireIndex(toggleable), value);
+    }
+
+    /**
+     * Modifies the running state of the {@link Toggleable} registered at specified index.
+     * If another thread is applying a transition of this toggleable, or if this method is called by one of its
+     * listeners, the new state is applied to the toggleable by that thread once it is done.
+     *
+     * @param index Index
+     * @param value New running state
+     * @return `True` if the running state changed
+     */
+    public boolean setRunning(int index, boolean value) {
+        checkIndex(index);
+        if(!update(index, value))
+            return false;
+
+        apply(index);
+        return true;
+    }
+
+    /**
+     * Modifies the running state of specified {@link Toggleable} to its opposite.
+     *
+     * @param toggleable Registered toggleable
+     * @return New running state
+     */
+    public boolean toggle(Toggleable toggleable) {
+        return toggle(requireIndex(toggleable));
+    }
+
+    /**
+     * Modifies the running state of the {@link Toggleable} registered at specified index to its opposite.
+     *
+     * @param index Index
+     * @return New running state
+     */
+    public boolean toggle(int index) {
+        checkIndex(index);
+        final AtomicLongArray segment = segments[index >> SEGMENT_SHIFT];
+        final int word = (index >> 6) & (SEGMENT_WORDS - 1);
+        final long bit = bit(index);
+
+        long current;
+        do {
+            current = segment.get(word);
+        } while(!segment.compareAndSet(word, current, current ^ bit));
+
+        apply(index);
+        return (current & bit) == 0;
+    }
+
+    /**
+     * Synchronizes the mirrored states with {@link Toggleable#isRunning()}, for objects toggled
+     * without going through this registry.
+     */
+    public void refresh() {
+        final Toggleable[] entries = this.entries;
+        for(int index = 0; index < entries.length; index++) {
+            if(update(index, entries[index].isRunning())) {
+                apply(index);
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the first running {@link Toggleable} registered at or after specified index.
+     *
+     * @param fromIndex First index
+     * @return Index or -1 if there is none
+     */
+    public int nextRunning(int fromIndex) {
+        final int size = entries.length;
+        if(fromIndex < 0)
+            fromIndex = 0;
+
+        while(fromIndex < size) {
+            final long bits = word(fromIndex) & (-1L << fromIndex);
+            if(bits != 0) {
+                final int index = (fromIndex & ~63) + Long.numberOfTrailingZeros(bits);
+                return index < size ? index : -1;
+            }
+            fromIndex = (fromIndex & ~63) + 64;
+        }
+        return -1;
+    }
+
+    /**
+     * @return the number of running {@link Toggleable}
+     */
+    public int runningCount() {
+        final AtomicLongArray[] segments = this.segments;
+        int count = 0;
+        for(AtomicLongArray segment: segments) {
+            for(int word = 0; word < SEGMENT_WORDS; word++) {
+                count += Long.bitCount(segment.get(word));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Performs specified action on each running {@link Toggleable}, in index order.
+     *
+     * @param action Action
+     */
+    public void forEachRunning(Consumer<? super Toggleable> action) {
+        final Toggleable[] entries = this.entries;
+        for(int i = nextRunning(0); i >= 0 && i < entries.length; i = nextRunning(i + 1)) {
+            action.accept(entries[i]);
+        }
+    }
+
+    /**
+     * Adds specified listener, notified synchronously of each transition by the thread applying it.
+     * The notifications of a toggleable are never concurrent and follow the order of its bit: transitions
+     * requested while a notification is delivered may be coalesced, but the last state received always matches
+     * {@link ToggleableRegistry#isRunning(int)}. No lock is held while the listener is called, it can modify
+     * the state of any toggleable.
+     *
+     * @param listener Listener
+     */
+    public void addListener(ToggleListener listener) {
+        synchronized (lock) {
+            listeners = append(listeners, listener);
+        }
+    }
+
+    /**
+     * Adds specified listener, notified of the coalesced transitions by {@link ToggleableRegistry#flush()}.
+     *
+     * @param listener Listener
+     */
+    public void addCoalescedListener(ToggleListener listener) {
+        synchronized (lock) {
+            coalescedListeners = append(coalescedListeners, listener);
+        }
+    }
+
+    /**
+     * Removes specified listener, whether it is synchronous or coalesced.
+     *
+     * @param listener Listener
+     * @return `True` if the listener was added
+     */
+    public boolean removeListener(ToggleListener listener) {
+        synchronized (lock) {
+            final ToggleListener[] listeners = remove(this.listeners, listener);
+            final ToggleListener[] coalescedListeners = remove(this.coalescedListeners, listener);
+            final boolean removed = listeners != this.listeners || coalescedListeners != this.coalescedListeners;
+            this.listeners = listeners;
+            this.coalescedListeners = coalescedListeners;
+            return removed;
+        }
+    }
+
+    /**
+     * Notifies the coalesced listeners of every {@link Toggleable} whose state changed since the previous flush.
+     * Toggleables registered after the previous flush are not reported.
+     *
+     * @return Number of reported toggleables
+     */
+    public int flush() {
+        synchronized (flushLock) {
+            final Toggleable[] entries = this.entries;
+            final int words = (entries.length + 63) >> 6;
+            if(delivered.length < words) {
+                delivered = Arrays.copyOf(delivered, Math.max(words, delivered.length << 1));
+            }
+
+            final ToggleListener[] listeners = coalescedListeners;
+            int reported = 0;
+            for(int word = 0; word < words; word++) {
+                final long current = word(word << 6);
+                // Toggleables registered since the previous flush start from their current state
+                final int known = Math.min(64, Math.max(0, deliveredCount - (word << 6)));
+                final long knownMask = known == 64 ? -1L : (1L << known) - 1;
+                long changed = (current ^ delivered[word]) & knownMask;
+                delivered[word] = current;
+
+                while(changed != 0) {
+                    final int index = (word << 6) + Long.numberOfTrailingZeros(changed);
+                    changed &= changed - 1;
+                    final boolean running = (current & bit(index)) != 0;
+                    for(ToggleListener listener: listeners) {
+                        listener.onToggle(index, entries[index], running);
+                    }
+                    reported++;
+                }
+            }
+            deliveredCount = entries.length;
+            return reported;
+        }
+    }
+
+    /**
+     * Applies the bit of specified index to its {@link Toggleable} and notifies the synchronous listeners,
+     * unless another thread is already applying a transition of this index: that thread then applies
+     * the bit once it is done.
+     *
+     * @param index Index
+     */
+    private void apply(int index) {
+        final AtomicIntegerArray pending = requests[index >> SEGMENT_SHIFT];
+        final int slot = index & (SEGMENT_SIZE - 1);
+        if(pending.getAndIncrement(slot) != 0)
+            return;
+
+        final boolean[] states = applied[index >> SEGMENT_SHIFT];
+        final Toggleable toggleable = entries[index];
+        boolean completed = false;
+        try {
+            int handled;
+            do {
+                // Requests are counted after their bit is updated, the bit read next covers every counted one
+                handled = pending.get(slot);
+                final boolean running = (word(index) & bit(index)) != 0;
+                if(states[slot] != running) {
+                    if(toggleable.isRunning() != running) {
+                        toggleable.setRunning(running);
+                    }
+                    states[slot] = running;
+                    notify(index, running);
+                }
+            } while(pending.addAndGet(slot, -handled) != 0);
+            completed = true;
+        } finally {
+            if(!completed) {
+                // Let the next transition apply the bit again instead of waiting for this thread forever
+                pending.set(slot, 0);
+            }
+        }
+    }
+
+    /**
+     * Notifies the synchronous listeners of a transition.
+     */
+    private void notify(int index, boolean running) {
+        final ToggleListener[] listeners = this.listeners;
+        if(listeners.length == 0)
+            return;
+
+        final Toggleable toggleable = entries[index];
+        for(ToggleListener listener: listeners) {
+            listener.onToggle(index, toggleable, running);
+        }
+    }
+
+    private static ToggleListener[] append(ToggleListener[] listeners, ToggleListener listener) {
+        final ToggleListener[] grown = Arrays.copyOf(listeners, listeners.length + 1);
+        grown[listeners.length] = listener;
+        return grown;
+    }
+
+    private static ToggleListener[] remove(ToggleListener[] listeners, ToggleListener listener) {
+        for(int i = 0; i < listeners.length; i++) {
+            if(listeners[i] == listener) {
+                final ToggleListener[] shrunk = new ToggleListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, shrunk, 0, i);
+                System.arraycopy(listeners, i + 1, shrunk, i, shrunk.length - i);
+                return shrunk;
+            }
+        }
+        return listeners;
+    }
+
+    /**
+     * Applies specified state to the bitset.
+     *
+     * @param index Index
+     * @param value New running state
+     * @return `True` if the bit changed
+     */
+    private boolean update(int index, boolean value) {
+        final AtomicLongArray segment = segments[index >> SEGMENT_SHIFT];
+        final int word = (index >> 6) & (SEGMENT_WORDS - 1);
+        final long bit = bit(index);
+
+        long current;
+        long next;
+        do {
+            current = segment.get(word);
+            next = value ? current | bit : current & ~bit;
+            if(current == next)
+                return false;
+        } while(!segment.compareAndSet(word, current, next));
+        return true;
+    }
+
+    private long word(int index) {
+        return segments[index >> SEGMENT_SHIFT].get((index >> 6) & (SEGMENT_WORDS - 1));
+    }
+
+    private static long bit(int index) {
+        return 1L << index;
+    }
+
+    private int requireIndex(Toggleable toggleable) {
+        final int index = indexOf(toggleable);
+        if(index < 0)
+            throw new IllegalArgumentException("Toggleable is not registered");
+
+        return index;
+    }
+
+    private void checkIndex(int index) {
+        if(index < 0 || index >= entries.length)
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + entries.length);
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.leafclient.struct.structure.metadata;
+
+import com.leafclient.struct.structure.Describable;
+import com.leafclient.struct.structure.Labelable;
+import com.leafclient.struct.structure.Signable;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the label, description and authors of a {@link Labelable}, {@link Describable} or {@link Signable}
+ * class at compile time.
+ *
+ * The {@code MetadataProcessor}, shipped in the {@code processor} artifact of this library, writes the metadata
+ * of the annotated classes of each package into a generated {@link MetadataTable}, so that {@link StructMetadata} can
+ * read them without loading nor instantiating the annotated classes. Implementations can return the same values
+ * by delegating to {@link StructMetadata}, for instance {@code StructMetadata.getLabel(getClass())}.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface Metadata {
+
+    /**
+     * @return the label, requires the class to be {@link Labelable}
+     */
+    String label() default "";
+
+    /**
+     * @return the description, requires the class to be {@link Describable}
+     */
+    String description() default "";
+
+    /**
+     * @return the authors, requires the class to be {@link Signable}
+     */
+    String[] authors() default {};
+
+}
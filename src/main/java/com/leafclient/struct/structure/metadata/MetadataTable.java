@@ -0,0 +1,43 @@
+package com.leafclient.struct.structure.metadata;
+
+/**
+ * {@link MetadataTable} holds the {@link Metadata} of the annotated classes of a package.
+ * Implementations are generated by the {@code MetadataProcessor} of the {@code processor} artifact
+ * and registered as services, they should not be written by hand.
+ *
+ * Each annotated class is a row of the table: the arrays returned by the table are indexed by row,
+ * except for the authors, which are stored one after the other.
+ */
+public interface MetadataTable {
+
+    /**
+     * @return the binary name of each annotated class
+     */
+    String[] getClassNames();
+
+    /**
+     * @return the label of each annotated class
+     */
+    String[] getLabels();
+
+    /**
+     * @return the authors of every annotated class, one after the other
+     */
+    String[] getAuthors();
+
+    /**
+     * @return the index of the first author of each annotated class in {@link MetadataTable#getAuthors()},
+     * followed by the number of authors
+     */
+    int[] getAuthorOffsets();
+
+    /**
+     * Returns the name of the resource holding the descriptions, relative to the class of the table.
+     * The resource contains the number of rows, followed by the offset of the UTF-8 bytes of each description
+     * and by the total number of bytes, as big-endian ints, then by the bytes of every description.
+     *
+     * @return Resource name
+     */
+    String getDescriptionResource();
+
+}
@@ -0,0 +1,245 @@
+package com.leafclient.struct.structure.metadata;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * {@link StructMetadata} reads the {@link Metadata} of annotated classes from the {@link MetadataTable}s
+ * generated at compile time, without loading nor instantiating the annotated classes.
+ *
+ * Tables registered as services of the class loader of this library are read on first use, tables of other
+ * class loaders can be added using {@link StructMetadata#load(ClassLoader)}.
+ * Labels and authors are kept in memory, while descriptions stay encoded in the resource of their table,
+ * which is only read the first time a description of the table is requested.
+ *
+ * Lookups are thread-safe.
+ */
+public final class StructMetadata {
+
+    private static final Object LOCK = new Object();
+    private static volatile Map<String, Row> rows;
+
+    private StructMetadata() {
+    }
+
+    /**
+     * Adds the tables registered as services of specified class loader, for instance the class loader
+     * of an add-on.
+     *
+     * @param classLoader Class loader
+     * @return Number of annotated classes added
+     */
+    public static int load(ClassLoader classLoader) {
+        synchronized(LOCK) {
+            final Map<String, Row> updated = new HashMap<>(rows());
+            final int size = updated.size();
+            for(MetadataTable table: ServiceLoader.load(MetadataTable.class, classLoader)) {
+                add(updated, table);
+            }
+            rows = updated;
+            return updated.size() - size;
+        }
+    }
+
+    /**
+     * @return the binary names of every annotated class, sorted
+     */
+    public static List<String> getClassNames() {
+        final List<String> names = new ArrayList<>(rows().keySet());
+        Collections.sort(names);
+        return names;
+    }
+
+    /**
+     * @param className Binary name of the class
+     * @return `True` if specified class is annotated with {@link Metadata}
+     */
+    public static boolean contains(String className) {
+        return rows().containsKey(className);
+    }
+
+    /**
+     * Returns the label of specified class.
+     *
+     * @param type Class
+     * @return Label or null if the class is not annotated
+     */
+    public static String getLabel(Class<?> type) {
+        return getLabel(type.getName());
+    }
+
+    /**
+     * Returns the label of specified class.
+     *
+     * @param className Binary name of the class
+     * @return Label or null if the class is not annotated
+     */
+    public static String getLabel(String className) {
+        final Row row = rows().get(className);
+        return row == null ? null : row.table.labels[row.index];
+    }
+
+    /**
+     * Returns the authors of specified class.
+     *
+     * @param type Class
+     * @return Unmodifiable list of the authors, empty if the class is not annotated
+     */
+    public static List<String> getAuthors(Class<?> type) {
+        return getAuthors(type.getName());
+    }
+
+    /**
+     * Returns the authors of specified class.
+     *
+     * @param className Binary name of the class
+     * @return Unmodifiable list of the authors, empty if the class is not annotated
+     */
+    public static List<String> getAuthors(String className) {
+        final Row row = rows().get(className);
+        if(row == null)
+            return Collections.emptyList();
+
+        final Table table = row.table;
+        final int from = table.authorOffsets[row.index];
+        final int to = table.authorOffsets[row.index + 1];
+        return Collections.unmodifiableList(Arrays.asList(table.authors).subList(from, to));
+    }
+
+    /**
+     * Returns the description of specified class.
+     *
+     * @param type Class
+     * @return Description or null if the class is not annotated
+     */
+    public static String getDescription(Class<?> type) {
+        return getDescription(type.getName());
+    }
+
+    /**
+     * Returns the description of specified class, decoded from the resource of its table.
+     * The returned string is not cached.
+     *
+     * @param className Binary name of the class
+     * @return Description or null if the class is not annotated
+     * @throws UncheckedIOException if the resource of the table cannot be read
+     */
+    public static String getDescription(String className) {
+        final Row row = rows().get(className);
+        if(row == null)
+            return null;
+
+        final Table table = row.table;
+        final int[] offsets = table.descriptionOffsets();
+        final int from = offsets[row.index];
+        return new String(table.descriptions, from, offsets[row.index + 1] - from, StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, Row> rows() {
+        Map<String, Row> current = rows;
+        if(current == null) {
+            synchronized(LOCK) {
+                current = rows;
+                if(current == null) {
+                    current = new HashMap<>();
+                    for(MetadataTable table: ServiceLoader.load(MetadataTable.class, StructMetadata.class.getClassLoader())) {
+                        add(current, table);
+                    }
+                    rows = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static void add(Map<String, Row> rows, MetadataTable source) {
+        final Table table = new Table(source);
+        final String[] classNames = source.getClassNames();
+        for(int i = 0; i < classNames.length; i++) {
+            rows.put(classNames[i], new Row(table, i));
+        }
+    }
+
+    private static final class Row {
+
+        private final Table table;
+        private final int index;
+
+        private Row(Table table, int index) {
+            this.table = table;
+            this.index = index;
+        }
+
+    }
+
+    /**
+     * Copy of the arrays of a {@link MetadataTable}, whose descriptions are read on first access.
+     */
+    private static final class Table {
+
+        private final MetadataTable source;
+        private final String[] labels;
+        private final String[] authors;
+        private final int[] authorOffsets;
+
+        private volatile int[] descriptionOffsets;
+        private byte[] descriptions;
+
+        private Table(MetadataTable source) {
+            this.source = source;
+            this.labels = source.getLabels();
+            this.authors = source.getAuthors();
+            this.authorOffsets = source.getAuthorOffsets();
+        }
+
+        /**
+         * Reads the descriptions resource if needed, the descriptions are visible once the returned offsets are.
+         *
+         * @return the offset of each description
+         */
+        private int[] descriptionOffsets() {
+            int[] offsets = descriptionOffsets;
+            if(offsets == null) {
+                synchronized(this) {
+                    offsets = descriptionOffsets;
+                    if(offsets == null) {
+                        offsets = read();
+                        descriptionOffsets = offsets;
+                    }
+                }
+            }
+            return offsets;
+        }
+
+        private int[] read() {
+            final String resource = source.getDescriptionResource();
+            try(InputStream stream = source.getClass().getResourceAsStream(resource)) {
+                if(stream == null)
+                    throw new IOException("Missing resource " + resource + " of " + source.getClass().getName());
+
+                final DataInputStream input = new DataInputStream(stream);
+                final int[] offsets = new int[input.readInt() + 1];
+                for(int i = 0; i < offsets.length; i++) {
+                    offsets[i] = input.readInt();
+                }
+                descriptions = new byte[offsets[offsets.length - 1]];
+                input.readFully(descriptions);
+                return offsets;
+            } catch(IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+
+    }
+
+}
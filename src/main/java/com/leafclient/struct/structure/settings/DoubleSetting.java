@@ -0,0 +1,152 @@
+package com.leafclient.struct.structure.settings;
+
+import com.leafclient.struct.maths.DoubleRange;
+
+/**
+ * {@link DoubleSetting} is a double {@link Setting} bounded by a {@link DoubleRange} and snapped to a step:
+ * the stored value is the minimum of the range plus a multiple of the step, or any value of the range
+ * if the step is 0.
+ * Snapping multiplies by the inverse of the step computed once, instead of dividing on each update.
+ *
+ * Reads and updates are atomic and do not lock, updates never allocate.
+ */
+public final class DoubleSetting extends Setting {
+
+    private final DoubleRange range;
+    private final double step;
+    private final double inverseStep;
+    private final double lastStep;
+    private final double defaultValue;
+
+    DoubleSetting(SettingGroup group, int index, String label, DoubleRange range, double step, double defaultValue) {
+        super(group, index, label);
+        if(!(step >= 0.0) || Double.isInfinite(step))
+            throw new IllegalArgumentException("Step must be positive or 0 (" + step + ")");
+
+        this.range = range;
+        this.step = step;
+        this.inverseStep = step == 0.0 ? 0.0 : 1.0 / step;
+        // Number of whole steps fitting in the range, tolerating the rounding error of the division
+        this.lastStep = Math.floor((range.getMaximum() - range.getMinimum()) * inverseStep + 1e-9);
+        this.defaultValue = snap(defaultValue);
+    }
+
+    /**
+     * @return the range of this {@link DoubleSetting}
+     */
+    public DoubleRange getRange() {
+        return range;
+    }
+
+    /**
+     * @return the step of this {@link DoubleSetting}, 0 if it is not snapped
+     */
+    public double getStep() {
+        return step;
+    }
+
+    /**
+     * @return the default value of this {@link DoubleSetting}
+     */
+    public double getDefaultValue() {
+        return defaultValue;
+    }
+
+    /**
+     * @return the current value of this {@link DoubleSetting}
+     */
+    public double get() {
+        return Double.longBitsToDouble(group.values.get(index));
+    }
+
+    /**
+     * Sets the value of this {@link DoubleSetting} to specified value, bounded by its range and snapped to
+     * the nearest step.
+     *
+     * @param value Value
+     * @return Stored value
+     * @throws IllegalArgumentException if the value is NaN
+     */
+    public double set(double value) {
+        final double snapped = snap(value);
+        group.values.set(index, Double.doubleToRawLongBits(snapped));
+        return snapped;
+    }
+
+    /**
+     * Sets the value of this {@link DoubleSetting} to specified value if its current value is the expected one.
+     *
+     * @param expected Expected value
+     * @param value Value, bounded by the range and snapped to the nearest step
+     * @return `True` if the value was set
+     */
+    public boolean compareAndSet(double expected, double value) {
+        return group.values.compareAndSet(index,
+                Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(snap(value)));
+    }
+
+    /**
+     * Adds specified delta to the value of this {@link DoubleSetting} atomically.
+     *
+     * @param delta Delta
+     * @return Stored value
+     */
+    public double add(double delta) {
+        long current;
+        double updated;
+        do {
+            current = group.values.get(index);
+            updated = snap(Double.longBitsToDouble(current) + delta);
+        } while(!group.values.compareAndSet(index, current, Double.doubleToRawLongBits(updated)));
+        return updated;
+    }
+
+    /**
+     * Bounds specified value by the range of this {@link DoubleSetting} and snaps it to the nearest step,
+     * without modifying the setting.
+     *
+     * @param value Value
+     * @return Snapped value
+     * @throws IllegalArgumentException if the value is NaN
+     */
+    public double snap(double value) {
+        if(value != value)
+            throw new IllegalArgumentException("Value is NaN");
+
+        final double minimum = range.getMinimum();
+        final double maximum = range.getMaximum();
+        final double bounded = range.coerce(value);
+        if(inverseStep == 0.0)
+            return bounded;
+
+        // The nearest step may exceed the maximum when the range is not a multiple of the step
+        final double snapped = minimum + Math.min(Math.rint((bounded - minimum) * inverseStep), lastStep) * step;
+        // Only the rounding error of the multiplication is left outside the range
+        return Math.max(Math.min(snapped, maximum), minimum);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void reset() {
+        group.values.set(index, Double.doubleToRawLongBits(defaultValue));
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    long defaultBits() {
+        return Double.doubleToRawLongBits(defaultValue);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public String toString() {
+        return getLabel() + "=" + get();
+    }
+
+}
@@ -0,0 +1,136 @@
+package com.leafclient.struct.structure.settings;
+
+import com.leafclient.struct.maths.IntRange;
+
+/**
+ * {@link IntSetting} is an int {@link Setting} bounded by an {@link IntRange} and snapped to a step:
+ * the stored value is always the minimum of the range plus a multiple of the step.
+ *
+ * Reads and updates are atomic and do not lock, updates never allocate.
+ */
+public final class IntSetting extends Setting {
+
+    private final IntRange range;
+    private final int step;
+    private final int defaultValue;
+
+    IntSetting(SettingGroup group, int index, String label, IntRange range, int step, int defaultValue) {
+        super(group, index, label);
+        if(step <= 0)
+            throw new IllegalArgumentException("Step must be positive (" + step + ")");
+
+        this.range = range;
+        this.step = step;
+        this.defaultValue = snap(defaultValue);
+    }
+
+    /**
+     * @return the range of this {@link IntSetting}
+     */
+    public IntRange getRange() {
+        return range;
+    }
+
+    /**
+     * @return the step of this {@link IntSetting}
+     */
+    public int getStep() {
+        return step;
+    }
+
+    /**
+     * @return the default value of this {@link IntSetting}
+     */
+    public int getDefaultValue() {
+        return defaultValue;
+    }
+
+    /**
+     * @return the current value of this {@link IntSetting}
+     */
+    public int get() {
+        return (int) group.values.get(index);
+    }
+
+    /**
+     * Sets the value of this {@link IntSetting} to specified value, bounded by its range and snapped to
+     * the nearest step.
+     *
+     * @param value Value
+     * @return Stored value
+     */
+    public int set(int value) {
+        final int snapped = snap(value);
+        group.values.set(index, snapped);
+        return snapped;
+    }
+
+    /**
+     * Sets the value of this {@link IntSetting} to specified value if its current value is the expected one.
+     *
+     * @param expected Expected value
+     * @param value Value, bounded by the range and snapped to the nearest step
+     * @return `True` if the value was set
+     */
+    public boolean compareAndSet(int expected, int value) {
+        return group.values.compareAndSet(index, expected, snap(value));
+    }
+
+    /**
+     * Adds specified delta to the value of this {@link IntSetting} atomically.
+     *
+     * @param delta Delta
+     * @return Stored value
+     */
+    public int add(int delta) {
+        int current, updated;
+        do {
+            current = get();
+            updated = snap((int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, (long) current + delta)));
+        } while(!group.values.compareAndSet(index, current, updated));
+        return updated;
+    }
+
+    /**
+     * Bounds specified value by the range of this {@link IntSetting} and snaps it to the nearest step,
+     * without modifying the setting.
+     *
+     * @param value Value
+     * @return Snapped value
+     */
+    public int snap(int value) {
+        final int minimum = range.getMinimum();
+        final long offset = (long) range.coerce(value) - minimum;
+        long snapped = (offset + (step >> 1)) / step * step;
+        // The last step may exceed the maximum when the range is not a multiple of the step
+        if(snapped > (long) range.getMaximum() - minimum) {
+            snapped -= step;
+        }
+        return (int) (minimum + snapped);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void reset() {
+        group.values.set(index, defaultValue);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    long defaultBits() {
+        return defaultValue;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public String toString() {
+        return getLabel() + "=" + get();
+    }
+
+}
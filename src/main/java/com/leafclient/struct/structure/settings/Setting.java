@@ -0,0 +1,54 @@
+package com.leafclient.struct.structure.settings;
+
+import com.leafclient.struct.structure.Labelable;
+
+/**
+ * {@link Setting} is a labeled value stored in a slot of its {@link SettingGroup}.
+ * Values are stored as primitive longs in the group, so that reading a setting is a single atomic read
+ * and the whole group can be saved and restored using {@link SettingGroup#snapshot()}.
+ */
+public abstract class Setting implements Labelable {
+
+    final SettingGroup group;
+    final int index;
+    private final String label;
+
+    Setting(SettingGroup group, int index, String label) {
+        this.group = group;
+        this.index = index;
+        this.label = label;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * @return the {@link SettingGroup} storing this {@link Setting}
+     */
+    public SettingGroup getGroup() {
+        return group;
+    }
+
+    /**
+     * @return the index of this {@link Setting} in its group and in the snapshots of its group
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets the value of this {@link Setting} to its default value.
+     */
+    public abstract void reset();
+
+    /**
+     * @return the default value of this {@link Setting} encoded as stored in its group
+     */
+    abstract long defaultBits();
+
+}
@@ -0,0 +1,163 @@
+package com.leafclient.struct.structure.settings;
+
+import com.leafclient.struct.maths.DoubleRange;
+import com.leafclient.struct.maths.IntRange;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * {@link SettingGroup} stores the values of its {@link Setting}s in a single {@link AtomicLongArray},
+ * ints being stored as longs and doubles as their raw bits.
+ * Settings can be read and updated from any thread without locking, and the values of every setting can be
+ * copied to a {@code long[]} using {@link SettingGroup#snapshot()} and set back using
+ * {@link SettingGroup#restore(long[])}.
+ *
+ * A group has a fixed capacity. Settings should be added before the group is shared between threads.
+ */
+public final class SettingGroup {
+
+    final AtomicLongArray values;
+    private final Setting[] settings;
+    private int size;
+
+    /**
+     * Creates an empty {@link SettingGroup}.
+     *
+     * @param capacity Maximum number of settings
+     */
+    public SettingGroup(int capacity) {
+        if(capacity < 0)
+            throw new IllegalArgumentException("Negative capacity (" + capacity + ")");
+
+        this.values = new AtomicLongArray(capacity);
+        this.settings = new Setting[capacity];
+    }
+
+    /**
+     * Adds an {@link IntSetting} to this group, set to its default value.
+     *
+     * @param label Label
+     * @param range Range
+     * @param step Step, 1 to allow every value of the range
+     * @param defaultValue Default value, bounded by the range and snapped to the nearest step
+     * @return Setting
+     * @throws IllegalStateException if the group is full
+     */
+    public IntSetting addInt(String label, IntRange range, int step, int defaultValue) {
+        return add(new IntSetting(this, nextIndex(), label, range, step, defaultValue));
+    }
+
+    /**
+     * Adds a {@link DoubleSetting} to this group, set to its default value.
+     *
+     * @param label Label
+     * @param range Range
+     * @param step Step, 0 to allow every value of the range
+     * @param defaultValue Default value, bounded by the range and snapped to the nearest step
+     * @return Setting
+     * @throws IllegalStateException if the group is full
+     */
+    public DoubleSetting addDouble(String label, DoubleRange range, double step, double defaultValue) {
+        return add(new DoubleSetting(this, nextIndex(), label, range, step, defaultValue));
+    }
+
+    /**
+     * @return the number of settings of this group
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the maximum number of settings of this group
+     */
+    public int capacity() {
+        return settings.length;
+    }
+
+    /**
+     * Returns the setting at specified index.
+     *
+     * @param index Index
+     * @return Setting
+     */
+    public Setting get(int index) {
+        if(index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+
+        return settings[index];
+    }
+
+    /**
+     * @return an unmodifiable list of the settings of this group, ordered by index
+     */
+    public List<Setting> getSettings() {
+        return Collections.unmodifiableList(Arrays.asList(settings).subList(0, size));
+    }
+
+    /**
+     * Sets every setting to its default value.
+     */
+    public void reset() {
+        for(int i = 0; i < size; i++) {
+            values.set(i, settings[i].defaultBits());
+        }
+    }
+
+    /**
+     * @return a copy of the values of every setting, indexed by {@link Setting#getIndex()}
+     */
+    public long[] snapshot() {
+        return snapshot(new long[size]);
+    }
+
+    /**
+     * Copies the values of every setting into specified array.
+     * Each value is read atomically, but the snapshot may contain values updated while it is taken.
+     *
+     * @param dest Destination, at least as long as the number of settings
+     * @return Destination
+     */
+    public long[] snapshot(long[] dest) {
+        if(dest.length < size)
+            throw new IndexOutOfBoundsException("Index " + (size - 1) + " out of bounds for size " + dest.length);
+
+        for(int i = 0; i < size; i++) {
+            dest[i] = values.get(i);
+        }
+        return dest;
+    }
+
+    /**
+     * Sets the value of every setting to the value of specified snapshot, taken from this group.
+     * The values are not validated again.
+     *
+     * @param snapshot Snapshot
+     * @throws IllegalArgumentException if the snapshot does not have one value per setting
+     */
+    public void restore(long[] snapshot) {
+        if(snapshot.length != size)
+            throw new IllegalArgumentException("Snapshot has " + snapshot.length + " values instead of " + size);
+
+        for(int i = 0; i < size; i++) {
+            values.set(i, snapshot[i]);
+        }
+    }
+
+    private int nextIndex() {
+        if(size == settings.length)
+            throw new IllegalStateException("Group is full (" + settings.length + " settings)");
+
+        return size;
+    }
+
+    private <S extends Setting> S add(S setting) {
+        settings[size++] = setting;
+        setting.reset();
+        return setting;
+    }
+
+}
@@ -0,0 +1,252 @@
+package com.leafclient.struct.structure.metadata.processor;
+
+import com.leafclient.struct.structure.Describable;
+import com.leafclient.struct.structure.Labelable;
+import com.leafclient.struct.structure.Signable;
+import com.leafclient.struct.structure.metadata.Metadata;
+import com.leafclient.struct.structure.metadata.MetadataTable;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * {@link MetadataProcessor} generates a {@link MetadataTable} named {@code StructMetadataTable} in each package
+ * containing classes annotated with {@link Metadata}, along with the resource holding their descriptions,
+ * and registers the tables as services.
+ *
+ * The processor is shipped in the {@code processor} artifact of this library, which also contains the library
+ * classes it needs and registers it in {@code META-INF/services}: adding this artifact to the annotation
+ * processor path of a project is enough to run it. The main artifact does not register it, so that projects
+ * only compiling against the library do not run it.
+ */
+public final class MetadataProcessor extends AbstractProcessor {
+
+    /**
+     * Simple name of the generated tables.
+     */
+    public static final String TABLE_NAME = "StructMetadataTable";
+
+    private static final String DESCRIPTION_RESOURCE = TABLE_NAME + ".descriptions";
+    private static final String SERVICE = "META-INF/services/" + MetadataTable.class.getName();
+
+    private final Set<String> tables = new TreeSet<>();
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(Metadata.class.getName());
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        final Map<String, List<TypeElement>> packages = new TreeMap<>();
+        for(Element element: round.getElementsAnnotatedWith(Metadata.class)) {
+            if(element.getKind() != ElementKind.CLASS && element.getKind() != ElementKind.ENUM) {
+                error(element, "@Metadata can only annotate classes");
+                continue;
+            }
+            final TypeElement type = (TypeElement) element;
+            if(validate(type)) {
+                final String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+                packages.computeIfAbsent(packageName, key -> new ArrayList<>()).add(type);
+            }
+        }
+
+        for(Map.Entry<String, List<TypeElement>> entry: packages.entrySet()) {
+            final String table = entry.getKey().isEmpty() ? TABLE_NAME : entry.getKey() + "." + TABLE_NAME;
+            if(!tables.add(table)) {
+                error(entry.getValue().get(0), "Metadata of package " + entry.getKey() + " was already generated");
+                continue;
+            }
+            try {
+                generate(entry.getKey(), entry.getValue());
+            } catch(IOException exception) {
+                error(entry.getValue().get(0), "Cannot generate " + table + ": " + exception.getMessage());
+            }
+        }
+
+        if(round.processingOver() && !tables.isEmpty()) {
+            try {
+                writeServices();
+            } catch(IOException exception) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot write " + SERVICE + ": " + exception.getMessage());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks that each declared metadata is supported by the interfaces of specified class.
+     *
+     * @return `True` if the class is valid
+     */
+    private boolean validate(TypeElement type) {
+        final Metadata metadata = type.getAnnotation(Metadata.class);
+        final boolean labelable = implementsInterface(type, Labelable.class);
+        final boolean describable = implementsInterface(type, Describable.class);
+        final boolean signable = implementsInterface(type, Signable.class);
+        if(!labelable && !describable && !signable) {
+            error(type, "@Metadata requires the class to implement Labelable, Describable or Signable");
+            return false;
+        }
+        if(!metadata.label().isEmpty() && !labelable) {
+            error(type, "@Metadata declares a label but the class does not implement Labelable");
+            return false;
+        }
+        if(!metadata.description().isEmpty() && !describable) {
+            error(type, "@Metadata declares a description but the class does not implement Describable");
+            return false;
+        }
+        if(metadata.authors().length > 0 && !signable) {
+            error(type, "@Metadata declares authors but the class does not implement Signable");
+            return false;
+        }
+        return true;
+    }
+
+    private boolean implementsInterface(TypeElement type, Class<?> interfaceType) {
+        final TypeElement element = processingEnv.getElementUtils().getTypeElement(interfaceType.getCanonicalName());
+        if(element == null)
+            return false;
+
+        final TypeMirror erased = processingEnv.getTypeUtils().erasure(element.asType());
+        return processingEnv.getTypeUtils().isAssignable(processingEnv.getTypeUtils().erasure(type.asType()), erased);
+    }
+
+    private void generate(String packageName, List<TypeElement> types) throws IOException {
+        final StringBuilder classNames = new StringBuilder();
+        final StringBuilder labels = new StringBuilder();
+        final StringBuilder authors = new StringBuilder();
+        final StringBuilder authorOffsets = new StringBuilder("0");
+        final ByteArrayOutputStream descriptions = new ByteArrayOutputStream();
+        final int[] descriptionOffsets = new int[types.size() + 1];
+
+        int authorCount = 0;
+        for(int i = 0; i < types.size(); i++) {
+            final TypeElement type = types.get(i);
+            final Metadata metadata = type.getAnnotation(Metadata.class);
+            final String separator = i == 0 ? "" : ", ";
+            classNames.append(separator).append(literal(processingEnv.getElementUtils().getBinaryName(type).toString()));
+            labels.append(separator).append(literal(metadata.label()));
+            for(String author: metadata.authors()) {
+                authors.append(authorCount++ == 0 ? "" : ", ").append(literal(author));
+            }
+            authorOffsets.append(", ").append(authorCount);
+            descriptions.write(metadata.description().getBytes(StandardCharsets.UTF_8));
+            descriptionOffsets[i + 1] = descriptions.size();
+        }
+
+        final String qualifiedName = packageName.isEmpty() ? TABLE_NAME : packageName + "." + TABLE_NAME;
+        final Element[] origins = types.toArray(new Element[0]);
+        try(Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, origins).openWriter()) {
+            if(!packageName.isEmpty()) {
+                writer.write("package " + packageName + ";\n\n");
+            }
+            writer.write("/**\n * Metadata of the annotated classes of this package, generated by "
+                    + MetadataProcessor.class.getName() + ".\n */\n");
+            writer.write("public final class " + TABLE_NAME + " implements " + MetadataTable.class.getName() + " {\n\n");
+            writer.write("    private static final String[] CLASS_NAMES = {" + classNames + "};\n");
+            writer.write("    private static final String[] LABELS = {" + labels + "};\n");
+            writer.write("    private static final String[] AUTHORS = {" + authors + "};\n");
+            writer.write("    private static final int[] AUTHOR_OFFSETS = {" + authorOffsets + "};\n\n");
+            writeGetter(writer, "String[]", "getClassNames", "CLASS_NAMES.clone()");
+            writeGetter(writer, "String[]", "getLabels", "LABELS.clone()");
+            writeGetter(writer, "String[]", "getAuthors", "AUTHORS.clone()");
+            writeGetter(writer, "int[]", "getAuthorOffsets", "AUTHOR_OFFSETS.clone()");
+            writeGetter(writer, "String", "getDescriptionResource", literal(DESCRIPTION_RESOURCE));
+            writer.write("}\n");
+        }
+
+        final FileObject resource = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, packageName, DESCRIPTION_RESOURCE, origins);
+        try(OutputStream stream = resource.openOutputStream()) {
+            final DataOutputStream output = new DataOutputStream(stream);
+            output.writeInt(types.size());
+            for(int offset: descriptionOffsets) {
+                output.writeInt(offset);
+            }
+            descriptions.writeTo(output);
+            output.flush();
+        }
+    }
+
+    private void writeServices() throws IOException {
+        final FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE);
+        try(Writer writer = resource.openWriter()) {
+            for(String table: tables) {
+                writer.write(table);
+                writer.write('\n');
+            }
+        }
+    }
+
+    private static void writeGetter(Writer writer, String type, String name, String value) throws IOException {
+        writer.write("    @Override\n");
+        writer.write("    public " + type + " " + name + "() {\n");
+        writer.write("        return " + value + ";\n");
+        writer.write("    }\n\n");
+    }
+
+    /**
+     * @return specified string as a Java literal, escaping every non-ASCII character
+     */
+    private static String literal(String value) {
+        final StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+        for(int i = 0; i < value.length(); i++) {
+            final char character = value.charAt(i);
+            switch(character) {
+                case '"': builder.append("\\\""); break;
+                case '\\': builder.append("\\\\"); break;
+                case '\n': builder.append("\\n"); break;
+                case '\r': builder.append("\\r"); break;
+                case '\t': builder.append("\\t"); break;
+                default:
+                    if(character < 0x20 || character > 0x7E) {
+                        builder.append(String.format("\\u%04x", (int) character));
+                    } else {
+                        builder.append(character);
+                    }
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+}